@@ -0,0 +1,168 @@
+package benchmarkPackage;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * A small JMH-style micro-benchmark harness.
+ *
+ * <p>Each benchmark is run as a number of warmup iterations followed by measured iterations.
+ * Every iteration repeats {@code setUp()} (untimed) and {@code run()} (timed) until it has
+ * accumulated {@link #MIN_ITERATION_NANOS} of measured time, or {@link #MAX_ITERATION_NANOS} of
+ * wall-clock time when set-up dominates. For the timed part only it records:
+ * <ul>
+ *   <li><b>ops/s</b> and <b>ns/op</b>, with the standard deviation across iterations,</li>
+ *   <li><b>B/op</b> - bytes allocated by the benchmark thread per operation, read from
+ *   {@code com.sun.management.ThreadMXBean} (the same source as JMH's {@code -prof gc}),</li>
+ *   <li><b>gc</b> - collections and collector time observed during the measured iterations,
+ *   set-up included.</li>
+ * </ul>
+ *
+ * <p>Results are sunk into a volatile field so the JIT cannot drop the measured work, and
+ * {@code System.out} is replaced by a discarding stream while a benchmark runs, since some of
+ * the measured code prints.
+ */
+public final class BenchmarkRunner {
+
+    /** One benchmark: {@code run()} performs {@code operationsPerRun} operations on state built by {@code setUp()}. */
+    public interface Benchmark {
+        void setUp() throws Exception;
+
+        Object run() throws Exception;
+    }
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final long MIN_ITERATION_NANOS = 100_000_000L;
+    private static final long MAX_ITERATION_NANOS = 1_000_000_000L;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final PrintStream DISCARD = new PrintStream(OutputStream.nullOutputStream());
+
+    /** Keeps benchmark results reachable so their computation cannot be eliminated */
+    public static volatile Object sink;
+
+    private final String filter;
+    private boolean headerPrinted;
+
+    /**
+     * @param filter only benchmarks whose name contains this text are run; null runs all
+     */
+    public BenchmarkRunner(String filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Runs and reports one benchmark.
+     *
+     * @param name             benchmark name, e.g. {@code "Singly.insertAtIndex"}
+     * @param params           parameter description, e.g. {@code "size=1000 access=RANDOM"}
+     * @param operationsPerRun number of operations one {@code run()} call performs
+     */
+    public void run(String name, String params, int operationsPerRun, Benchmark benchmark) throws Exception {
+        if (filter != null && !name.contains(filter)) {
+            return;
+        }
+
+        PrintStream out = System.out;
+        double[] nanosPerOp = new double[MEASUREMENT_ITERATIONS];
+        long allocatedBytes = 0;
+        long measuredOps = 0;
+        long gcCountBefore = 0;
+        long gcTimeBefore = 0;
+
+        System.setOut(DISCARD);
+        try {
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                iteration(benchmark, operationsPerRun, null);
+            }
+
+            gcCountBefore = gcCount();
+            gcTimeBefore = gcTime();
+
+            for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+                long[] totals = new long[3];
+                iteration(benchmark, operationsPerRun, totals);
+                nanosPerOp[i] = (double) totals[0] / totals[2];
+                allocatedBytes += totals[1];
+                measuredOps += totals[2];
+            }
+        } finally {
+            System.setOut(out);
+        }
+
+        long gcCount = gcCount() - gcCountBefore;
+        long gcTime = gcTime() - gcTimeBefore;
+
+        double mean = 0;
+        for (double value : nanosPerOp) {
+            mean += value;
+        }
+        mean /= nanosPerOp.length;
+
+        double variance = 0;
+        for (double value : nanosPerOp) {
+            variance += (value - mean) * (value - mean);
+        }
+        double stdDev = Math.sqrt(variance / nanosPerOp.length);
+
+        if (!headerPrinted) {
+            System.out.printf("%-42s %-30s %14s %12s %10s %10s %8s %9s%n",
+                    "Benchmark", "Params", "ops/s", "ns/op", "error", "B/op", "gc.count", "gc.time");
+            headerPrinted = true;
+        }
+
+        System.out.printf("%-42s %-30s %,14.0f %,12.1f %10.1f %,10.1f %8d %7dms%n",
+                name, params, 1e9 / mean, mean, stdDev, (double) allocatedBytes / measuredOps, gcCount, gcTime);
+    }
+
+    /** Runs setUp/run pairs until enough time is measured; totals = {nanos, bytes, ops} */
+    private static void iteration(Benchmark benchmark, int operationsPerRun, long[] totals) throws Exception {
+        long nanos = 0;
+        long bytes = 0;
+        long ops = 0;
+        long deadline = System.nanoTime() + MAX_ITERATION_NANOS;
+
+        while (nanos < MIN_ITERATION_NANOS && (ops == 0 || System.nanoTime() < deadline)) {
+            benchmark.setUp();
+
+            long bytesBefore = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            sink = benchmark.run();
+            long end = System.nanoTime();
+            long bytesAfter = THREADS.getCurrentThreadAllocatedBytes();
+
+            nanos += end - start;
+            bytes += bytesAfter - bytesBefore;
+            ops += operationsPerRun;
+        }
+
+        if (totals != null) {
+            totals[0] = nanos;
+            totals[1] = bytes;
+            totals[2] = ops;
+        }
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        for (GarbageCollectorMXBean collector : collectors) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        return time;
+    }
+}
@@ -0,0 +1,185 @@
+package benchmarkPackage;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import linkedListCachePackage.BoundedCache;
+import linkedListCachePackage.CacheStats;
+import linkedListUtilityPackage.IntTokenParser;
+
+/**
+ * Replays access traces against {@link BoundedCache} with each eviction policy and reports hit
+ * rate, evictions and throughput.
+ *
+ * <p>Every request is a {@code get(key, loader)}, so a miss loads the key and inserts it, as a
+ * read-through cache would. Three synthetic traces are built in, over {@value #KEYS} keys:
+ * <ul>
+ *   <li><b>zipf</b> - skewed popularity (exponent {@value #ZIPF_EXPONENT}), the common case,</li>
+ *   <li><b>zipf+scan</b> - the same, interrupted by long sequential scans of keys never seen again,
+ *       which flush a plain LRU,</li>
+ *   <li><b>loop</b> - keys requested over and over in the same order; once the cycle is longer
+ *       than the cache, LRU misses every time.</li>
+ * </ul>
+ * Trace files (whitespace separated {@code int} keys, e.g. a converted production trace) can be
+ * given as extra arguments. Each trace is replayed at capacities of 1%, 10% and 90% of its
+ * distinct keys, by {@code threads} threads that each replay a contiguous share of it (interleaving would
+ * give every thread a different, easier trace).
+ *
+ * <p>Usage: {@code java benchmarkPackage.CacheTraceBenchmark [threads] [trace-file...]}
+ */
+public class CacheTraceBenchmark {
+
+    private static final int KEYS = 100_000;
+    private static final int REQUESTS = 2_000_000;
+    private static final double ZIPF_EXPONENT = 0.99;
+    private static final int ROUNDS = 3;
+
+    private static final Map<String, IntFunction<BoundedCache<Integer, Integer>>> POLICIES = new LinkedHashMap<>();
+
+    static {
+        POLICIES.put("LRU", BoundedCache::lru);
+        POLICIES.put("LFU", BoundedCache::lfu);
+        POLICIES.put("W-TinyLFU", BoundedCache::windowTinyLfu);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+
+        Map<String, int[]> traces = new LinkedHashMap<>();
+        traces.put("zipf", zipf(new Random(42), REQUESTS));
+        traces.put("zipf+scan", zipfWithScans(new Random(42)));
+        traces.put("loop", loop());
+        for (int i = 1; i < args.length; i++) {
+            traces.put(Path.of(args[i]).getFileName().toString(), read(Path.of(args[i])));
+        }
+
+        System.out.printf("%-16s %9s %-10s %8s %12s %10s %14s%n",
+                "Trace", "capacity", "Policy", "hit %", "evictions", "dropped", "ops/s");
+
+        for (Map.Entry<String, int[]> trace : traces.entrySet()) {
+            int[] keys = trace.getValue();
+            Integer[] boxed = box(keys);
+            int distinct = (int) Arrays.stream(keys).distinct().count();
+
+            for (int percent : new int[] {1, 10, 90}) {
+                int capacity = Math.max(1, distinct * percent / 100);
+                for (Map.Entry<String, IntFunction<BoundedCache<Integer, Integer>>> policy : POLICIES.entrySet()) {
+                    replay(trace.getKey(), policy.getKey(), policy.getValue(), capacity, boxed, threads);
+                }
+            }
+        }
+    }
+
+    /** Replays the trace {@value #ROUNDS} times on fresh caches; reports the last round's stats and the best speed */
+    private static void replay(String traceName, String policyName, IntFunction<BoundedCache<Integer, Integer>> factory,
+            int capacity, Integer[] trace, int threads) throws InterruptedException {
+        CacheStats stats = null;
+        long best = Long.MAX_VALUE;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            BoundedCache<Integer, Integer> cache = factory.apply(capacity);
+            Thread[] workers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                int from = (int) ((long) trace.length * t / threads);
+                int to = (int) ((long) trace.length * (t + 1) / threads);
+                workers[t] = new Thread(() -> {
+                    long checksum = 0;
+                    for (int i = from; i < to; i++) {
+                        checksum += cache.get(trace[i], key -> key);
+                    }
+                    BenchmarkRunner.sink = checksum;
+                });
+            }
+
+            long start = System.nanoTime();
+            for (Thread worker : workers) {
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            stats = cache.stats();
+        }
+
+        System.out.printf("%-16s %,9d %-10s %8.2f %,12d %,10d %,14.0f%n", traceName, capacity, policyName,
+                100 * stats.getHitRate(), stats.getEvictionCount(), stats.getDroppedReadCount(),
+                trace.length * 1e9 / best);
+    }
+
+    // ----------------------------------------
+    // 💠 TRACES
+    // ----------------------------------------
+
+    /** Keys drawn from a Zipf distribution over {@code [0, KEYS)}, key 0 being the most popular */
+    private static int[] zipf(Random random, int requests) {
+        double[] cumulative = new double[KEYS];
+        double sum = 0;
+        for (int k = 0; k < KEYS; k++) {
+            sum += 1 / Math.pow(k + 1, ZIPF_EXPONENT);
+            cumulative[k] = sum;
+        }
+
+        int[] trace = new int[requests];
+        for (int i = 0; i < requests; i++) {
+            int k = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            trace[i] = Math.min(KEYS - 1, k < 0 ? -k - 1 : k);
+        }
+        return trace;
+    }
+
+    /** A Zipf trace where every 8th block of 100k requests is replaced by a scan of fresh keys */
+    private static int[] zipfWithScans(Random random) {
+        int[] trace = zipf(random, REQUESTS);
+        int block = 100_000;
+        int fresh = KEYS;
+        for (int from = 7 * block; from + block <= trace.length; from += 8 * block) {
+            for (int i = from; i < from + block; i++) {
+                trace[i] = fresh++;
+            }
+        }
+        return trace;
+    }
+
+    /** Keys {@code 0 .. KEYS/50} requested over and over in the same order */
+    private static int[] loop() {
+        int period = KEYS / 50;
+        int[] trace = new int[REQUESTS];
+        for (int i = 0; i < trace.length; i++) {
+            trace[i] = i % period;
+        }
+        return trace;
+    }
+
+    private static int[] read(Path file) throws IOException {
+        int[][] keys = {new int[1 << 16]};
+        int[] size = {0};
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            IntTokenParser.parse(channel, key -> {
+                if (size[0] == keys[0].length) {
+                    keys[0] = Arrays.copyOf(keys[0], size[0] << 1);
+                }
+                keys[0][size[0]++] = key;
+            });
+        }
+        return Arrays.copyOf(keys[0], size[0]);
+    }
+
+    /** One shared {@code Integer} per distinct key, so replaying allocates nothing on its own */
+    private static Integer[] box(int[] keys) {
+        Map<Integer, Integer> canonical = new HashMap<>();
+        Integer[] boxed = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            boxed[i] = canonical.computeIfAbsent(keys[i], key -> key);
+        }
+        return boxed;
+    }
+}
@@ -0,0 +1,702 @@
+package benchmarkPackage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.Stack;
+
+import doublyLinkedListPackage.DoublyLinkedListInsertAndDelete;
+import doublyLinkedListPackage.DoublyLinkedListLengthAndElements;
+import linkedListUtilityPackage.DoublyLinkedList;
+import linkedListUtilityPackage.DoublyLinkedListNode;
+import linkedListUtilityPackage.LinkedListHelper;
+import linkedListUtilityPackage.NodePool;
+import linkedListUtilityPackage.SinglyLinkedList;
+import recursionAndBacktrackingPackage.KAryGrayCodeCursor;
+import recursionAndBacktrackingPackage.KAryStringConstraints;
+import recursionAndBacktrackingPackage.KAryStringWriter;
+import recursionAndBacktrackingPackage.K_AryStringsByRecursion;
+import recursionAndBacktrackingPackage.ParallelKAryStrings;
+import recursionAndBacktrackingPackage.TowerOfHanoi;
+import singlyLinkedListPackage.DeleteFromSinglyLinkedList;
+import singlyLinkedListPackage.InsertIntoSinglyLinkedList;
+import singlyLinkedListPackage.SinglyLinkedListLength;
+
+/**
+ * Benchmarks for every operation exposed by the linked list menu programs and the
+ * recursion examples.
+ *
+ * <p>List benchmarks run for each list size in {@link #SIZES} and, where an index is involved,
+ * for each {@link Access} pattern. A list holding the distinct values {@code 0..size-1} is built
+ * in the untimed set-up, and one timed run performs {@value #OPS} operations against it.
+ *
+ * <p>Usage: {@code java benchmarkPackage.LinkedListAndRecursionBenchmarks [nameFilter]}, e.g.
+ * {@code Doubly.delete} to run only the doubly linked list deletions.
+ */
+public class LinkedListAndRecursionBenchmarks {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int OPS = 256;
+
+    /** Where in the list each operation lands */
+    enum Access {
+        HEAD, MIDDLE, TAIL, RANDOM;
+
+        /** An index in [0, bound] */
+        int index(int bound, SplittableRandom random) {
+            switch (this) {
+                case HEAD:
+                    return 0;
+                case MIDDLE:
+                    return bound / 2;
+                case TAIL:
+                    return bound;
+                default:
+                    return random.nextInt(bound + 1);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner runner = new BenchmarkRunner(args.length > 0 ? args[0] : null);
+
+        for (int size : SIZES) {
+            singlyLinkedListBenchmarks(runner, size);
+            doublyLinkedListBenchmarks(runner, size);
+        }
+
+        recursionBenchmarks(runner);
+    }
+
+    // ----------------------------------------
+    // 💠 SINGLY LINKED LIST
+    // ----------------------------------------
+
+    private static void singlyLinkedListBenchmarks(BenchmarkRunner runner, int size) throws Exception {
+        for (Access access : Access.values()) {
+            String params = "size=" + size + " access=" + access;
+
+            runner.run("Singly.insertAtIndex", params, OPS, new SinglyBenchmark(size) {
+                int[] indices;
+
+                @Override
+                public void setUp() {
+                    super.setUp();
+                    indices = insertIndices(size, access);
+                }
+
+                @Override
+                public Object run() throws Exception {
+                    for (int i = 0; i < OPS; i++) {
+                        InsertIntoSinglyLinkedList.insertIntoSinglyLinkedList(list, indices[i], i, false);
+                    }
+                    return list;
+                }
+            });
+
+            runner.run("Singly.deleteFromIndex", params, OPS, new SinglyBenchmark(size) {
+                int[] indices;
+
+                @Override
+                public void setUp() {
+                    super.setUp();
+                    indices = deleteIndices(size, access);
+                }
+
+                @Override
+                public Object run() throws Exception {
+                    for (int i = 0; i < OPS; i++) {
+                        DeleteFromSinglyLinkedList.deleteFromIndex(list, indices[i]);
+                    }
+                    return list;
+                }
+            });
+        }
+
+        String params = "size=" + size;
+
+        runner.run("Singly.insertLast", params, OPS, new SinglyBenchmark(size) {
+            @Override
+            public Object run() throws Exception {
+                for (int i = 0; i < OPS; i++) {
+                    InsertIntoSinglyLinkedList.insertIntoSinglyLinkedList(list, 0, i, true);
+                }
+                return list;
+            }
+        });
+
+        runner.run("Singly.deleteFromBeginning", params, OPS, new SinglyBenchmark(size) {
+            @Override
+            public Object run() {
+                for (int i = 0; i < OPS; i++) {
+                    DeleteFromSinglyLinkedList.deleteFromBeginning(list);
+                }
+                return list;
+            }
+        });
+
+        runner.run("Singly.deleteFromEnd", params, OPS, new SinglyBenchmark(size) {
+            @Override
+            public Object run() {
+                for (int i = 0; i < OPS; i++) {
+                    DeleteFromSinglyLinkedList.deleteFromEnd(list);
+                }
+                return list;
+            }
+        });
+
+        runner.run("Singly.length", params, OPS, new SinglyBenchmark(size) {
+            @Override
+            public Object run() {
+                int total = 0;
+                for (int i = 0; i < OPS; i++) {
+                    total += SinglyLinkedListLength.lengthOfSinglyLinkedList(list);
+                }
+                return total;
+            }
+        });
+    }
+
+    // ----------------------------------------
+    // 💠 DOUBLY LINKED LIST
+    // ----------------------------------------
+
+    private static void doublyLinkedListBenchmarks(BenchmarkRunner runner, int size) throws Exception {
+        for (Access access : Access.values()) {
+            String params = "size=" + size + " access=" + access;
+
+            runner.run("Doubly.insertAtIndex", params, OPS, new DoublyBenchmark(size) {
+                int[] indices;
+
+                @Override
+                public void setUp() {
+                    super.setUp();
+                    indices = insertIndices(size, access);
+                }
+
+                @Override
+                public Object run() throws Exception {
+                    for (int i = 0; i < OPS; i++) {
+                        DoublyLinkedListInsertAndDelete.insertAtIndex(list, indices[i], i);
+                    }
+                    return list;
+                }
+            });
+
+            runner.run("Doubly.deleteAtIndex", params, OPS, new DoublyBenchmark(size) {
+                int[] indices;
+
+                @Override
+                public void setUp() {
+                    super.setUp();
+                    indices = deleteIndices(size, access);
+                }
+
+                @Override
+                public Object run() throws Exception {
+                    for (int i = 0; i < OPS; i++) {
+                        DoublyLinkedListInsertAndDelete.deleteAtIndex(list, indices[i]);
+                    }
+                    return list;
+                }
+            });
+
+            // Values are 0..size-1, so a value doubles as the position it is found at
+            runner.run("Doubly.deleteFirstInstance", params, OPS, new DoublyBenchmark(size) {
+                int[] values;
+
+                @Override
+                public void setUp() {
+                    super.setUp();
+                    values = distinctValues(size, access);
+                }
+
+                @Override
+                public Object run() throws Exception {
+                    for (int i = 0; i < OPS; i++) {
+                        DoublyLinkedListInsertAndDelete.deleteFirstInstance(list, values[i]);
+                    }
+                    return list;
+                }
+            });
+
+            runner.run("Doubly.getFirstOccurenceIndex", params, OPS, new DoublyBenchmark(size) {
+                int[] values;
+
+                @Override
+                public void setUp() {
+                    super.setUp();
+                    values = lookupIndices(size, access);
+                }
+
+                @Override
+                public Object run() {
+                    long total = 0;
+                    for (int i = 0; i < OPS; i++) {
+                        total += DoublyLinkedListLengthAndElements.getFirstOccurenceIndex(list, values[i]);
+                    }
+                    return total;
+                }
+            });
+
+            runner.run("Doubly.getElementAtIndex", params, OPS, new DoublyBenchmark(size) {
+                int[] indices;
+
+                @Override
+                public void setUp() {
+                    super.setUp();
+                    indices = lookupIndices(size, access);
+                }
+
+                @Override
+                public Object run() throws Exception {
+                    long total = 0;
+                    for (int i = 0; i < OPS; i++) {
+                        total += DoublyLinkedListLengthAndElements.getElementAtIndex(list, indices[i]);
+                    }
+                    return total;
+                }
+            });
+        }
+
+        String params = "size=" + size;
+
+        runner.run("Doubly.insertAtHead", params, OPS, new DoublyBenchmark(size) {
+            @Override
+            public Object run() {
+                for (int i = 0; i < OPS; i++) {
+                    DoublyLinkedListInsertAndDelete.insertAtHead(list, i);
+                }
+                return list;
+            }
+        });
+
+        runner.run("Doubly.insertAtTail", params, OPS, new DoublyBenchmark(size) {
+            @Override
+            public Object run() {
+                for (int i = 0; i < OPS; i++) {
+                    DoublyLinkedListInsertAndDelete.insertAtTail(list, i);
+                }
+                return list;
+            }
+        });
+
+        runner.run("Doubly.deleteAtHead", params, OPS, new DoublyBenchmark(size) {
+            @Override
+            public Object run() {
+                for (int i = 0; i < OPS; i++) {
+                    DoublyLinkedListInsertAndDelete.deleteAtHead(list);
+                }
+                return list;
+            }
+        });
+
+        runner.run("Doubly.deleteAtTail", params, OPS, new DoublyBenchmark(size) {
+            @Override
+            public Object run() throws Exception {
+                for (int i = 0; i < OPS; i++) {
+                    DoublyLinkedListInsertAndDelete.deleteAtTail(list);
+                }
+                return list;
+            }
+        });
+
+        runner.run("Doubly.getLength", params, OPS, new DoublyBenchmark(size) {
+            @Override
+            public Object run() {
+                int total = 0;
+                for (int i = 0; i < OPS; i++) {
+                    total += DoublyLinkedListLengthAndElements.getLength(list);
+                }
+                return total;
+            }
+        });
+
+        // Insert/delete churn with and without recycling nodes; compare the B/op column
+        for (boolean pooled : new boolean[] {false, true}) {
+            NodePool<DoublyLinkedListNode<Integer>> pool = pooled ? NodePool.forDoublyLinkedListNodes() : null;
+
+            runner.run("Doubly.churn", params + " pool=" + (pooled ? "on" : "off"), OPS, new DoublyBenchmark(size) {
+                @Override
+                public void setUp() {
+                    list = new DoublyLinkedList<>(pool);
+                    for (int i = 0; i < size; i++) {
+                        list.insertAtTail(i);
+                    }
+                }
+
+                @Override
+                public Object run() {
+                    for (int i = 0; i < OPS; i++) {
+                        DoublyLinkedListInsertAndDelete.insertAtTail(list, i);
+                        DoublyLinkedListInsertAndDelete.deleteAtHead(list);
+                    }
+                    return list;
+                }
+            });
+        }
+    }
+
+    // ----------------------------------------
+    // 💠 RECURSION AND BACKTRACKING
+    // ----------------------------------------
+
+    private static void recursionBenchmarks(BenchmarkRunner runner) throws Exception {
+        kAryStrings(runner, 16, new char[] {'0', '1'});
+        kAryStrings(runner, 8, new char[] {'a', 'b', 'c', 'd'});
+
+        for (int disks : new int[] {10, 16}) {
+            int moves = (1 << disks) - 1;
+
+            // Moves are printed; the runner discards System.out while measuring
+            runner.run("TowerOfHanoi.text", "disks=" + disks, moves, new BenchmarkRunner.Benchmark() {
+                @Override
+                public void setUp() {
+                }
+
+                @Override
+                public Object run() {
+                    TowerOfHanoi.towerOfHanoi(disks, "Source Peg", "Target Peg", "Aux Peg");
+                    return null;
+                }
+            });
+
+            runner.run("TowerOfHanoi.pegs", "disks=" + disks, moves, new BenchmarkRunner.Benchmark() {
+                List<Stack<Integer>> pegStatus;
+
+                @Override
+                public void setUp() {
+                    pegStatus = new ArrayList<>();
+                    Stack<Integer> source = new Stack<>();
+                    for (int disk = disks; disk >= 1; disk--) {
+                        source.push(disk);
+                    }
+                    pegStatus.add(source);
+                    pegStatus.add(new Stack<>());
+                    pegStatus.add(new Stack<>());
+                }
+
+                @Override
+                public Object run() {
+                    TowerOfHanoi.towerOfHanoi(disks, 0, 2, 1, pegStatus);
+                    return pegStatus;
+                }
+            });
+
+            runner.run("TowerOfHanoi.iterative", "disks=" + disks, moves, new BenchmarkRunner.Benchmark() {
+                @Override
+                public void setUp() {
+                }
+
+                @Override
+                public Object run() {
+                    long[] checksum = new long[1];
+                    TowerOfHanoi.forEachMove(disks, 0, 2, 1, (move, disk, fromPeg, toPeg) -> {
+                        checksum[0] += disk ^ fromPeg ^ toPeg;
+                    });
+                    return checksum[0];
+                }
+            });
+        }
+    }
+
+    /** One op is one generated string */
+    private static void kAryStrings(BenchmarkRunner runner, int length, char[] allowedChars) throws Exception {
+        int count = (int) Math.pow(allowedChars.length, length);
+
+        runner.run("K_AryStrings.generateAllStrings", "K=" + allowedChars.length + " N=" + length, count,
+                new BenchmarkRunner.Benchmark() {
+                    @Override
+                    public void setUp() {
+                    }
+
+                    @Override
+                    public Object run() {
+                        return new K_AryStringsByRecursion(length, allowedChars).generateAllStrings();
+                    }
+                });
+        runner.run("K_AryStrings.forEachString", "K=" + allowedChars.length + " N=" + length, count,
+                new BenchmarkRunner.Benchmark() {
+                    @Override
+                    public void setUp() {
+                    }
+
+                    @Override
+                    public Object run() {
+                        long[] checksum = new long[1];
+                        new K_AryStringsByRecursion(length, allowedChars).forEachString(string -> {
+                            checksum[0] += string.charAt(0);
+                            return true;
+                        });
+                        return checksum[0];
+                    }
+                });
+
+        runner.run("K_AryStrings.iterator", "K=" + allowedChars.length + " N=" + length, count,
+                new BenchmarkRunner.Benchmark() {
+                    @Override
+                    public void setUp() {
+                    }
+
+                    @Override
+                    public Object run() {
+                        long checksum = 0;
+                        Iterator<String> strings = new K_AryStringsByRecursion(length, allowedChars).iterator();
+                        while (strings.hasNext()) {
+                            checksum += strings.next().charAt(0);
+                        }
+                        return checksum;
+                    }
+                });
+
+        runner.run("K_AryStrings.parallelPerWorker", "K=" + allowedChars.length + " N=" + length, count,
+                new BenchmarkRunner.Benchmark() {
+                    @Override
+                    public void setUp() {
+                    }
+
+                    @Override
+                    public Object run() {
+                        return new ParallelKAryStrings(length, allowedChars).forEachPerWorker(CharChecksum::new);
+                    }
+                });
+
+        runner.run("K_AryStrings.parallelOrdered", "K=" + allowedChars.length + " N=" + length, count,
+                new BenchmarkRunner.Benchmark() {
+                    @Override
+                    public void setUp() {
+                    }
+
+                    @Override
+                    public Object run() {
+                        CharChecksum checksum = new CharChecksum();
+                        new ParallelKAryStrings(length, allowedChars).forEachOrdered(checksum);
+                        return checksum;
+                    }
+                });
+
+        // Same rules both ways: no repeated neighbour, and no "ABA" (first, second, first character)
+        String forbidden = allowedChars.length < 2 ? "" + allowedChars[0]
+                : new String(new char[] { allowedChars[0], allowedChars[1], allowedChars[0] });
+
+        runner.run("K_AryStrings.filterAfterEnumeration", "K=" + allowedChars.length + " N=" + length, count,
+                new BenchmarkRunner.Benchmark() {
+                    @Override
+                    public void setUp() {
+                    }
+
+                    @Override
+                    public Object run() {
+                        CharChecksum checksum = new CharChecksum();
+                        new K_AryStringsByRecursion(length, allowedChars).forEachString(string -> {
+                            for (int i = 1; i < string.length(); i++) {
+                                if (string.charAt(i) == string.charAt(i - 1)) {
+                                    return true;
+                                }
+                            }
+                            return string.toString().contains(forbidden) || checksum.visit(string);
+                        });
+                        return checksum;
+                    }
+                });
+
+        runner.run("K_AryStrings.forEachMatching", "K=" + allowedChars.length + " N=" + length, count,
+                new BenchmarkRunner.Benchmark() {
+                    @Override
+                    public void setUp() {
+                    }
+
+                    @Override
+                    public Object run() {
+                        CharChecksum checksum = new CharChecksum();
+                        new K_AryStringsByRecursion(length, allowedChars).forEachMatching(KAryStringConstraints.allOf(
+                                KAryStringConstraints.noAdjacentEqual(),
+                                KAryStringConstraints.forbiddenSubstrings(forbidden)), checksum);
+                        return checksum;
+                    }
+                });
+
+        // State over the whole string (here the sum of its characters): recomputed per string,
+        // versus updated from the one change per Gray code step
+        runner.run("K_AryStrings.recomputeSum", "K=" + allowedChars.length + " N=" + length, count,
+                new BenchmarkRunner.Benchmark() {
+                    @Override
+                    public void setUp() {
+                    }
+
+                    @Override
+                    public Object run() {
+                        long[] checksum = new long[1];
+                        new K_AryStringsByRecursion(length, allowedChars).forEachString(string -> {
+                            long sum = 0;
+                            for (int i = 0; i < string.length(); i++) {
+                                sum += string.charAt(i);
+                            }
+                            checksum[0] += sum;
+                            return true;
+                        });
+                        return checksum[0];
+                    }
+                });
+
+        runner.run("K_AryStrings.grayCodeIncrementalSum", "K=" + allowedChars.length + " N=" + length, count,
+                new BenchmarkRunner.Benchmark() {
+                    @Override
+                    public void setUp() {
+                    }
+
+                    @Override
+                    public Object run() {
+                        KAryGrayCodeCursor cursor = new KAryGrayCodeCursor(length, allowedChars);
+                        long[] sum = new long[1];
+                        for (int i = 0; i < length; i++) {
+                            sum[0] += cursor.charAt(i);
+                        }
+                        long[] checksum = { sum[0] };
+                        cursor.forEachStep((position, oldChar, newChar, string) -> {
+                            sum[0] += newChar - oldChar;
+                            checksum[0] += sum[0];
+                            return true;
+                        });
+                        return checksum[0];
+                    }
+                });
+
+        Path output = Files.createTempFile("kary", ".txt");
+        output.toFile().deleteOnExit();
+
+        runner.run("K_AryStrings.writeToFile", "K=" + allowedChars.length + " N=" + length, count,
+                new BenchmarkRunner.Benchmark() {
+                    @Override
+                    public void setUp() {
+                    }
+
+                    @Override
+                    public Object run() throws Exception {
+                        try (KAryStringWriter out = KAryStringWriter.toFile(output, length,
+                                KAryStringWriter.Format.LINES)) {
+                            new K_AryStringsByRecursion(length, allowedChars).forEachString(out);
+                            return out.bytesWritten();
+                        }
+                    }
+                });
+    }
+
+    /** Sums the first character of every string it visits, so the strings cannot be optimized away */
+    private static final class CharChecksum implements K_AryStringsByRecursion.Visitor {
+        long sum;
+
+        @Override
+        public boolean visit(CharSequence string) {
+            sum += string.charAt(0);
+            return true;
+        }
+    }
+
+    // ----------------------------------------
+    // 💠 STATE
+    // ----------------------------------------
+
+    private abstract static class SinglyBenchmark implements BenchmarkRunner.Benchmark {
+        final int size;
+        SinglyLinkedList<Integer> list;
+
+        SinglyBenchmark(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public void setUp() {
+            list = LinkedListHelper.createIntegerSinglyLinkedList(ascending(size));
+        }
+    }
+
+    private abstract static class DoublyBenchmark implements BenchmarkRunner.Benchmark {
+        final int size;
+        DoublyLinkedList<Integer> list;
+
+        DoublyBenchmark(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public void setUp() {
+            list = LinkedListHelper.createIntegerDoublyLinkedList(ascending(size));
+        }
+    }
+
+    private static int[] ascending(int size) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+
+    /** Index for the i-th insertion, while the list grows from {@code size} */
+    private static int[] insertIndices(int size, Access access) {
+        SplittableRandom random = new SplittableRandom(size);
+        int[] indices = new int[OPS];
+        for (int i = 0; i < OPS; i++) {
+            indices[i] = access.index(size + i, random);
+        }
+        return indices;
+    }
+
+    /** Index for the i-th deletion, while the list shrinks from {@code size} */
+    private static int[] deleteIndices(int size, Access access) {
+        SplittableRandom random = new SplittableRandom(size);
+        int[] indices = new int[OPS];
+        for (int i = 0; i < OPS; i++) {
+            indices[i] = access.index(size - i - 1, random);
+        }
+        return indices;
+    }
+
+    /** Positions to read from a list that keeps its {@code size} */
+    private static int[] lookupIndices(int size, Access access) {
+        SplittableRandom random = new SplittableRandom(size);
+        int[] indices = new int[OPS];
+        for (int i = 0; i < OPS; i++) {
+            indices[i] = access.index(size - 1, random);
+        }
+        return indices;
+    }
+
+    /** {@value #OPS} different values of {@code 0..size-1}, placed according to {@code access} */
+    private static int[] distinctValues(int size, Access access) {
+        int[] values = new int[OPS];
+        int start;
+        switch (access) {
+            case HEAD:
+                start = 0;
+                break;
+            case MIDDLE:
+                start = (size - OPS) / 2;
+                break;
+            case TAIL:
+                start = size - OPS;
+                break;
+            default:
+                // Partial Fisher-Yates: the first OPS slots become a random sample
+                int[] all = ascending(size);
+                SplittableRandom random = new SplittableRandom(size);
+                for (int i = 0; i < OPS; i++) {
+                    int j = i + random.nextInt(size - i);
+                    int tmp = all[i];
+                    all[i] = all[j];
+                    all[j] = tmp;
+                }
+                System.arraycopy(all, 0, values, 0, OPS);
+                return values;
+        }
+
+        for (int i = 0; i < OPS; i++) {
+            values[i] = start + i;
+        }
+        return values;
+    }
+}
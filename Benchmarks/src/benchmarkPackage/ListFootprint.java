@@ -0,0 +1,86 @@
+package benchmarkPackage;
+
+import java.util.function.Supplier;
+
+import linkedListUtilityPackage.CompactDoublyLinkedList;
+import linkedListUtilityPackage.DoublyLinkedList;
+import linkedListUtilityPackage.IntDoublyLinkedList;
+
+/**
+ * Retained heap per element of the doubly linked list layouts.
+ *
+ * <p>Each list is filled with the same preallocated {@code Integer} objects, so only the list's
+ * own structure is counted: nodes or arrays, links and value references. Heap usage is read
+ * after forcing a few collections, before and after building the list.
+ *
+ * <p>Usage: {@code java benchmarkPackage.ListFootprint [elements]}
+ */
+public class ListFootprint {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+
+        Integer[] values = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+
+        System.out.printf("%-44s %14s %10s%n", "Layout", "bytes", "B/element");
+
+        measure("DoublyLinkedList (DoublyLinkedListNode)", n, () -> {
+            DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+            for (Integer value : values) {
+                list.insertAtTail(value);
+            }
+            return list;
+        });
+
+        measure("CompactDoublyLinkedList, prev + next", n, () -> {
+            CompactDoublyLinkedList<Integer> list = new CompactDoublyLinkedList<>(n, false);
+            for (Integer value : values) {
+                list.insertAtTail(value);
+            }
+            return list;
+        });
+
+        measure("CompactDoublyLinkedList, XOR link", n, () -> {
+            CompactDoublyLinkedList<Integer> list = new CompactDoublyLinkedList<>(n, true);
+            for (Integer value : values) {
+                list.insertAtTail(value);
+            }
+            return list;
+        });
+
+        measure("IntDoublyLinkedList (unboxed, for reference)", n, () -> {
+            IntDoublyLinkedList list = new IntDoublyLinkedList(n);
+            for (int i = 0; i < n; i++) {
+                list.insertAtTail(i);
+            }
+            return list;
+        });
+
+        BenchmarkRunner.sink = values;
+    }
+
+    private static void measure(String name, int n, Supplier<Object> build) {
+        long before = usedHeap();
+        Object list = build.get();
+        long after = usedHeap();
+
+        BenchmarkRunner.sink = list;
+        System.out.printf("%-44s %,14d %10.1f%n", name, after - before, (double) (after - before) / n);
+        BenchmarkRunner.sink = null;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+
+        // A few rounds, keeping the lowest reading, so leftover garbage does not count
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
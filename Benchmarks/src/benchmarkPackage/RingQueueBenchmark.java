@@ -0,0 +1,215 @@
+package benchmarkPackage;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import circularLinkedListPackage.AbstractRingQueue;
+import circularLinkedListPackage.MpscRingQueue;
+import circularLinkedListPackage.SpscRingQueue;
+
+/**
+ * Producer/consumer throughput of the ring queues against {@link ArrayBlockingQueue}.
+ *
+ * <p>Every scenario moves {@value #MESSAGES} messages per round from the producer threads to one
+ * consumer, one element at a time ({@code offer}/{@code poll}) or in batches
+ * ({@code offerAll}/{@code drainTo}). Elements are preallocated, so the reported B/op is what
+ * the queue itself allocates, summed over all threads involved.
+ *
+ * <p>Usage: {@code java benchmarkPackage.RingQueueBenchmark [capacity]}
+ */
+public class RingQueueBenchmark {
+
+    private static final int MESSAGES = 4_000_000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int BATCH = 64;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** The operations a scenario needs, over any of the benchmarked queues */
+    private interface Target {
+        boolean offer(Integer element);
+
+        int offerAll(Integer[] items, int from, int count);
+
+        Integer poll();
+
+        int drainTo(Consumer<Integer> sink, int limit);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int capacity = args.length > 0 ? Integer.parseInt(args[0]) : 1024;
+
+        Integer[] elements = new Integer[BATCH * 16];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i;
+        }
+
+        System.out.printf("%-22s %-10s %-7s %14s %10s%n", "Queue", "Producers", "Mode", "ops/s", "B/op");
+
+        for (boolean batched : new boolean[] {false, true}) {
+            scenario("SpscRingQueue", 1, batched, elements, () -> ring(new SpscRingQueue<>(capacity)));
+            scenario("ArrayBlockingQueue", 1, batched, elements, () -> blocking(new ArrayBlockingQueue<>(capacity)));
+            scenario("MpscRingQueue", 3, batched, elements, () -> ring(new MpscRingQueue<>(capacity)));
+            scenario("ArrayBlockingQueue", 3, batched, elements, () -> blocking(new ArrayBlockingQueue<>(capacity)));
+        }
+    }
+
+    private static void scenario(String name, int producers, boolean batched, Integer[] elements,
+            Supplier<Target> factory) throws Exception {
+        double opsPerSecond = 0;
+        long bytes = 0;
+
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long[] result = round(factory.get(), producers, batched, elements);
+            if (round >= WARMUP_ROUNDS) {
+                opsPerSecond += MESSAGES * 1e9 / result[0];
+                bytes += result[1];
+            }
+        }
+
+        System.out.printf("%-22s %-10d %-7s %,14.0f %10.2f%n", name, producers, batched ? "batch" : "single",
+                opsPerSecond / MEASURED_ROUNDS, (double) bytes / ((long) MESSAGES * MEASURED_ROUNDS));
+    }
+
+    /** Runs one round; returns {elapsed nanos, bytes allocated by all threads} */
+    private static long[] round(Target queue, int producers, boolean batched, Integer[] elements) throws Exception {
+        int perProducer = MESSAGES / producers;
+        int total = perProducer * producers;
+        Thread[] threads = new Thread[producers];
+
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> produce(queue, perProducer, batched, elements));
+        }
+
+        Thread consumer = Thread.currentThread();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(consumer.getId());
+        long start = System.nanoTime();
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        long[] checksum = new long[1];
+        Consumer<Integer> sink = value -> checksum[0] += value;
+        int received = 0;
+
+        while (received < total) {
+            int n;
+            if (batched) {
+                n = queue.drainTo(sink, BATCH);
+            } else {
+                Integer value = queue.poll();
+                n = value == null ? 0 : 1;
+                if (value != null) {
+                    checksum[0] += value;
+                }
+            }
+
+            if (n == 0) {
+                Thread.yield();
+            }
+            received += n;
+        }
+
+        // Producer allocations must be read before the threads finish
+        long producerBytes = 0;
+        for (Thread thread : threads) {
+            producerBytes += Math.max(0, THREADS.getThreadAllocatedBytes(thread.getId()));
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long bytes = THREADS.getThreadAllocatedBytes(consumer.getId()) - bytesBefore + producerBytes;
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        BenchmarkRunner.sink = checksum[0];
+        return new long[] {elapsed, bytes};
+    }
+
+    private static void produce(Target queue, int count, boolean batched, Integer[] elements) {
+        int sent = 0;
+        while (sent < count) {
+            int from = sent % (elements.length - BATCH);
+            int n;
+            if (batched) {
+                n = queue.offerAll(elements, from, Math.min(BATCH, count - sent));
+            } else {
+                n = queue.offer(elements[from]) ? 1 : 0;
+            }
+
+            if (n == 0) {
+                Thread.yield();
+            }
+            sent += n;
+        }
+    }
+
+    // ----------------------------------------
+    // 💠 ADAPTERS
+    // ----------------------------------------
+
+    private static Target ring(AbstractRingQueue<Integer> queue) {
+        return new Target() {
+            @Override
+            public boolean offer(Integer element) {
+                return queue.offer(element);
+            }
+
+            @Override
+            public int offerAll(Integer[] items, int from, int count) {
+                return queue.offerAll(items, from, count);
+            }
+
+            @Override
+            public Integer poll() {
+                return queue.poll();
+            }
+
+            @Override
+            public int drainTo(Consumer<Integer> sink, int limit) {
+                return queue.drainTo(sink, limit);
+            }
+        };
+    }
+
+    private static Target blocking(ArrayBlockingQueue<Integer> queue) {
+        List<Integer> drained = new ArrayList<>(BATCH);
+
+        return new Target() {
+            @Override
+            public boolean offer(Integer element) {
+                return queue.offer(element);
+            }
+
+            @Override
+            public int offerAll(Integer[] items, int from, int count) {
+                int n = 0;
+                while (n < count && queue.offer(items[from + n])) {
+                    n++;
+                }
+                return n;
+            }
+
+            @Override
+            public Integer poll() {
+                return queue.poll();
+            }
+
+            @Override
+            public int drainTo(Consumer<Integer> sink, int limit) {
+                int n = queue.drainTo(drained, limit);
+                drained.forEach(sink);
+                drained.clear();
+                return n;
+            }
+        };
+    }
+}
@@ -0,0 +1,155 @@
+package circularLinkedListPackage;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Shared state of the bounded ring queues: a preallocated, power-of-two sized array that is used
+ * as a circle (index {@code i} lives in slot {@code i & mask}), plus the producer and consumer
+ * counters.
+ *
+ * <p>The counters only ever grow; their difference is the number of queued elements. Each
+ * counter sits on its own cache line next to the fields only its own side touches, so producer
+ * and consumer never invalidate each other's line by accident (false sharing). The padding is
+ * done through the superclass chain below, since the JVM lays out superclass fields first.
+ */
+public abstract class AbstractRingQueue<E> extends RingConsumerPad {
+	static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+	static final VarHandle PRODUCER_INDEX;
+	static final VarHandle PRODUCER_LIMIT;
+	static final VarHandle CONSUMER_INDEX;
+
+	static {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			PRODUCER_INDEX = lookup.findVarHandle(RingProducerFields.class, "producerIndex", long.class);
+			PRODUCER_LIMIT = lookup.findVarHandle(RingProducerFields.class, "producerLimit", long.class);
+			CONSUMER_INDEX = lookup.findVarHandle(RingConsumerFields.class, "consumerIndex", long.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	final Object[] buffer;
+	final int mask;
+
+	AbstractRingQueue(int capacity) {
+		if (capacity < 1 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+		}
+
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) {
+			size <<= 1;
+		}
+
+		this.buffer = new Object[size];
+		this.mask = size - 1;
+	}
+
+	/** Number of elements the queue can hold; the requested capacity rounded up to a power of two */
+	public final int capacity() {
+		return buffer.length;
+	}
+
+	/** Number of queued elements; only a snapshot while producers or the consumer are running */
+	public final int size() {
+		// Read the consumer first so the difference can never be negative or exceed the capacity
+		long consumer = (long) CONSUMER_INDEX.getVolatile(this);
+		long producer = (long) PRODUCER_INDEX.getVolatile(this);
+		return (int) Math.min(Math.max(producer - consumer, 0), buffer.length);
+	}
+
+	public final boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Adds {@code element} if there is room.
+	 *
+	 * @return false if the queue is full
+	 * @throws NullPointerException if {@code element} is null
+	 */
+	public abstract boolean offer(E element);
+
+	/**
+	 * Adds {@code items[from..from+count)} in order, as many as fit.
+	 *
+	 * @return how many were added; the rest were not
+	 * @throws NullPointerException if any of the items is null; nothing is added then
+	 */
+	public abstract int offerAll(E[] items, int from, int count);
+
+	static void checkLimit(int limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("Negative limit: " + limit);
+		}
+	}
+
+	/** Rejects a batch with a null before any slot is claimed or written */
+	static void requireNoNulls(Object[] items, int from, int count) {
+		for (int i = from; i < from + count; i++) {
+			Objects.requireNonNull(items[i]);
+		}
+	}
+
+	/** Removes and returns the oldest element, or null if the queue is empty. Consumer only. */
+	public abstract E poll();
+
+	/**
+	 * Removes up to {@code limit} elements and hands them to {@code sink} in order. Consumer only.
+	 *
+	 * @return how many were removed, between 0 and {@code limit}
+	 * @throws IllegalArgumentException if {@code limit} is negative
+	 */
+	public abstract int drainTo(Consumer<? super E> sink, int limit);
+
+	public int drainTo(Consumer<? super E> sink) {
+		return drainTo(sink, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[size=" + size() + ", capacity=" + capacity() + "]";
+	}
+}
+
+// ----------------------------------------
+// 💠 CACHE LINE PADDING
+// 8 longs (64 bytes) around each counter group keep them on
+// separate cache lines.
+// ----------------------------------------
+
+abstract class RingPad0 {
+	long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class RingProducerFields extends RingPad0 {
+	/** Next position a producer will write */
+	volatile long producerIndex;
+
+	/**
+	 * Producer-side cache of {@code consumerIndex + capacity}, refreshed only when the ring looks
+	 * full. Plain for the single SPSC producer; MPSC producers share it through
+	 * {@code PRODUCER_LIMIT} in opaque mode (see {@link MpscRingQueue#offerAll}).
+	 */
+	long producerLimit;
+}
+
+abstract class RingProducerPad extends RingProducerFields {
+	long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class RingConsumerFields extends RingProducerPad {
+	/** Next position the consumer will read */
+	volatile long consumerIndex;
+
+	/** Consumer-side cache of {@code producerIndex}, refreshed only when the ring looks empty */
+	long consumerLimit;
+}
+
+abstract class RingConsumerPad extends RingConsumerFields {
+	long p20, p21, p22, p23, p24, p25, p26, p27;
+}
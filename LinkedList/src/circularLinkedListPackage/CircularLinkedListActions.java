@@ -6,8 +6,30 @@ import linkedListUtilityPackage.SinglyLinkedListNode;
 public class CircularLinkedListActions {
 
 	public static void main(String[] args) {
-		SinglyLinkedListNode<Integer> head = LinkedListHelper.createIntegerCircularLinkedListFromInput();		
-		
+		SinglyLinkedListNode<Integer> head = LinkedListHelper.createIntegerCircularLinkedListFromInput();
+
+		if (head == null) {
+			return;
+		}
+
+		// Walk the circle once, feeding a ring queue that is smaller than the list,
+		// so the ring wraps around and gets drained whenever it fills up
+		SpscRingQueue<Integer> queue = new SpscRingQueue<>(4);
+		StringBuilder sb = new StringBuilder();
+
+		SinglyLinkedListNode<Integer> curr = head;
+		do {
+			if (!queue.offer(curr.value)) {
+				queue.drainTo(value -> sb.append(value).append(" -> "));
+				queue.offer(curr.value);
+			}
+			curr = curr.next;
+		} while (curr != head);
+
+		queue.drainTo(value -> sb.append(value).append(" -> "));
+		sb.append("back to head");
+
+		System.out.println("==> Through " + queue + ": " + sb);
 	}
 
 }
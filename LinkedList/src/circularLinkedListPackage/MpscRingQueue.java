@@ -0,0 +1,147 @@
+package circularLinkedListPackage;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer / single-consumer ring queue (Vyukov's bounded queue).
+ *
+ * <p>Every slot carries a sequence number next to its element. Slot {@code s} starts at
+ * sequence {@code s}; for position {@code n} stored in it:
+ * <ul>
+ *   <li>{@code sequence == n} - the slot is free for the producer that claims position {@code n},</li>
+ *   <li>{@code sequence == n + 1} - the element is published and ready for the consumer,</li>
+ *   <li>after consuming, the slot moves on to {@code n + capacity}, its next lap round the ring.</li>
+ * </ul>
+ * Producers claim positions with a CAS on the shared producer counter, then write their element
+ * and publish it through the slot's sequence, so a slow producer never blocks the others from
+ * claiming. The consumer only reads sequences and never needs a CAS. No locks and no
+ * allocation.
+ *
+ * <p>Any number of threads may call {@code offer}/{@code offerAll}; exactly one thread may call
+ * {@code poll}/{@code drainTo}. Until a producer that has claimed a position publishes it, the
+ * consumer sees the queue as ending just before that position.
+ */
+public final class MpscRingQueue<E> extends AbstractRingQueue<E> {
+	private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+
+	private final long[] sequences;
+
+	public MpscRingQueue(int capacity) {
+		super(capacity);
+		sequences = new long[buffer.length];
+		for (int i = 0; i < sequences.length; i++) {
+			sequences[i] = i;
+		}
+		VarHandle.releaseFence();
+	}
+
+	@Override
+	public boolean offer(E element) {
+		Objects.requireNonNull(element);
+
+		long index;
+		while (true) {
+			index = (long) PRODUCER_INDEX.getVolatile(this);
+			long sequence = (long) SEQUENCES.getAcquire(sequences, (int) index & mask);
+
+			if (sequence == index) {
+				if (PRODUCER_INDEX.compareAndSet(this, index, index + 1)) {
+					break;
+				}
+			} else if (sequence < index) {
+				return false; // the slot still holds last lap's element: full
+			}
+			// else another producer claimed this position first; retry with a fresh index
+		}
+
+		publish(index, element);
+		return true;
+	}
+
+	@Override
+	public int offerAll(E[] items, int from, int count) {
+		if (count <= 0) {
+			return 0;
+		}
+		requireNoNulls(items, from, count);
+
+		long index;
+		int n;
+		do {
+			index = (long) PRODUCER_INDEX.getVolatile(this);
+
+			// Slots are freed in order, so everything below consumerIndex + capacity is free.
+			// producerLimit is a racy hint shared by all producers: consumerIndex only grows, so
+			// any value one of them stored, however stale, is still an underestimate, and the CAS
+			// re-checks the index. Opaque access only keeps the 64-bit reads and writes whole.
+			long limit = (long) PRODUCER_LIMIT.getOpaque(this);
+			if (index + count > limit) {
+				limit = (long) CONSUMER_INDEX.getAcquire(this) + buffer.length;
+				PRODUCER_LIMIT.setOpaque(this, limit);
+			}
+
+			n = (int) Math.min(limit - index, count);
+			if (n <= 0) {
+				return 0;
+			}
+		} while (!PRODUCER_INDEX.compareAndSet(this, index, index + n));
+
+		for (int i = 0; i < n; i++) {
+			publish(index + i, items[from + i]);
+		}
+		return n;
+	}
+
+	private void publish(long index, E element) {
+		int slot = (int) index & mask;
+		buffer[slot] = element;
+		SEQUENCES.setRelease(sequences, slot, index + 1);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E poll() {
+		long index = consumerIndex;
+		int slot = (int) index & mask;
+
+		if ((long) SEQUENCES.getAcquire(sequences, slot) != index + 1) {
+			return null; // empty, or the next producer has not published yet
+		}
+
+		E element = (E) buffer[slot];
+		buffer[slot] = null;
+		SEQUENCES.setRelease(sequences, slot, index + buffer.length);
+		CONSUMER_INDEX.setRelease(this, index + 1);
+		return element;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public int drainTo(Consumer<? super E> sink, int limit) {
+		checkLimit(limit);
+		long index = consumerIndex;
+		int n = 0;
+
+		try {
+			while (n < limit) {
+				int slot = (int) index & mask;
+				if ((long) SEQUENCES.getAcquire(sequences, slot) != index + 1) {
+					break;
+				}
+
+				E element = (E) buffer[slot];
+				buffer[slot] = null;
+				SEQUENCES.setRelease(sequences, slot, index + buffer.length);
+				index++;
+				n++;
+				sink.accept(element);
+			}
+		} finally {
+			CONSUMER_INDEX.setRelease(this, index);
+		}
+		return n;
+	}
+}
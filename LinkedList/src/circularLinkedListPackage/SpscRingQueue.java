@@ -0,0 +1,107 @@
+package circularLinkedListPackage;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Bounded single-producer / single-consumer ring queue.
+ *
+ * <p>The producer and consumer counters double as sequence numbers: element {@code n} is
+ * written to slot {@code n & mask} and becomes visible to the consumer when the producer
+ * publishes {@code producerIndex = n + 1} with a release store. Each side keeps a private
+ * cached copy of the other side's counter and only re-reads the shared one when the ring looks
+ * full (producer) or empty (consumer), so in steady state the two threads rarely touch each
+ * other's cache line. No locks, no CAS and no allocation.
+ *
+ * <p>Exactly one thread may call {@code offer}/{@code offerAll} and exactly one thread may call
+ * {@code poll}/{@code drainTo}.
+ */
+public final class SpscRingQueue<E> extends AbstractRingQueue<E> {
+
+	public SpscRingQueue(int capacity) {
+		super(capacity);
+	}
+
+	@Override
+	public boolean offer(E element) {
+		Objects.requireNonNull(element);
+
+		long index = producerIndex;
+		if (index >= producerLimit) {
+			producerLimit = (long) CONSUMER_INDEX.getAcquire(this) + buffer.length;
+			if (index >= producerLimit) {
+				return false; // full
+			}
+		}
+
+		buffer[(int) index & mask] = element;
+		PRODUCER_INDEX.setRelease(this, index + 1);
+		return true;
+	}
+
+	@Override
+	public int offerAll(E[] items, int from, int count) {
+		if (count <= 0) {
+			return 0;
+		}
+		requireNoNulls(items, from, count);
+
+		long index = producerIndex;
+		long available = producerLimit - index;
+		if (available < count) {
+			producerLimit = (long) CONSUMER_INDEX.getAcquire(this) + buffer.length;
+			available = producerLimit - index;
+		}
+
+		int n = (int) Math.min(available, count);
+		for (int i = 0; i < n; i++) {
+			buffer[(int) (index + i) & mask] = items[from + i];
+		}
+
+		// One release store publishes the whole batch
+		PRODUCER_INDEX.setRelease(this, index + n);
+		return n;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E poll() {
+		long index = consumerIndex;
+		if (index >= consumerLimit) {
+			consumerLimit = (long) PRODUCER_INDEX.getAcquire(this);
+			if (index >= consumerLimit) {
+				return null; // empty
+			}
+		}
+
+		int slot = (int) index & mask;
+		E element = (E) buffer[slot];
+		buffer[slot] = null;
+		CONSUMER_INDEX.setRelease(this, index + 1);
+		return element;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public int drainTo(Consumer<? super E> sink, int limit) {
+		checkLimit(limit);
+		long index = consumerIndex;
+		consumerLimit = (long) PRODUCER_INDEX.getAcquire(this);
+
+		int n = (int) Math.min(consumerLimit - index, limit);
+		int i = 0;
+		try {
+			while (i < n) {
+				int slot = (int) (index + i) & mask;
+				E element = (E) buffer[slot];
+				buffer[slot] = null;
+				i++;
+				sink.accept(element);
+			}
+		} finally {
+			// Slots are handed back to the producer in one go, even if the sink throws
+			CONSUMER_INDEX.setRelease(this, index + i);
+		}
+		return n;
+	}
+}
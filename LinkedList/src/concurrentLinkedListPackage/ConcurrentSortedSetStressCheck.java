@@ -0,0 +1,291 @@
+package concurrentLinkedListPackage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import linkedListUtilityPackage.ConcurrentSortedLinkedListSet;
+import linkedListUtilityPackage.SinglyLinkedList;
+import linkedListUtilityPackage.SinglyLinkedListNode;
+
+/**
+ * DSA Topic - Lock-Free Sorted Linked List: Multi-threaded Stress Check
+ * ----------------------------------------
+ * 📘 Overview:
+ * Hammers {@link ConcurrentSortedLinkedListSet} from several threads and verifies it in two ways:
+ * 1. Throughput run - many random add/remove/contains calls on a small key range, then checks
+ *    that the list is strictly sorted and that every key's presence matches the number of
+ *    successful adds minus successful removes recorded for it.
+ * 2. Linearizability run - thousands of tiny concurrent histories (3 threads x 4 operations on
+ *    3 keys). Each history is checked by searching for a sequential order of its operations
+ *    that respects real time and reproduces every returned result.
+ *
+ * ⚙️ Approach (linearizability check, Wing & Gong):
+ * - Every operation records an invocation and a response tick from a shared atomic clock.
+ * - Recursively pick any pending operation that no other pending operation finished before,
+ *   apply it to a sequential set model, and keep it only if the model gives the same result.
+ * - Failed (linearized-ops, model-state) pairs are memoized, so small histories check instantly.
+ *
+ * 🧮 Complexity Analysis:
+ * - Worst case exponential in history length, which is why histories are kept tiny.
+ *
+ * ----------------------------------------
+ * Exits with status 1 on the first violation.
+ */
+public class ConcurrentSortedSetStressCheck {
+
+    private static final int ADD = 0;
+    private static final int REMOVE = 1;
+    private static final int CONTAINS = 2;
+    private static final String[] OP_NAMES = { "add", "remove", "contains" };
+
+    private static final int HISTORY_THREADS = 3;
+    private static final int HISTORY_OPS_PER_THREAD = 4;
+    private static final int HISTORY_KEYS = 3;
+    private static final int HISTORY_ROUNDS = 5_000;
+
+    /** One completed call in a recorded history */
+    private static final class Operation {
+        final int thread;
+        final int type;
+        final int key;
+        boolean result;
+        long invoke;
+        long response;
+
+        Operation(int thread, int type, int key) {
+            this.thread = thread;
+            this.type = type;
+            this.key = key;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("T%d %s(%d) -> %s [%d, %d]", thread, OP_NAMES[type], key, result, invoke, response);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        System.out.println("===== Lock-Free Sorted Set Stress Check =====");
+
+        throughputCheck(threads, 200_000, 64);
+        linearizabilityCheck();
+
+        System.out.println("\n===== All checks passed =====\n");
+    }
+
+    // ----------------------------------------
+    // 💠 THROUGHPUT CHECK
+    // ----------------------------------------
+
+    private static void throughputCheck(int threads, int opsPerThread, int keyRange) throws Exception {
+        ConcurrentSortedLinkedListSet<Integer> set = new ConcurrentSortedLinkedListSet<>();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                // balance[k] = successful adds - successful removes of key k by this thread
+                long[] balance = new long[keyRange];
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                start.await();
+
+                for (int i = 0; i < opsPerThread; i++) {
+                    int key = random.nextInt(keyRange);
+                    switch (random.nextInt(3)) {
+                        case ADD -> {
+                            if (set.add(key)) balance[key]++;
+                        }
+                        case REMOVE -> {
+                            if (set.remove(key)) balance[key]--;
+                        }
+                        default -> set.contains(key);
+                    }
+                }
+                return balance;
+            }));
+        }
+
+        long startTime = System.nanoTime();
+        start.countDown();
+
+        long[] total = new long[keyRange];
+        for (Future<long[]> future : futures) {
+            long[] balance = future.get();
+            for (int k = 0; k < keyRange; k++) {
+                total[k] += balance[k];
+            }
+        }
+        long elapsed = System.nanoTime() - startTime;
+        pool.shutdown();
+
+        // The final list must be strictly ascending
+        SinglyLinkedList<Integer> snapshot = set.snapshot();
+        Integer previous = null;
+        for (SinglyLinkedListNode<Integer> curr = snapshot.getHead(); curr != null; curr = curr.next) {
+            if (previous != null && previous >= curr.value) {
+                fail("List is not strictly sorted: " + snapshot);
+            }
+            previous = curr.value;
+        }
+
+        // Every key is present exactly when its adds outnumber its removes by one
+        for (int k = 0; k < keyRange; k++) {
+            if (total[k] != 0 && total[k] != 1) {
+                fail("Key " + k + " has add/remove balance " + total[k]);
+            }
+            if (set.contains(k) != (total[k] == 1)) {
+                fail("Key " + k + " presence does not match its add/remove balance");
+            }
+        }
+
+        System.out.printf("\n==> Throughput check passed: %d threads, %,d ops in %d ms, final size %d%n",
+                threads, (long) threads * opsPerThread, elapsed / 1_000_000, set.size());
+    }
+
+    // ----------------------------------------
+    // 💠 LINEARIZABILITY CHECK
+    // ----------------------------------------
+
+    private static void linearizabilityCheck() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(HISTORY_THREADS);
+        AtomicLong clock = new AtomicLong();
+
+        for (int round = 0; round < HISTORY_ROUNDS; round++) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            ConcurrentSortedLinkedListSet<Integer> set = new ConcurrentSortedLinkedListSet<>();
+
+            // Random initial contents, remembered as a bitmask for the model
+            int initialState = random.nextInt(1 << HISTORY_KEYS);
+            for (int k = 0; k < HISTORY_KEYS; k++) {
+                if ((initialState & (1 << k)) != 0) {
+                    set.add(k);
+                }
+            }
+
+            List<Operation> history = new ArrayList<>();
+            List<List<Operation>> perThread = new ArrayList<>();
+            for (int t = 0; t < HISTORY_THREADS; t++) {
+                List<Operation> ops = new ArrayList<>();
+                for (int i = 0; i < HISTORY_OPS_PER_THREAD; i++) {
+                    ops.add(new Operation(t, random.nextInt(3), random.nextInt(HISTORY_KEYS)));
+                }
+                perThread.add(ops);
+                history.addAll(ops);
+            }
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<Operation> ops : perThread) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (Operation op : ops) {
+                        op.invoke = clock.incrementAndGet();
+                        op.result = switch (op.type) {
+                            case ADD -> set.add(op.key);
+                            case REMOVE -> set.remove(op.key);
+                            default -> set.contains(op.key);
+                        };
+                        op.response = clock.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            Operation[] ops = history.toArray(new Operation[0]);
+            if (!isLinearizable(ops, 0, initialState, new HashSet<>())) {
+                StringBuilder sb = new StringBuilder("Non-linearizable history (initial state " + initialState + "):");
+                for (Operation op : ops) {
+                    sb.append("\n  ").append(op);
+                }
+                fail(sb.toString());
+            }
+        }
+
+        pool.shutdown();
+        System.out.printf("==> Linearizability check passed: %d histories of %d operations%n",
+                HISTORY_ROUNDS, HISTORY_THREADS * HISTORY_OPS_PER_THREAD);
+    }
+
+    /**
+     * Searches for a linearization of the operations not yet in {@code done}.
+     *
+     * @param ops    the whole history
+     * @param done   bitmask of operations already placed in the sequential order
+     * @param state  bitmask of keys present in the model set
+     * @param failed memo of (done, state) pairs known to lead nowhere
+     */
+    private static boolean isLinearizable(Operation[] ops, int done, int state, Set<Long> failed) {
+        if (done == (1 << ops.length) - 1) {
+            return true;
+        }
+
+        long memoKey = ((long) done << HISTORY_KEYS) | state;
+        if (failed.contains(memoKey)) {
+            return false;
+        }
+
+        for (int i = 0; i < ops.length; i++) {
+            if ((done & (1 << i)) != 0 || !isMinimal(ops, done, i)) {
+                continue;
+            }
+
+            Operation op = ops[i];
+            int bit = 1 << op.key;
+            boolean present = (state & bit) != 0;
+            boolean expected;
+            int nextState;
+
+            switch (op.type) {
+                case ADD -> {
+                    expected = !present;
+                    nextState = state | bit;
+                }
+                case REMOVE -> {
+                    expected = present;
+                    nextState = state & ~bit;
+                }
+                default -> {
+                    expected = present;
+                    nextState = state;
+                }
+            }
+
+            if (expected == op.result && isLinearizable(ops, done | (1 << i), nextState, failed)) {
+                return true;
+            }
+        }
+
+        failed.add(memoKey);
+        return false;
+    }
+
+    /** An operation may go next only if no other pending operation responded before it was invoked */
+    private static boolean isMinimal(Operation[] ops, int done, int candidate) {
+        for (int j = 0; j < ops.length; j++) {
+            if (j != candidate && (done & (1 << j)) == 0 && ops[j].response < ops[candidate].invoke) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void fail(String message) {
+        System.out.println("\n!!! CHECK FAILED: " + message);
+        System.exit(1);
+    }
+}
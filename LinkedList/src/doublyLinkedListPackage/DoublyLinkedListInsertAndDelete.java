@@ -14,19 +14,20 @@
  * Output : 10 <-> 20 <-> 25 <-> 30 <-> 40
  *
  * ⚙️ Approach:
- * - Each operation is implemented as a standalone method that takes `head` and returns updated `head`.
+ * - The list is held in a `DoublyLinkedList` container that tracks head, tail and size.
  * - Node connections (`prev`, `next`) are carefully maintained during insertions and deletions.
- * - Index-based operations perform linear traversal till the target position.
+ * - Index-based operations perform linear traversal from the closer end till the target position.
  *
  * 🧮 Complexity Analysis:
- * - Insert/Delete at Head: O(1)
- * - Insert/Delete at Tail or Index: O(n)
+ * - Insert/Delete at Head or Tail: O(1)
+ * - Insert/Delete at Index: O(n)
  * - Space Complexity: O(1)
  *
  * 🧠 Key Insights:
  * - Always update both `next` and `prev` links when modifying pointers.
  * - Handle edge cases: empty list, head/tail updates, invalid index.
- * - Return the new head reference for any operation that may modify the list start.
+ * - Keeping a tail reference turns tail operations from a full walk into O(1).
+ * - Run with -DlinkedList.metrics=true to see nodes walked and latency per operation on exit.
  *
  * 🔍 Related Topics:
  * - Linked List
@@ -41,8 +42,9 @@
 package doublyLinkedListPackage;
 
 import java.util.Scanner;
-import linkedListUtilityPackage.DoublyLinkedListNode;
+import linkedListUtilityPackage.DoublyLinkedList;
 import linkedListUtilityPackage.LinkedListHelper;
+import linkedListUtilityPackage.LinkedListMetrics;
 
 public class DoublyLinkedListInsertAndDelete {
 
@@ -50,7 +52,7 @@ public class DoublyLinkedListInsertAndDelete {
         System.out.println("\n===== Welcome to Insert and Delete Actions of Doubly Linked List =====");
         System.out.println("==> Let's first create the Doubly Linked List.");
 
-        DoublyLinkedListNode<Integer> head = LinkedListHelper.createIntegerDoublyLinkedListFromInput();
+        DoublyLinkedList<Integer> list = LinkedListHelper.createIntegerDoublyLinkedListFromInput();
         System.out.println("\nGreat!!\n");
 
         int action = 1;
@@ -74,28 +76,28 @@ public class DoublyLinkedListInsertAndDelete {
             switch (action) {
                 case 1 -> {
                     System.out.println("\n=> Value to insert: ");
-                    head = insertAtHead(head, sc.nextInt());
+                    insertAtHead(list, sc.nextInt());
                 }
                 case 2 -> {
                     System.out.println("\n=> Value to insert: ");
-                    head = insertAtTail(head, sc.nextInt());
+                    insertAtTail(list, sc.nextInt());
                 }
                 case 3 -> {
                     System.out.println("\n==> Value to insert: ");
                     val = sc.nextInt();
                     System.out.println("==> Index: ");
                     int insertIndex = sc.nextInt();
-                    head = insertAtIndex(head, insertIndex, val);
+                    insertAtIndex(list, insertIndex, val);
                 }
-                case 4 -> head = deleteAtHead(head);
-                case 5 -> head = deleteAtTail(head);
+                case 4 -> deleteAtHead(list);
+                case 5 -> deleteAtTail(list);
                 case 6 -> {
                     System.out.println("\n==> Index to delete: ");
-                    head = deleteAtIndex(head, sc.nextInt());
+                    deleteAtIndex(list, sc.nextInt());
                 }
                 case 7 -> {
                     System.out.println("\n==> Value to delete: ");
-                    head = deleteFirstInstance(head, sc.nextInt());
+                    deleteFirstInstance(list, sc.nextInt());
                 }
                 case 8 -> System.out.println("Exiting...");
                 default -> {
@@ -104,10 +106,14 @@ public class DoublyLinkedListInsertAndDelete {
                 }
             }
 
-            System.out.println("\n===> New List: " + head + "\n");
+            System.out.println("\n===> New List: " + list + "\n");
         }
 
         sc.close();
+
+        if (LinkedListMetrics.ENABLED) {
+            System.out.println(LinkedListMetrics.report());
+        }
     }
 
     // ----------------------------------------
@@ -115,64 +121,18 @@ public class DoublyLinkedListInsertAndDelete {
     // ----------------------------------------
 
     /** Insert a new node at the head of the doubly linked list */
-    private static DoublyLinkedListNode<Integer> insertAtHead(DoublyLinkedListNode<Integer> head, int value) {
-        DoublyLinkedListNode<Integer> node = new DoublyLinkedListNode<>(value);
-        node.next = head;
-
-        if (head != null) {
-            head.prev = node;
-        }
-
-        return node; // New head
+    public static void insertAtHead(DoublyLinkedList<Integer> list, int value) {
+        list.insertAtHead(value);
     }
 
-    /** Insert a new node at the tail of the doubly linked list */
-    private static DoublyLinkedListNode<Integer> insertAtTail(DoublyLinkedListNode<Integer> head, int value) {
-        if (head == null)
-            return insertAtHead(head, value);
-
-        DoublyLinkedListNode<Integer> curr = head;
-        while (curr.next != null)
-            curr = curr.next;
-
-        DoublyLinkedListNode<Integer> node = new DoublyLinkedListNode<>(value);
-        curr.next = node;
-        node.prev = curr;
-
-        return head;
+    /** Insert a new node at the tail of the doubly linked list (O(1) via the tail reference) */
+    public static void insertAtTail(DoublyLinkedList<Integer> list, int value) {
+        list.insertAtTail(value);
     }
 
     /** Insert a new node at a given index */
-    private static DoublyLinkedListNode<Integer> insertAtIndex(DoublyLinkedListNode<Integer> head, int index, int value)
-            throws Exception {
-        if (index < 0)
-            throw new Exception("Invalid index: negative");
-
-        if (index == 0)
-            return insertAtHead(head, value);
-
-        if (head == null)
-            throw new Exception("Invalid index: empty list");
-
-        DoublyLinkedListNode<Integer> curr = head;
-        int currIndex = 0;
-
-        while (currIndex < index - 1) {
-            if (curr == null)
-                throw new Exception("Invalid index: list shorter than index");
-            curr = curr.next;
-            currIndex++;
-        }
-
-        DoublyLinkedListNode<Integer> node = new DoublyLinkedListNode<>(value);
-        node.next = curr.next;
-        node.prev = curr;
-
-        if (curr.next != null)
-            curr.next.prev = node;
-
-        curr.next = node;
-        return head;
+    public static void insertAtIndex(DoublyLinkedList<Integer> list, int index, int value) throws Exception {
+        list.insertAtIndex(index, value);
     }
 
     // ----------------------------------------
@@ -180,88 +140,22 @@ public class DoublyLinkedListInsertAndDelete {
     // ----------------------------------------
 
     /** Delete the first node (head) of the list */
-    private static DoublyLinkedListNode<Integer> deleteAtHead(DoublyLinkedListNode<Integer> head) {
-        if (head == null)
-            return null;
-
-        DoublyLinkedListNode<Integer> newHead = head.next;
-        if (newHead != null)
-            newHead.prev = null;
-
-        return newHead;
+    public static void deleteAtHead(DoublyLinkedList<Integer> list) {
+        list.deleteAtHead();
     }
 
-    /** Delete the last node (tail) of the list */
-    private static DoublyLinkedListNode<Integer> deleteAtTail(DoublyLinkedListNode<Integer> head) throws Exception {
-        if (head == null)
-            throw new Exception("Invalid - Empty List");
-
-        if (head.next == null)
-            return null; // Only one element
-
-        DoublyLinkedListNode<Integer> curr = head;
-        while (curr.next != null)
-            curr = curr.next;
-
-        curr.prev.next = null;
-        return head;
+    /** Delete the last node (tail) of the list (O(1) via the tail reference) */
+    public static void deleteAtTail(DoublyLinkedList<Integer> list) throws Exception {
+        list.deleteAtTail();
     }
 
     /** Delete the node at a specific index */
-    private static DoublyLinkedListNode<Integer> deleteAtIndex(DoublyLinkedListNode<Integer> head, int index)
-            throws Exception {
-        if (index < 0)
-            throw new Exception("Invalid - negative index");
-
-        if (head == null)
-            throw new Exception("Invalid - Empty List");
-
-        if (index == 0)
-            return deleteAtHead(head);
-
-        DoublyLinkedListNode<Integer> curr = head;
-        int currIndex = 0;
-
-        while (currIndex < index && curr != null) {
-            curr = curr.next;
-            currIndex++;
-        }
-
-        if (curr == null)
-            throw new Exception("Invalid index - List is smaller!");
-
-        if (curr.prev != null)
-            curr.prev.next = curr.next;
-
-        if (curr.next != null)
-            curr.next.prev = curr.prev;
-
-        return head;
+    public static void deleteAtIndex(DoublyLinkedList<Integer> list, int index) throws Exception {
+        list.deleteAtIndex(index);
     }
 
     /** Delete the first occurrence of a given value */
-    private static DoublyLinkedListNode<Integer> deleteFirstInstance(DoublyLinkedListNode<Integer> head, int value)
-            throws Exception {
-        if (head == null)
-            throw new Exception("Empty List");
-
-        DoublyLinkedListNode<Integer> curr = head;
-
-        while (curr != null) {
-            if (curr.value == value) {
-                if (curr.prev != null)
-                    curr.prev.next = curr.next;
-                else
-                    head = curr.next; // deleting head
-
-                if (curr.next != null)
-                    curr.next.prev = curr.prev;
-
-                return head; // Stop after first match
-            }
-            curr = curr.next;
-        }
-
-        throw new Exception("Item not found");
+    public static void deleteFirstInstance(DoublyLinkedList<Integer> list, int value) throws Exception {
+        list.deleteFirstInstance(value);
     }
 }
\ No newline at end of file
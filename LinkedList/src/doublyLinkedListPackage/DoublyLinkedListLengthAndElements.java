@@ -1,15 +1,20 @@
 package doublyLinkedListPackage;
 
+import java.util.OptionalInt;
 import java.util.Scanner;
 
-import linkedListUtilityPackage.DoublyLinkedListNode;
+import linkedListUtilityPackage.DoublyLinkedList;
 import linkedListUtilityPackage.LinkedListHelper;
+import linkedListUtilityPackage.LinkedListStreams;
 
 public class DoublyLinkedListLengthAndElements {
 
-	public static void main(String[] args) {
+	/** Lists at least this long are searched with a parallel stream */
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	public static void main(String[] args) throws Exception {
 		// TODO Auto-generated method stub
-		DoublyLinkedListNode<Integer> list = LinkedListHelper.createIntegerDoublyLinkedListFromInput();
+		DoublyLinkedList<Integer> list = LinkedListHelper.createIntegerDoublyLinkedListFromInput();
 		int length = getLength(list);
 		System.out.println("Length: " + length);
 		System.out.println(list);
@@ -27,60 +32,30 @@ public class DoublyLinkedListLengthAndElements {
 
 	}
 
-	private static int getLength(DoublyLinkedListNode<Integer> list) {
-		int length = 0;
-
-		DoublyLinkedListNode<Integer> curr = list;
-
-		while (curr != null) {
-			length++;
-			curr = curr.next;
-		}
-
-		return length;
-
+	public static int getLength(DoublyLinkedList<Integer> list) {
+		// The container keeps the size up to date, so no traversal is needed
+		return list.size();
 	}
 	
-	private static Integer getFirstOccurenceIndex(DoublyLinkedListNode<Integer> list, int element) {
-		if (list == null) {
+	public static Integer getFirstOccurenceIndex(DoublyLinkedList<Integer> list, int element) {
+		if (list.isEmpty()) {
 			return null;
 		}
 		
-		DoublyLinkedListNode<Integer> curr = list;
-		int index = 0;
-		
-		while (curr != null) {
-			if (curr.value == element) {
-				return index;
-			}
-			
-			curr = curr.next;
-			index++;
-		}
+		boolean parallel = list.size() >= PARALLEL_THRESHOLD;
+		OptionalInt index = LinkedListStreams.firstIndexOf(list, value -> value != null && value == element, parallel);
 		
-		return null;
+		return index.isPresent() ? index.getAsInt() : null;
 		
 	}
 	
-	private static Integer getElementAtIndex(DoublyLinkedListNode<Integer> list, int index) {
-		if (list == null) {
-			return null;
-		}
-		
-		DoublyLinkedListNode<Integer> curr = list;
-		int currIndex = 0;
-		
-		while (curr != null) {
-			if (currIndex == index) {
-				return curr.value;
-			}
-			
-			curr = curr.next;
-			currIndex++;
-		}
-		
-		return null;
-		
+	/**
+	 * Returns the value at the given index; the container walks from the nearer end.
+	 *
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public static Integer getElementAtIndex(DoublyLinkedList<Integer> list, int index) throws Exception {
+		return list.getElementAtIndex(index);
 	}
 
 }
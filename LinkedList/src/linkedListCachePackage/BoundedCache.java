@@ -0,0 +1,225 @@
+package linkedListCachePackage;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import circularLinkedListPackage.MpscRingQueue;
+
+/**
+ * A thread-safe cache holding at most {@code capacity} entries, with a pluggable
+ * {@link EvictionPolicy}: {@link #lru}, {@link #lfu} or {@link #windowTinyLfu}.
+ *
+ * <p>Values live in a {@link ConcurrentHashMap}, so lookups never block. The policy's lists are
+ * not thread-safe and are only touched under one eviction lock, which a read must not wait for.
+ * Instead a hit records its key in one of several striped {@link MpscRingQueue} read buffers
+ * (picked by thread, so readers rarely share one) and moves on. Whoever next holds the lock
+ * replays the buffered reads to the policy; a reader that fills its buffer does so itself, but
+ * only if the lock is free. A read arriving while its buffer is full is dropped: the policy
+ * loses a little history, which is far cheaper than making readers wait.
+ *
+ * <p>Writes ({@link #put}, {@link #remove}, loads in {@link #get(Object, Function)}) take the
+ * lock, so the map and the policy always agree on which keys are present.
+ */
+public final class BoundedCache<K, V> {
+	static final int READ_BUFFER_CAPACITY = 64;
+
+	/** A buffer holding this many reads gets drained by the reader that fills it */
+	static final int DRAIN_THRESHOLD = READ_BUFFER_CAPACITY / 2;
+
+	private final ConcurrentHashMap<K, V> data;
+	private final EvictionPolicy<K> policy;
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final MpscRingQueue<K>[] readBuffers;
+	private final CacheStats stats = new CacheStats();
+
+	@SuppressWarnings("unchecked")
+	public BoundedCache(EvictionPolicy<K> policy) {
+		this.policy = policy;
+		this.data = new ConcurrentHashMap<>(Math.min(policy.capacity(), 1 << 16));
+
+		int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1) << 1);
+		this.readBuffers = (MpscRingQueue<K>[]) new MpscRingQueue<?>[stripes];
+		for (int i = 0; i < stripes; i++) {
+			readBuffers[i] = new MpscRingQueue<>(READ_BUFFER_CAPACITY);
+		}
+	}
+
+	public static <K, V> BoundedCache<K, V> lru(int capacity) {
+		return new BoundedCache<>(new LruPolicy<>(capacity));
+	}
+
+	public static <K, V> BoundedCache<K, V> lfu(int capacity) {
+		return new BoundedCache<>(new LfuPolicy<>(capacity));
+	}
+
+	public static <K, V> BoundedCache<K, V> windowTinyLfu(int capacity) {
+		return new BoundedCache<>(new WindowTinyLfuPolicy<>(capacity));
+	}
+
+	public int capacity() {
+		return policy.capacity();
+	}
+
+	/** Number of cached entries; a read racing a write may briefly see one over the capacity */
+	public int size() {
+		return data.size();
+	}
+
+	public CacheStats stats() {
+		return stats;
+	}
+
+	// ----------------------------------------
+	// 💠 READS
+	// ----------------------------------------
+
+	/** Returns the cached value, or {@code null} on a miss */
+	public V get(K key) {
+		V value = data.get(key);
+		if (value == null) {
+			stats.recordMiss();
+			return null;
+		}
+
+		stats.recordHit();
+		recordRead(key);
+		return value;
+	}
+
+	/**
+	 * Returns the cached value, computing and caching it on a miss. The loader runs without any
+	 * lock held, so two threads missing on the same key may both call it; the first result
+	 * stored wins and is returned to both. A {@code null} result is returned but not cached.
+	 */
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		V value = get(key);
+		if (value != null) {
+			return value;
+		}
+
+		V loaded = loader.apply(key);
+		if (loaded == null) {
+			return null;
+		}
+
+		evictionLock.lock();
+		try {
+			V existing = data.get(key);
+			if (existing != null) {
+				return existing;
+			}
+			insert(key, loaded);
+			return loaded;
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/** True if {@code key} is cached; does not count as a read */
+	public boolean containsKey(K key) {
+		return data.containsKey(key);
+	}
+
+	// ----------------------------------------
+	// 💠 WRITES
+	// ----------------------------------------
+
+	/**
+	 * Caches {@code value} under {@code key}, evicting an entry if the cache is full. With an
+	 * admission policy the new entry itself may be the one evicted.
+	 *
+	 * @return the previous value, or {@code null}
+	 */
+	public V put(K key, V value) {
+		if (value == null) {
+			throw new NullPointerException("Null values are not cached");
+		}
+
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			V previous = data.put(key, value);
+			if (previous != null) {
+				policy.recordAccess(key);
+			} else {
+				evict(policy.recordInsert(key));
+			}
+			return previous;
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/** Removes {@code key}; returns its value, or {@code null} if it was not cached */
+	public V remove(K key) {
+		evictionLock.lock();
+		try {
+			V previous = data.remove(key);
+			if (previous != null) {
+				policy.recordRemove(key);
+			}
+			return previous;
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/** Replays all buffered reads to the policy now */
+	public void cleanUp() {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	// ----------------------------------------
+	// 💠 POLICY UPKEEP (under the eviction lock)
+	// ----------------------------------------
+
+	private void insert(K key, V value) {
+		drainReadBuffers();
+		data.put(key, value);
+		evict(policy.recordInsert(key));
+	}
+
+	private void evict(K victim) {
+		if (victim != null) {
+			data.remove(victim);
+			stats.recordEviction();
+		}
+	}
+
+	private void recordRead(K key) {
+		MpscRingQueue<K> buffer = readBuffers[stripe()];
+		if (!buffer.offer(key)) {
+			stats.recordDroppedRead();
+		}
+
+		if (buffer.size() >= DRAIN_THRESHOLD && evictionLock.tryLock()) {
+			try {
+				drainReadBuffers();
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void drainReadBuffers() {
+		for (MpscRingQueue<K> buffer : readBuffers) {
+			buffer.drainTo(policy::recordAccess);
+		}
+	}
+
+	private int stripe() {
+		int h = (int) Thread.currentThread().getId() * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & (readBuffers.length - 1);
+	}
+
+	@Override
+	public String toString() {
+		return "BoundedCache[" + policy.getClass().getSimpleName() + ", " + size() + "/" + capacity() + "]";
+	}
+}
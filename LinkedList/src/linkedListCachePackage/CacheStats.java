@@ -0,0 +1,68 @@
+package linkedListCachePackage;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Hit, miss and eviction counters of a {@link BoundedCache}; safe to read while the cache is in use */
+public final class CacheStats {
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder droppedReads = new LongAdder();
+
+	void recordHit() {
+		hits.increment();
+	}
+
+	void recordMiss() {
+		misses.increment();
+	}
+
+	void recordEviction() {
+		evictions.increment();
+	}
+
+	void recordDroppedRead() {
+		droppedReads.increment();
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	public long getRequestCount() {
+		return getHitCount() + getMissCount();
+	}
+
+	/** Hits over all lookups, or 0 if there has been none */
+	public double getHitRate() {
+		long hit = getHitCount();
+		long total = hit + getMissCount();
+		return total == 0 ? 0 : (double) hit / total;
+	}
+
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/** Reads that were not passed on to the eviction policy because their read buffer was full */
+	public long getDroppedReadCount() {
+		return droppedReads.sum();
+	}
+
+	public void reset() {
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+		droppedReads.reset();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("CacheStats[hits=%d, misses=%d, hitRate=%.4f, evictions=%d, droppedReads=%d]",
+				getHitCount(), getMissCount(), getHitRate(), getEvictionCount(), getDroppedReadCount());
+	}
+}
@@ -0,0 +1,31 @@
+package linkedListCachePackage;
+
+/**
+ * Decides which key a {@link BoundedCache} gives up when it is full.
+ *
+ * <p>A policy only tracks keys, never values. It is not thread-safe: the cache calls it under its
+ * eviction lock, and replays reads to it later and in batches, so a policy must ignore
+ * {@link #recordAccess} for a key it no longer tracks.
+ */
+public interface EvictionPolicy<K> {
+
+	/** Maximum number of keys the policy keeps */
+	int capacity();
+
+	/** Number of keys currently tracked */
+	int size();
+
+	/** A tracked key was read or overwritten; unknown keys are ignored */
+	void recordAccess(K key);
+
+	/**
+	 * A new key was added to the cache.
+	 *
+	 * @return the key to evict to stay within {@link #capacity()}, or {@code null} if there is room.
+	 *         Policies with admission may return a key that has only just been inserted.
+	 */
+	K recordInsert(K key);
+
+	/** A key was removed from the cache by the caller; unknown keys are ignored */
+	void recordRemove(K key);
+}
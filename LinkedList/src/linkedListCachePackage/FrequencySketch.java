@@ -0,0 +1,75 @@
+package linkedListCachePackage;
+
+/**
+ * Approximate access counts in constant space: a count-min sketch of 4-bit counters.
+ *
+ * <p>Every key maps to one counter in each of {@value #DEPTH} rows; an increment bumps all of
+ * them (up to 15) and the estimate is the smallest. Collisions can only inflate an estimate, and
+ * taking the minimum over rows keeps that rare. Once {@code sampleSize} increments have been
+ * seen, every counter is halved, so old popularity fades and the sketch follows a changing
+ * workload.
+ */
+final class FrequencySketch<K> {
+	static final int DEPTH = 4;
+	static final int MAX_COUNT = 15;
+
+	private static final int[] SEEDS = {0x97CB3127, 0xB492B66F, 0x9AE16A3B, 0xC3A5C85C};
+
+	/** Row {@code r}, column {@code c} lives at {@code r * width + c} */
+	private final byte[] counters;
+	private final int mask;
+	private final int sampleSize;
+	private int additions;
+
+	/** @param expectedKeys number of distinct keys worth telling apart, typically the cache capacity */
+	FrequencySketch(int expectedKeys) {
+		int width = Integer.highestOneBit(Math.max(16, expectedKeys - 1) << 1);
+		this.counters = new byte[DEPTH * width];
+		this.mask = width - 1;
+		this.sampleSize = 10 * Math.max(16, expectedKeys);
+	}
+
+	int frequency(K key) {
+		int hash = spread(key);
+		int min = MAX_COUNT;
+		for (int row = 0; row < DEPTH; row++) {
+			min = Math.min(min, counters[index(hash, row)]);
+		}
+		return min;
+	}
+
+	void increment(K key) {
+		int hash = spread(key);
+		boolean added = false;
+		for (int row = 0; row < DEPTH; row++) {
+			int i = index(hash, row);
+			if (counters[i] < MAX_COUNT) {
+				counters[i]++;
+				added = true;
+			}
+		}
+
+		if (added && ++additions == sampleSize) {
+			reset();
+		}
+	}
+
+	/** Halves every counter (and the addition count with them) */
+	private void reset() {
+		for (int i = 0; i < counters.length; i++) {
+			counters[i] >>= 1;
+		}
+		additions >>= 1;
+	}
+
+	private int index(int hash, int row) {
+		int h = hash * SEEDS[row];
+		h ^= h >>> 16;
+		return row * (mask + 1) + (h & mask);
+	}
+
+	private static int spread(Object key) {
+		int h = key.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 15);
+	}
+}
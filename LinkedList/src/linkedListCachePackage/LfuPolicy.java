@@ -0,0 +1,120 @@
+package linkedListCachePackage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import linkedListUtilityPackage.DoublyLinkedList;
+import linkedListUtilityPackage.DoublyLinkedListNode;
+
+/**
+ * Least frequently used, with O(1) operations.
+ *
+ * <p>Keys with the same access count share a bucket, and buckets form a {@link DoublyLinkedList}
+ * ordered by count. An access moves the key into the neighbouring bucket (count + 1), creating
+ * it if needed and dropping the old bucket once it is empty, so nothing is ever searched or
+ * sorted. Within a bucket keys are kept in LRU order, which breaks ties: the victim is the least
+ * recently used key of the lowest-count bucket.
+ *
+ * <p>Counts are never aged, so a key that was hot once can outstay its welcome; see
+ * {@link WindowTinyLfuPolicy} for a frequency based policy that adapts.
+ */
+public final class LfuPolicy<K> implements EvictionPolicy<K> {
+	private final int capacity;
+	private final Map<K, Entry<K>> entries = new HashMap<>();
+
+	/** Buckets in increasing count order */
+	private final DoublyLinkedList<Bucket<K>> buckets = new DoublyLinkedList<>();
+
+	private static final class Bucket<K> {
+		final long count;
+		final DoublyLinkedList<K> keys = new DoublyLinkedList<>();
+
+		Bucket(long count) {
+			this.count = count;
+		}
+	}
+
+	private static final class Entry<K> {
+		DoublyLinkedListNode<Bucket<K>> bucket;
+		DoublyLinkedListNode<K> node;
+	}
+
+	public LfuPolicy(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		}
+		this.capacity = capacity;
+	}
+
+	@Override
+	public int capacity() {
+		return capacity;
+	}
+
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	/** Access count of {@code key}, or 0 if it is not tracked */
+	public long frequency(K key) {
+		Entry<K> entry = entries.get(key);
+		return entry == null ? 0 : entry.bucket.value.count;
+	}
+
+	@Override
+	public void recordAccess(K key) {
+		Entry<K> entry = entries.get(key);
+		if (entry == null) {
+			return;
+		}
+
+		DoublyLinkedListNode<Bucket<K>> current = entry.bucket;
+		long count = current.value.count + 1;
+		DoublyLinkedListNode<Bucket<K>> target = current.next;
+		if (target == null || target.value.count != count) {
+			target = buckets.insertNodeAfter(current, new Bucket<>(count));
+		}
+
+		leave(entry);
+		entry.bucket = target;
+		entry.node = target.value.keys.insertNodeAtTail(key);
+	}
+
+	@Override
+	public K recordInsert(K key) {
+		K victim = null;
+		if (entries.size() == capacity) {
+			victim = buckets.getHead().value.keys.getHead().value;
+			leave(entries.remove(victim));
+		}
+
+		DoublyLinkedListNode<Bucket<K>> first = buckets.getHead();
+		if (first == null || first.value.count != 1) {
+			first = buckets.insertNodeAtHead(new Bucket<>(1));
+		}
+
+		Entry<K> entry = new Entry<>();
+		entry.bucket = first;
+		entry.node = first.value.keys.insertNodeAtTail(key);
+		entries.put(key, entry);
+		return victim;
+	}
+
+	@Override
+	public void recordRemove(K key) {
+		Entry<K> entry = entries.remove(key);
+		if (entry != null) {
+			leave(entry);
+		}
+	}
+
+	/** Takes the entry's key out of its bucket, dropping the bucket if that empties it */
+	private void leave(Entry<K> entry) {
+		DoublyLinkedList<K> keys = entry.bucket.value.keys;
+		keys.deleteNode(entry.node);
+		if (keys.isEmpty()) {
+			buckets.deleteNode(entry.bucket);
+		}
+	}
+}
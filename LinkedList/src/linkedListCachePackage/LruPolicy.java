@@ -0,0 +1,62 @@
+package linkedListCachePackage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import linkedListUtilityPackage.DoublyLinkedList;
+import linkedListUtilityPackage.DoublyLinkedListNode;
+
+/**
+ * Least recently used: keys sit in a {@link DoublyLinkedList} from least (head) to most (tail)
+ * recently used, and a map from key to node makes every operation O(1).
+ */
+public final class LruPolicy<K> implements EvictionPolicy<K> {
+	private final int capacity;
+	private final Map<K, DoublyLinkedListNode<K>> nodes = new HashMap<>();
+	private final DoublyLinkedList<K> order = new DoublyLinkedList<>();
+
+	public LruPolicy(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		}
+		this.capacity = capacity;
+	}
+
+	@Override
+	public int capacity() {
+		return capacity;
+	}
+
+	@Override
+	public int size() {
+		return order.size();
+	}
+
+	@Override
+	public void recordAccess(K key) {
+		DoublyLinkedListNode<K> node = nodes.get(key);
+		if (node != null) {
+			order.moveToTail(node);
+		}
+	}
+
+	@Override
+	public K recordInsert(K key) {
+		nodes.put(key, order.insertNodeAtTail(key));
+		if (order.size() <= capacity) {
+			return null;
+		}
+
+		K victim = order.deleteAtHead();
+		nodes.remove(victim);
+		return victim;
+	}
+
+	@Override
+	public void recordRemove(K key) {
+		DoublyLinkedListNode<K> node = nodes.remove(key);
+		if (node != null) {
+			order.deleteNode(node);
+		}
+	}
+}
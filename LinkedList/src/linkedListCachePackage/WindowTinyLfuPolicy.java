@@ -0,0 +1,164 @@
+package linkedListCachePackage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import linkedListUtilityPackage.DoublyLinkedList;
+import linkedListUtilityPackage.DoublyLinkedListNode;
+
+/**
+ * W-TinyLFU: a small LRU window in front of a segmented LRU main area, with a frequency sketch
+ * deciding what may enter the main area.
+ *
+ * <ul>
+ *   <li><b>window</b> ({@value #WINDOW_PERCENT}% of the capacity, at least one key) - every new
+ *       key starts here, which lets bursts of fresh keys build up a history before being judged.</li>
+ *   <li><b>probation</b> - keys admitted to the main area. An access promotes a key to
+ *       protected.</li>
+ *   <li><b>protected</b> (up to {@value #PROTECTED_PERCENT}% of the main area) - its least
+ *       recently used key is demoted back to probation when it overflows.</li>
+ * </ul>
+ *
+ * <p>When the window overflows, its LRU key becomes a candidate for the main area. If the main
+ * area is full, the candidate only gets in if the {@link FrequencySketch} has seen it more often
+ * than the main area's victim (the LRU key of probation); otherwise the candidate itself is
+ * evicted. This keeps one-off keys, such as a scan, from flushing popular ones.
+ *
+ * <p>Each segment is a {@link DoublyLinkedList} of keys, and a map from key to node makes every
+ * operation O(1).
+ */
+public final class WindowTinyLfuPolicy<K> implements EvictionPolicy<K> {
+	static final int WINDOW_PERCENT = 1;
+	static final int PROTECTED_PERCENT = 80;
+
+	private enum Segment {
+		WINDOW, PROBATION, PROTECTED
+	}
+
+	private static final class Entry<K> {
+		Segment segment;
+		DoublyLinkedListNode<K> node;
+	}
+
+	private final int capacity;
+	private final int windowCapacity;
+	private final int mainCapacity;
+	private final int protectedCapacity;
+
+	private final Map<K, Entry<K>> entries = new HashMap<>();
+	private final DoublyLinkedList<K> window = new DoublyLinkedList<>();
+	private final DoublyLinkedList<K> probation = new DoublyLinkedList<>();
+	private final DoublyLinkedList<K> protectedKeys = new DoublyLinkedList<>();
+	private final FrequencySketch<K> sketch;
+
+	public WindowTinyLfuPolicy(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		}
+		this.capacity = capacity;
+		this.windowCapacity = Math.max(1, (int) ((long) capacity * WINDOW_PERCENT / 100));
+		this.mainCapacity = capacity - windowCapacity;
+		this.protectedCapacity = (int) ((long) mainCapacity * PROTECTED_PERCENT / 100);
+		this.sketch = new FrequencySketch<>(capacity);
+	}
+
+	@Override
+	public int capacity() {
+		return capacity;
+	}
+
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	/** Estimated recent access count of {@code key}, tracked or not (0 to 15) */
+	public int frequency(K key) {
+		return sketch.frequency(key);
+	}
+
+	@Override
+	public void recordAccess(K key) {
+		Entry<K> entry = entries.get(key);
+		if (entry == null) {
+			return;
+		}
+
+		sketch.increment(key);
+		switch (entry.segment) {
+		case WINDOW:
+			window.moveToTail(entry.node);
+			break;
+		case PROBATION:
+			probation.deleteNode(entry.node);
+			place(entry, key, Segment.PROTECTED);
+			if (protectedKeys.size() > protectedCapacity) {
+				K demoted = protectedKeys.getHead().value;
+				Entry<K> demotedEntry = entries.get(demoted);
+				protectedKeys.deleteNode(demotedEntry.node);
+				place(demotedEntry, demoted, Segment.PROBATION);
+			}
+			break;
+		case PROTECTED:
+			protectedKeys.moveToTail(entry.node);
+			break;
+		}
+	}
+
+	@Override
+	public K recordInsert(K key) {
+		sketch.increment(key);
+
+		Entry<K> entry = new Entry<>();
+		place(entry, key, Segment.WINDOW);
+		entries.put(key, entry);
+
+		if (window.size() <= windowCapacity) {
+			return null;
+		}
+
+		K candidate = window.deleteAtHead();
+		Entry<K> candidateEntry = entries.get(candidate);
+
+		if (probation.size() + protectedKeys.size() < mainCapacity) {
+			place(candidateEntry, candidate, Segment.PROBATION);
+			return null;
+		}
+
+		DoublyLinkedList<K> victims = probation.isEmpty() ? protectedKeys : probation;
+		if (victims.isEmpty() || sketch.frequency(candidate) <= sketch.frequency(victims.getHead().value)) {
+			entries.remove(candidate);
+			return candidate;
+		}
+
+		K victim = victims.deleteAtHead();
+		entries.remove(victim);
+		place(candidateEntry, candidate, Segment.PROBATION);
+		return victim;
+	}
+
+	@Override
+	public void recordRemove(K key) {
+		Entry<K> entry = entries.remove(key);
+		if (entry != null) {
+			segment(entry.segment).deleteNode(entry.node);
+		}
+	}
+
+	/** Appends {@code key} as the most recently used key of {@code segment} */
+	private void place(Entry<K> entry, K key, Segment segment) {
+		entry.segment = segment;
+		entry.node = segment(segment).insertNodeAtTail(key);
+	}
+
+	private DoublyLinkedList<K> segment(Segment segment) {
+		switch (segment) {
+		case WINDOW:
+			return window;
+		case PROBATION:
+			return probation;
+		default:
+			return protectedKeys;
+		}
+	}
+}
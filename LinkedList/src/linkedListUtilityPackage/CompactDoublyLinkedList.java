@@ -0,0 +1,443 @@
+package linkedListUtilityPackage;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A doubly linked list whose links are 32-bit indices into arrays instead of node objects.
+ *
+ * <p>Element {@code i} is {@code values[i]} plus its links; {@link #NIL} marks either end of the
+ * chain. There is no per-element object, so compared to a {@link DoublyLinkedListNode} chain
+ * (object header + value + prev + next, 24 bytes with compressed references) each element costs:
+ * <ul>
+ *   <li><b>separate links</b> - value reference + {@code prev[i]} + {@code next[i]}: 12 bytes,</li>
+ *   <li><b>XOR links</b> - value reference + a single {@code prev ^ next} field: 8 bytes.</li>
+ * </ul>
+ * plus spare capacity, since the arrays grow by doubling. Deleted slots are threaded onto a free
+ * list and reused.
+ *
+ * <p>With XOR links an element's neighbours can only be recovered while walking, from the
+ * neighbour the walk came from; both directions still work, starting from {@code head} or
+ * {@code tail}. Internally every step is written that way, so the two layouts share the code.
+ *
+ * <p>All operations of {@code DoublyLinkedListInsertAndDelete} are supported with the same
+ * behaviour and errors as {@link DoublyLinkedList}. Index based operations walk from whichever
+ * end is closer.
+ */
+public class CompactDoublyLinkedList<T> implements Iterable<T> {
+	/** Link value meaning "no element". */
+	public static final int NIL = -1;
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final boolean xor;
+
+	private Object[] values;
+
+	/** Index of the next element; in XOR mode {@code prev ^ next}. Also chains free slots. */
+	private int[] next;
+
+	/** Index of the previous element; null in XOR mode */
+	private int[] prev;
+
+	private int head = NIL;
+	private int tail = NIL;
+	private int size;
+
+	/** Head of the chain of reusable slots. */
+	private int free = NIL;
+
+	/** Slots below this index have been handed out at least once. */
+	private int used;
+
+	public CompactDoublyLinkedList() {
+		this(DEFAULT_CAPACITY, false);
+	}
+
+	/**
+	 * @param initialCapacity number of elements before the arrays first grow
+	 * @param xorLinks        store a single {@code prev ^ next} link per element instead of two
+	 */
+	public CompactDoublyLinkedList(int initialCapacity, boolean xorLinks) {
+		int capacity = Math.max(1, initialCapacity);
+		this.xor = xorLinks;
+		this.values = new Object[capacity];
+		this.next = new int[capacity];
+		this.prev = xorLinks ? null : new int[capacity];
+	}
+
+	public static <T> CompactDoublyLinkedList<T> withXorLinks() {
+		return new CompactDoublyLinkedList<>(DEFAULT_CAPACITY, true);
+	}
+
+	public boolean hasXorLinks() {
+		return xor;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	// ----------------------------------------
+	// 💠 INSERTION OPERATIONS
+	// ----------------------------------------
+
+	/** Insert a new value at the head of the list in O(1) */
+	public void insertAtHead(T value) {
+		int node = allocate(value);
+		setLinks(node, NIL, head);
+
+		if (head != NIL) {
+			replacePrev(head, NIL, node);
+		} else {
+			tail = node;
+		}
+		head = node;
+		size++;
+	}
+
+	/** Insert a new value at the tail of the list in O(1) */
+	public void insertAtTail(T value) {
+		int node = allocate(value);
+		setLinks(node, tail, NIL);
+
+		if (tail != NIL) {
+			replaceNext(tail, NIL, node);
+		} else {
+			head = node;
+		}
+		tail = node;
+		size++;
+	}
+
+	/**
+	 * Inserts a new value so that it ends up at the given index.
+	 *
+	 * @throws Exception if the index is negative or greater than the length
+	 */
+	public void insertAtIndex(int index, T value) throws Exception {
+		if (index < 0)
+			throw new Exception("Invalid index: negative");
+
+		if (index == 0) {
+			insertAtHead(value);
+			return;
+		}
+
+		if (head == NIL)
+			throw new Exception("Invalid index: empty list");
+
+		if (index > size)
+			throw new Exception("Invalid index: list shorter than index");
+
+		if (index == size) {
+			insertAtTail(value);
+			return;
+		}
+
+		long found = locate(index);
+		int before = before(found);
+		int after = node(found);
+
+		int node = allocate(value);
+		setLinks(node, before, after);
+		replaceNext(before, after, node);
+		replacePrev(after, before, node);
+		size++;
+	}
+
+	// ----------------------------------------
+	// 💠 DELETION OPERATIONS
+	// ----------------------------------------
+
+	/**
+	 * Deletes the head in O(1).
+	 *
+	 * @return the deleted value, or {@code null} if the list was empty
+	 */
+	public T deleteAtHead() {
+		if (head == NIL)
+			return null;
+
+		return unlink(NIL, head, nextOf(NIL, head));
+	}
+
+	/**
+	 * Deletes the tail in O(1).
+	 *
+	 * @return the deleted value
+	 * @throws Exception if the list is empty
+	 */
+	public T deleteAtTail() throws Exception {
+		if (tail == NIL)
+			throw new Exception("Invalid - Empty List");
+
+		return unlink(prevOf(tail, NIL), tail, NIL);
+	}
+
+	/**
+	 * Deletes the value at the given index.
+	 *
+	 * @return the deleted value
+	 * @throws Exception if the index is negative, the list is empty or the index is past the tail
+	 */
+	public T deleteAtIndex(int index) throws Exception {
+		if (index < 0)
+			throw new Exception("Invalid - negative index");
+
+		if (head == NIL)
+			throw new Exception("Invalid - Empty List");
+
+		if (index >= size)
+			throw new Exception("Invalid index - List is smaller!");
+
+		long found = locate(index);
+		int before = before(found);
+		int node = node(found);
+		return unlink(before, node, nextOf(before, node));
+	}
+
+	/**
+	 * Deletes the first element equal to {@code value}.
+	 *
+	 * @throws Exception if the list is empty or the value is not present
+	 */
+	public void deleteFirstInstance(T value) throws Exception {
+		if (head == NIL)
+			throw new Exception("Empty List");
+
+		int before = NIL;
+		for (int curr = head; curr != NIL; ) {
+			int after = nextOf(before, curr);
+			if (Objects.equals(values[curr], value)) {
+				unlink(before, curr, after);
+				return;
+			}
+			before = curr;
+			curr = after;
+		}
+
+		throw new Exception("Item not found");
+	}
+
+	/** Removes every element; the arrays are kept for reuse */
+	public void clear() {
+		Arrays.fill(values, 0, used, null);
+		head = tail = free = NIL;
+		size = used = 0;
+	}
+
+	// ----------------------------------------
+	// 💠 ACCESS AND TRAVERSAL
+	// ----------------------------------------
+
+	/**
+	 * Returns the value at the given index.
+	 *
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public T get(int index) throws Exception {
+		if (index < 0 || index >= size)
+			throw new Exception("Invalid index - List is smaller!");
+
+		return valueAt(node(locate(index)));
+	}
+
+	/** Returns the index of the first occurrence of {@code value}, or -1 if absent */
+	public int indexOf(T value) {
+		int index = 0;
+		for (int before = NIL, curr = head; curr != NIL; index++) {
+			if (Objects.equals(values[curr], value)) {
+				return index;
+			}
+			int after = nextOf(before, curr);
+			before = curr;
+			curr = after;
+		}
+		return -1;
+	}
+
+	public boolean contains(T value) {
+		return indexOf(value) >= 0;
+	}
+
+	/** Iterates from head to tail */
+	@Override
+	public Iterator<T> iterator() {
+		return new Walker(head, true);
+	}
+
+	/** Iterates from tail to head */
+	public Iterator<T> descendingIterator() {
+		return new Walker(tail, false);
+	}
+
+	@Override
+	public String toString() {
+		return LinkedListPrinter.toString(this, size, LinkedListPrinter.DOUBLY_ARROW,
+				LinkedListPrinter.DEFAULT_LIMIT);
+	}
+
+	private final class Walker implements Iterator<T> {
+		private final boolean forward;
+		private int from = NIL;
+		private int curr;
+
+		Walker(int start, boolean forward) {
+			this.curr = start;
+			this.forward = forward;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return curr != NIL;
+		}
+
+		@Override
+		public T next() {
+			if (curr == NIL) {
+				throw new NoSuchElementException();
+			}
+
+			int node = curr;
+			curr = forward ? nextOf(from, node) : prevOf(node, from);
+			from = node;
+			return valueAt(node);
+		}
+	}
+
+	// ----------------------------------------
+	// 💠 LINKS
+	// Every step names the neighbour it comes from, which is all an
+	// XOR link needs; separate links simply ignore it.
+	// ----------------------------------------
+
+	/** The element after {@code node}, whose previous element is {@code before} */
+	private int nextOf(int before, int node) {
+		return xor ? next[node] ^ before : next[node];
+	}
+
+	/** The element before {@code node}, whose next element is {@code after} */
+	private int prevOf(int node, int after) {
+		return xor ? next[node] ^ after : prev[node];
+	}
+
+	private void setLinks(int node, int before, int after) {
+		if (xor) {
+			next[node] = before ^ after;
+		} else {
+			prev[node] = before;
+			next[node] = after;
+		}
+	}
+
+	private void replaceNext(int node, int oldNext, int newNext) {
+		if (xor) {
+			next[node] ^= oldNext ^ newNext;
+		} else {
+			next[node] = newNext;
+		}
+	}
+
+	private void replacePrev(int node, int oldPrev, int newPrev) {
+		if (xor) {
+			next[node] ^= oldPrev ^ newPrev;
+		} else {
+			prev[node] = newPrev;
+		}
+	}
+
+	/**
+	 * Walks from the closer end to the element at {@code index}. Returns it packed with the
+	 * element before it (see {@link #node} and {@link #before}), since XOR links need both.
+	 */
+	private long locate(int index) {
+		int before;
+		int node;
+
+		if (index < (size >> 1)) {
+			before = NIL;
+			node = head;
+			for (int i = 0; i < index; i++) {
+				int after = nextOf(before, node);
+				before = node;
+				node = after;
+			}
+		} else {
+			int after = NIL;
+			node = tail;
+			for (int i = size - 1; i > index; i--) {
+				int previous = prevOf(node, after);
+				after = node;
+				node = previous;
+			}
+			before = prevOf(node, after);
+		}
+
+		return ((long) before << 32) | (node & 0xFFFFFFFFL);
+	}
+
+	private static int node(long found) {
+		return (int) found;
+	}
+
+	private static int before(long found) {
+		return (int) (found >> 32);
+	}
+
+	// ----------------------------------------
+	// 💠 SLOT MANAGEMENT
+	// ----------------------------------------
+
+	private T unlink(int before, int node, int after) {
+		if (before != NIL) {
+			replaceNext(before, node, after);
+		} else {
+			head = after;
+		}
+
+		if (after != NIL) {
+			replacePrev(after, node, before);
+		} else {
+			tail = before;
+		}
+
+		T value = valueAt(node);
+		values[node] = null;
+		next[node] = free;
+		free = node;
+		size--;
+		return value;
+	}
+
+	private int allocate(T value) {
+		int node;
+		if (free != NIL) {
+			node = free;
+			free = next[node];
+		} else {
+			if (used == values.length) {
+				int capacity = values.length << 1;
+				values = Arrays.copyOf(values, capacity);
+				next = Arrays.copyOf(next, capacity);
+				if (prev != null) {
+					prev = Arrays.copyOf(prev, capacity);
+				}
+			}
+			node = used++;
+		}
+		values[node] = value;
+		return node;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T valueAt(int node) {
+		return (T) values[node];
+	}
+}
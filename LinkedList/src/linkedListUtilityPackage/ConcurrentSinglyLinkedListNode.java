@@ -0,0 +1,27 @@
+package linkedListUtilityPackage;
+
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+/**
+ * Singly linked node whose {@code next} link can be updated atomically together with a
+ * "logically deleted" mark, as needed by lock-free lists.
+ */
+public class ConcurrentSinglyLinkedListNode<T> {
+	public final T value;
+	public final AtomicMarkableReference<ConcurrentSinglyLinkedListNode<T>> next;
+
+	public ConcurrentSinglyLinkedListNode(T value, ConcurrentSinglyLinkedListNode<T> next) {
+		this.value = value;
+		this.next = new AtomicMarkableReference<>(next, false);
+	}
+
+	/** Whether this node has been logically deleted from its list */
+	public boolean isMarked() {
+		return next.isMarked();
+	}
+
+	@Override
+	public String toString() {
+		return value + (isMarked() ? " (deleted)" : "");
+	}
+}
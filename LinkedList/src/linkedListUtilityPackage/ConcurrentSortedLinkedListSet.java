@@ -0,0 +1,192 @@
+package linkedListUtilityPackage;
+
+/**
+ * A lock-free sorted set backed by a singly linked list (Harris-Michael algorithm).
+ *
+ * <p>Every node's {@code next} link is an {@link java.util.concurrent.atomic.AtomicMarkableReference}.
+ * Removing a value happens in two steps:
+ * <ol>
+ *   <li><b>Logical delete</b> - CAS the mark bit of the victim's own {@code next} link. From this
+ *   moment the value is no longer in the set, and no thread can link a new node after it.</li>
+ *   <li><b>Physical unlink</b> - CAS the predecessor's {@code next} from the victim to the
+ *   victim's successor. If this CAS loses a race, the next traversal that meets the marked node
+ *   snips it out instead.</li>
+ * </ol>
+ *
+ * <p><b>Progress guarantees:</b>
+ * <ul>
+ *   <li>{@link #add} and {@link #remove} are lock-free: a CAS only fails because another thread's
+ *   CAS succeeded.</li>
+ *   <li>{@link #contains} is wait-free: it never writes and never restarts, it just walks
+ *   forward and checks the mark of the node it lands on.</li>
+ * </ul>
+ *
+ * <p>Null values are not permitted. {@link #size()}, {@link #toString()} and
+ * {@link #snapshot()} are weakly consistent while writers are active.
+ */
+public class ConcurrentSortedLinkedListSet<T extends Comparable<? super T>> {
+
+	/** Sentinel in front of the first real node; its value is never compared. */
+	private final ConcurrentSinglyLinkedListNode<T> head = new ConcurrentSinglyLinkedListNode<>(null, null);
+
+	/** Result of {@link #find}: {@code pred.value < value <= curr.value}, {@code curr} may be null. */
+	private static final class Window<T> {
+		final ConcurrentSinglyLinkedListNode<T> pred;
+		final ConcurrentSinglyLinkedListNode<T> curr;
+
+		Window(ConcurrentSinglyLinkedListNode<T> pred, ConcurrentSinglyLinkedListNode<T> curr) {
+			this.pred = pred;
+			this.curr = curr;
+		}
+	}
+
+	/**
+	 * Adds the value if it is not already present.
+	 *
+	 * @return true if the set changed
+	 */
+	public boolean add(T value) {
+		checkNotNull(value);
+
+		while (true) {
+			Window<T> window = find(value);
+			ConcurrentSinglyLinkedListNode<T> curr = window.curr;
+
+			if (curr != null && curr.value.compareTo(value) == 0) {
+				return false;
+			}
+
+			ConcurrentSinglyLinkedListNode<T> node = new ConcurrentSinglyLinkedListNode<>(value, curr);
+			if (window.pred.next.compareAndSet(curr, node, false, false)) {
+				return true;
+			}
+			// pred changed or was marked - search again
+		}
+	}
+
+	/**
+	 * Removes the value if it is present.
+	 *
+	 * @return true if the set changed
+	 */
+	public boolean remove(T value) {
+		checkNotNull(value);
+
+		while (true) {
+			Window<T> window = find(value);
+			ConcurrentSinglyLinkedListNode<T> curr = window.curr;
+
+			if (curr == null || curr.value.compareTo(value) != 0) {
+				return false;
+			}
+
+			ConcurrentSinglyLinkedListNode<T> succ = curr.next.getReference();
+
+			// Logical delete; fails if succ changed or someone else marked curr first
+			if (!curr.next.compareAndSet(succ, succ, false, true)) {
+				continue;
+			}
+
+			// Physical unlink; if this fails a later find() will snip the node
+			window.pred.next.compareAndSet(curr, succ, false, false);
+			return true;
+		}
+	}
+
+	/** Wait-free membership test */
+	public boolean contains(T value) {
+		checkNotNull(value);
+
+		ConcurrentSinglyLinkedListNode<T> curr = head.next.getReference();
+		while (curr != null && curr.value.compareTo(value) < 0) {
+			curr = curr.next.getReference();
+		}
+
+		return curr != null && curr.value.compareTo(value) == 0 && !curr.isMarked();
+	}
+
+	public boolean isEmpty() {
+		return firstLive() == null;
+	}
+
+	/** Counts the unmarked nodes; O(n) and weakly consistent */
+	public int size() {
+		int size = 0;
+		for (ConcurrentSinglyLinkedListNode<T> curr = firstLive(); curr != null; curr = nextLive(curr)) {
+			size++;
+		}
+		return size;
+	}
+
+	/** Copies the values that are currently present, in ascending order, into a new list */
+	public SinglyLinkedList<T> snapshot() {
+		SinglyLinkedList<T> list = new SinglyLinkedList<>();
+		for (ConcurrentSinglyLinkedListNode<T> curr = firstLive(); curr != null; curr = nextLive(curr)) {
+			list.insertAtTail(curr.value);
+		}
+		return list;
+	}
+
+	@Override
+	public String toString() {
+		return snapshot().toString();
+	}
+
+	/**
+	 * Finds the window around {@code value}, unlinking every marked node met on the way.
+	 * Restarts from the head if an unlink CAS fails, since the predecessor may itself be marked.
+	 */
+	private Window<T> find(T value) {
+		boolean[] marked = { false };
+
+		retry:
+		while (true) {
+			ConcurrentSinglyLinkedListNode<T> pred = head;
+			ConcurrentSinglyLinkedListNode<T> curr = pred.next.getReference();
+
+			while (true) {
+				if (curr == null) {
+					return new Window<>(pred, null);
+				}
+
+				ConcurrentSinglyLinkedListNode<T> succ = curr.next.get(marked);
+				while (marked[0]) {
+					if (!pred.next.compareAndSet(curr, succ, false, false)) {
+						continue retry;
+					}
+
+					curr = succ;
+					if (curr == null) {
+						return new Window<>(pred, null);
+					}
+					succ = curr.next.get(marked);
+				}
+
+				if (curr.value.compareTo(value) >= 0) {
+					return new Window<>(pred, curr);
+				}
+
+				pred = curr;
+				curr = succ;
+			}
+		}
+	}
+
+	private ConcurrentSinglyLinkedListNode<T> firstLive() {
+		return nextLive(head);
+	}
+
+	private ConcurrentSinglyLinkedListNode<T> nextLive(ConcurrentSinglyLinkedListNode<T> node) {
+		ConcurrentSinglyLinkedListNode<T> curr = node.next.getReference();
+		while (curr != null && curr.isMarked()) {
+			curr = curr.next.getReference();
+		}
+		return curr;
+	}
+
+	private static void checkNotNull(Object value) {
+		if (value == null) {
+			throw new NullPointerException("Null values are not supported");
+		}
+	}
+}
@@ -0,0 +1,403 @@
+package linkedListUtilityPackage;
+
+import java.util.Objects;
+
+import linkedListUtilityPackage.LinkedListMetrics.Container;
+import linkedListUtilityPackage.LinkedListMetrics.Operation;
+
+/**
+ * A doubly linked list container around a chain of {@link DoublyLinkedListNode}s.
+ *
+ * <p>Besides the head it keeps a reference to the tail and the number of nodes, and updates
+ * all three on every operation. Insert and delete at either end, and length, are O(1). Index
+ * based operations walk from whichever end is closer.
+ *
+ * <p>The chain is exposed through {@link #getHead()} and {@link #getTail()} for read-only
+ * traversal. Mutating the nodes' {@code prev}/{@code next} links directly would leave the
+ * tail and size out of date.
+ *
+ * <p>A list created with a {@link NodePool} takes its nodes from the pool and returns deleted
+ * nodes to it, so insert/delete churn allocates (almost) nothing.
+ *
+ * <p>Inserts and deletes report to {@link LinkedListMetrics} when it is enabled.
+ */
+public class DoublyLinkedList<T> {
+	DoublyLinkedListNode<T> head;
+	DoublyLinkedListNode<T> tail;
+	int size;
+
+	/** Source of new nodes and sink for deleted ones; null allocates and drops normally */
+	final NodePool<DoublyLinkedListNode<T>> pool;
+
+	public DoublyLinkedList() {
+		this(null);
+	}
+
+	public DoublyLinkedList(NodePool<DoublyLinkedListNode<T>> pool) {
+		this.pool = pool;
+	}
+
+	public DoublyLinkedListNode<T> getHead() {
+		return head;
+	}
+
+	public DoublyLinkedListNode<T> getTail() {
+		return tail;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	// ----------------------------------------
+	// 💠 INSERTION OPERATIONS
+	// ----------------------------------------
+
+	/** Insert a new node at the head of the list in O(1) */
+	public void insertAtHead(T value) {
+		long start = LinkedListMetrics.ENABLED ? LinkedListMetrics.start() : 0L;
+		ListOperationEvent event = LinkedListMetrics.ENABLED ? LinkedListMetrics.beginEvent() : null;
+		linkAtHead(value);
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.record(Container.DOUBLY, Operation.INSERT_AT_HEAD, start, 0, event);
+		}
+	}
+
+	/** Insert a new node at the tail of the list in O(1) */
+	public void insertAtTail(T value) {
+		long start = LinkedListMetrics.ENABLED ? LinkedListMetrics.start() : 0L;
+		ListOperationEvent event = LinkedListMetrics.ENABLED ? LinkedListMetrics.beginEvent() : null;
+		linkAtTail(value);
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.record(Container.DOUBLY, Operation.INSERT_AT_TAIL, start, 0, event);
+		}
+	}
+
+	/**
+	 * Inserts a new node so that it ends up at the given index.
+	 *
+	 * @throws Exception if the index is negative or greater than the length
+	 */
+	public void insertAtIndex(int index, T value) throws Exception {
+		long start = LinkedListMetrics.ENABLED ? LinkedListMetrics.start() : 0L;
+		ListOperationEvent event = LinkedListMetrics.ENABLED ? LinkedListMetrics.beginEvent() : null;
+		int hops = 0;
+
+		if (index < 0)
+			throw new Exception("Invalid index: negative");
+
+		if (index == 0) {
+			linkAtHead(value);
+		} else {
+			if (head == null)
+				throw new Exception("Invalid index: empty list");
+
+			if (index > size)
+				throw new Exception("Invalid index: list shorter than index");
+
+			if (index == size) {
+				linkAtTail(value);
+			} else {
+				hops = LinkedListMetrics.ENABLED ? hopsTo(index) : 0;
+				DoublyLinkedListNode<T> after = nodeAt(index);
+				DoublyLinkedListNode<T> node = newNode(value, after.prev, after);
+				after.prev.next = node;
+				after.prev = node;
+				size++;
+			}
+		}
+
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.record(Container.DOUBLY, Operation.INSERT_AT_INDEX, start, hops, event);
+		}
+	}
+
+	private void linkAtHead(T value) {
+		DoublyLinkedListNode<T> node = newNode(value, null, head);
+
+		if (head != null) {
+			head.prev = node;
+		} else {
+			tail = node;
+		}
+		head = node;
+		size++;
+	}
+
+	private void linkAtTail(T value) {
+		DoublyLinkedListNode<T> node = newNode(value, tail, null);
+
+		if (tail != null) {
+			tail.next = node;
+		} else {
+			head = node;
+		}
+		tail = node;
+		size++;
+	}
+
+	// ----------------------------------------
+	// 💠 DELETION OPERATIONS
+	// ----------------------------------------
+
+	/**
+	 * Deletes the head node in O(1).
+	 *
+	 * @return the deleted value, or {@code null} if the list was empty
+	 */
+	public T deleteAtHead() {
+		if (head == null)
+			return null;
+
+		long start = LinkedListMetrics.ENABLED ? LinkedListMetrics.start() : 0L;
+		ListOperationEvent event = LinkedListMetrics.ENABLED ? LinkedListMetrics.beginEvent() : null;
+		T value = unlink(head);
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.record(Container.DOUBLY, Operation.DELETE_AT_HEAD, start, 0, event);
+		}
+		return value;
+	}
+
+	/**
+	 * Deletes the tail node in O(1).
+	 *
+	 * @return the deleted value
+	 * @throws Exception if the list is empty
+	 */
+	public T deleteAtTail() throws Exception {
+		if (tail == null)
+			throw new Exception("Invalid - Empty List");
+
+		long start = LinkedListMetrics.ENABLED ? LinkedListMetrics.start() : 0L;
+		ListOperationEvent event = LinkedListMetrics.ENABLED ? LinkedListMetrics.beginEvent() : null;
+		T value = unlink(tail);
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.record(Container.DOUBLY, Operation.DELETE_AT_TAIL, start, 0, event);
+		}
+		return value;
+	}
+
+	/**
+	 * Deletes the node at the given index.
+	 *
+	 * @return the deleted value
+	 * @throws Exception if the index is negative, the list is empty or the index is past the tail
+	 */
+	public T deleteAtIndex(int index) throws Exception {
+		long start = LinkedListMetrics.ENABLED ? LinkedListMetrics.start() : 0L;
+		ListOperationEvent event = LinkedListMetrics.ENABLED ? LinkedListMetrics.beginEvent() : null;
+
+		if (index < 0)
+			throw new Exception("Invalid - negative index");
+
+		if (head == null)
+			throw new Exception("Invalid - Empty List");
+
+		if (index >= size)
+			throw new Exception("Invalid index - List is smaller!");
+
+		int hops = LinkedListMetrics.ENABLED ? hopsTo(index) : 0;
+		T value = unlink(nodeAt(index));
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.record(Container.DOUBLY, Operation.DELETE_AT_INDEX, start, hops, event);
+		}
+		return value;
+	}
+
+	/**
+	 * Deletes the first node whose value equals {@code value}.
+	 *
+	 * @throws Exception if the list is empty or the value is not present
+	 */
+	public void deleteFirstInstance(T value) throws Exception {
+		if (head == null)
+			throw new Exception("Empty List");
+
+		long start = LinkedListMetrics.ENABLED ? LinkedListMetrics.start() : 0L;
+		ListOperationEvent event = LinkedListMetrics.ENABLED ? LinkedListMetrics.beginEvent() : null;
+		int hops = 0;
+		for (DoublyLinkedListNode<T> curr = head; curr != null; curr = curr.next, hops++) {
+			if (Objects.equals(curr.value, value)) {
+				unlink(curr);
+				if (LinkedListMetrics.ENABLED) {
+					LinkedListMetrics.record(Container.DOUBLY, Operation.DELETE_FIRST_INSTANCE, start, hops, event);
+				}
+				return;
+			}
+		}
+
+		throw new Exception("Item not found");
+	}
+
+	// ----------------------------------------
+	// 💠 ACCESS
+	// ----------------------------------------
+
+	/**
+	 * Returns the value at the given index, walking from whichever end is closer.
+	 *
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public T getElementAtIndex(int index) throws Exception {
+		if (index < 0 || index >= size)
+			throw new Exception("Invalid index - List is smaller!");
+
+		return nodeAt(index).value;
+	}
+
+	// ----------------------------------------
+	// 💠 NODE HANDLES
+	// For structures that keep references to this list's nodes (e.g. a
+	// key -> node map) and relink them in O(1). A node passed in must
+	// currently belong to this list.
+	// ----------------------------------------
+
+	/** Inserts a new node at the head and returns it */
+	public DoublyLinkedListNode<T> insertNodeAtHead(T value) {
+		insertAtHead(value);
+		return head;
+	}
+
+	/** Inserts a new node at the tail and returns it */
+	public DoublyLinkedListNode<T> insertNodeAtTail(T value) {
+		insertAtTail(value);
+		return tail;
+	}
+
+	/** Inserts a new node right after {@code node} and returns it */
+	public DoublyLinkedListNode<T> insertNodeAfter(DoublyLinkedListNode<T> node, T value) {
+		if (node == tail) {
+			return insertNodeAtTail(value);
+		}
+
+		DoublyLinkedListNode<T> created = newNode(value, node, node.next);
+		node.next.prev = created;
+		node.next = created;
+		size++;
+		return created;
+	}
+
+	/** Deletes {@code node} in O(1) and returns its value */
+	public T deleteNode(DoublyLinkedListNode<T> node) {
+		return unlink(node);
+	}
+
+	/** Moves {@code node} to the head in O(1) */
+	public void moveToHead(DoublyLinkedListNode<T> node) {
+		if (node == head) {
+			return;
+		}
+
+		detach(node);
+		node.next = head;
+		head.prev = node;
+		head = node;
+		size++;
+	}
+
+	/** Moves {@code node} to the tail in O(1) */
+	public void moveToTail(DoublyLinkedListNode<T> node) {
+		if (node == tail) {
+			return;
+		}
+
+		detach(node);
+		node.prev = tail;
+		tail.next = node;
+		tail = node;
+		size++;
+	}
+
+	/** Number of links {@link #nodeAt} follows to reach {@code index} */
+	int hopsTo(int index) {
+		return Math.min(index, size - 1 - index);
+	}
+
+	/** Returns the node at {@code index}; the caller guarantees {@code 0 <= index < size} */
+	DoublyLinkedListNode<T> nodeAt(int index) {
+		DoublyLinkedListNode<T> curr;
+		if (index < (size >> 1)) {
+			curr = head;
+			for (int i = 0; i < index; i++) {
+				curr = curr.next;
+			}
+		} else {
+			curr = tail;
+			for (int i = size - 1; i > index; i--) {
+				curr = curr.prev;
+			}
+		}
+		return curr;
+	}
+
+	/** Detaches {@code node} from the chain and returns its value */
+	T unlink(DoublyLinkedListNode<T> node) {
+		detach(node);
+		return recycle(node);
+	}
+
+	/** Takes {@code node} out of the chain, leaving its own links for the caller to reset */
+	private void detach(DoublyLinkedListNode<T> node) {
+		DoublyLinkedListNode<T> before = node.prev;
+		DoublyLinkedListNode<T> after = node.next;
+
+		if (before != null) {
+			before.next = after;
+		} else {
+			head = after;
+		}
+
+		if (after != null) {
+			after.prev = before;
+		} else {
+			tail = before;
+		}
+
+		node.prev = null;
+		node.next = null;
+		size--;
+	}
+
+	/** A node holding {@code value}, taken from the pool if there is one */
+	DoublyLinkedListNode<T> newNode(T value, DoublyLinkedListNode<T> prev, DoublyLinkedListNode<T> next) {
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.nodeAllocated();
+		}
+
+		if (pool == null) {
+			return new DoublyLinkedListNode<>(value, prev, next);
+		}
+
+		DoublyLinkedListNode<T> node = pool.acquire();
+		node.value = value;
+		node.prev = prev;
+		node.next = next;
+		return node;
+	}
+
+	/** Clears a detached node, hands it back to the pool and returns the value it held */
+	T recycle(DoublyLinkedListNode<T> node) {
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.nodeFreed();
+		}
+
+		T value = node.value;
+		node.prev = null;
+		node.next = null;
+
+		if (pool != null) {
+			node.value = null;
+			pool.release(node);
+		}
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(head);
+	}
+}
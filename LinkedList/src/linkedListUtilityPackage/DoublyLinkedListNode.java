@@ -1,5 +1,7 @@
 package linkedListUtilityPackage;
 
+import java.io.IOException;
+
 public class DoublyLinkedListNode<T> {
 	public T value;
 	public DoublyLinkedListNode<T> prev;
@@ -15,17 +17,21 @@ public class DoublyLinkedListNode<T> {
 		this.next = next;
 	}
 
+	/**
+	 * Writes this node and the nodes after it to {@code out}, rendering at most {@code limit}
+	 * values and checking every node's prev/next links on the way. See {@link LinkedListPrinter}.
+	 */
+	public void appendTo(Appendable out, int limit) throws IOException {
+		LinkedListPrinter.print(this, out, limit);
+	}
+
+	public String toString(int limit) {
+		return LinkedListPrinter.toString(this, limit);
+	}
+
 	@Override
 	public String toString() {
-		if (prev != null && prev.next != this) {
-			return "Wrong prev";
-		}
-		
-		if (next != null && next.prev != this) {
-			return "Wrong next";
-		}
-		
-		return value + " <=> " + next;
+		return LinkedListPrinter.toString(this, LinkedListPrinter.DEFAULT_LIMIT);
 	}
 	
 	
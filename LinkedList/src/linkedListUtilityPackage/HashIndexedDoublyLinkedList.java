@@ -0,0 +1,556 @@
+package linkedListUtilityPackage;
+
+/**
+ * A doubly linked list of {@code int} values with a hash index from each value to its nodes, so
+ * that finding a value never needs a scan.
+ *
+ * <p>The index is an open-addressing hash table keyed by the primitive value (linear probing,
+ * backward-shift deletion, so there are no tombstones). For each distinct value it keeps the
+ * first and last node holding it, and the nodes holding the same value are threaded together, in
+ * list order, through two extra links per node. Together this makes a multimap that is updated
+ * in O(1) by every operation, which gives:
+ * <ul>
+ *   <li>{@link #deleteFirstInstance}, {@link #contains}, {@link #count} - O(1),</li>
+ *   <li>{@link #moveToFront}, {@link #moveToBack} - O(1),</li>
+ *   <li>inserts and deletes at either end - O(1), at an index - O(n) for the walk only.</li>
+ * </ul>
+ * The list order is exactly that of a plain {@link DoublyLinkedList} given the same operations.
+ *
+ * <p>The chain is exposed through {@link #getHead()}/{@link #getTail()} for read-only traversal;
+ * changing a node's value or links directly would put the index out of sync.
+ */
+public class HashIndexedDoublyLinkedList {
+	private static final int INITIAL_TABLE_SIZE = 16;
+
+	/** A chain node that also links to the neighbouring nodes holding the same value */
+	private static final class Node extends DoublyLinkedListNode<Integer> {
+		Node samePrev;
+		Node sameNext;
+
+		Node(int value) {
+			super(value);
+		}
+
+		int key() {
+			return value;
+		}
+	}
+
+	private Node head;
+	private Node tail;
+	private int size;
+
+	// Index: value -> first/last node holding it, and how many nodes do
+	private int[] keys = new int[INITIAL_TABLE_SIZE];
+	private Node[] firsts = new Node[INITIAL_TABLE_SIZE];
+	private Node[] lasts = new Node[INITIAL_TABLE_SIZE];
+	private int[] counts = new int[INITIAL_TABLE_SIZE];
+	private int distinct;
+
+	public static HashIndexedDoublyLinkedList of(int... elements) {
+		HashIndexedDoublyLinkedList list = new HashIndexedDoublyLinkedList();
+		for (int value : elements) {
+			list.insertAtTail(value);
+		}
+		return list;
+	}
+
+	public DoublyLinkedListNode<Integer> getHead() {
+		return head;
+	}
+
+	public DoublyLinkedListNode<Integer> getTail() {
+		return tail;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/** Number of distinct values in the list */
+	public int distinctValues() {
+		return distinct;
+	}
+
+	// ----------------------------------------
+	// 💠 INSERTION OPERATIONS
+	// ----------------------------------------
+
+	/** Insert a new node at the head of the list in O(1) */
+	public void insertAtHead(int value) {
+		Node node = new Node(value);
+		linkBefore(node, head);
+		indexFirst(node);
+	}
+
+	/** Insert a new node at the tail of the list in O(1) */
+	public void insertAtTail(int value) {
+		Node node = new Node(value);
+		linkBefore(node, null);
+		indexLast(node);
+	}
+
+	/**
+	 * Inserts a new node so that it ends up at the given index.
+	 *
+	 * @throws Exception if the index is negative or greater than the length
+	 */
+	public void insertAtIndex(int index, int value) throws Exception {
+		if (index < 0)
+			throw new Exception("Invalid index: negative");
+
+		if (index == 0) {
+			insertAtHead(value);
+			return;
+		}
+
+		if (head == null)
+			throw new Exception("Invalid index: empty list");
+
+		if (index > size)
+			throw new Exception("Invalid index: list shorter than index");
+
+		if (index == size) {
+			insertAtTail(value);
+			return;
+		}
+
+		Node node = new Node(value);
+
+		// The walk passes every node on one side of the new one, and with it the new node's
+		// closest same-valued neighbour on that side
+		if (index < (size >> 1)) {
+			Node curr = head;
+			Node sameBefore = null;
+			for (int i = 0; i < index; i++) {
+				if (curr.key() == value) {
+					sameBefore = curr;
+				}
+				curr = next(curr);
+			}
+
+			linkBefore(node, curr);
+			if (sameBefore == null) {
+				indexFirst(node);
+			} else {
+				indexAfter(node, sameBefore);
+			}
+		} else {
+			Node curr = tail;
+			Node sameAfter = curr.key() == value ? curr : null;
+			for (int i = size - 1; i > index; i--) {
+				curr = prev(curr);
+				if (curr.key() == value) {
+					sameAfter = curr;
+				}
+			}
+
+			linkBefore(node, curr);
+			if (sameAfter == null) {
+				indexLast(node);
+			} else {
+				indexBefore(node, sameAfter);
+			}
+		}
+	}
+
+	// ----------------------------------------
+	// 💠 DELETION OPERATIONS
+	// ----------------------------------------
+
+	/**
+	 * Deletes the head node in O(1).
+	 *
+	 * @return the deleted value, or {@code null} if the list was empty
+	 */
+	public Integer deleteAtHead() {
+		if (head == null)
+			return null;
+
+		return delete(head);
+	}
+
+	/**
+	 * Deletes the tail node in O(1).
+	 *
+	 * @return the deleted value
+	 * @throws Exception if the list is empty
+	 */
+	public int deleteAtTail() throws Exception {
+		if (tail == null)
+			throw new Exception("Invalid - Empty List");
+
+		return delete(tail);
+	}
+
+	/**
+	 * Deletes the node at the given index.
+	 *
+	 * @return the deleted value
+	 * @throws Exception if the index is negative, the list is empty or the index is past the tail
+	 */
+	public int deleteAtIndex(int index) throws Exception {
+		if (index < 0)
+			throw new Exception("Invalid - negative index");
+
+		if (head == null)
+			throw new Exception("Invalid - Empty List");
+
+		if (index >= size)
+			throw new Exception("Invalid index - List is smaller!");
+
+		return delete(nodeAt(index));
+	}
+
+	/**
+	 * Deletes the first node holding {@code value} in O(1).
+	 *
+	 * @throws Exception if the list is empty or the value is not present
+	 */
+	public void deleteFirstInstance(int value) throws Exception {
+		if (head == null)
+			throw new Exception("Empty List");
+
+		int slot = find(value);
+		if (slot < 0)
+			throw new Exception("Item not found");
+
+		delete(firsts[slot]);
+	}
+
+	// ----------------------------------------
+	// 💠 LOOKUP AND REORDERING
+	// ----------------------------------------
+
+	public boolean contains(int value) {
+		return find(value) >= 0;
+	}
+
+	/** Number of nodes holding {@code value} */
+	public int count(int value) {
+		int slot = find(value);
+		return slot < 0 ? 0 : counts[slot];
+	}
+
+	/**
+	 * Index of the first node holding {@code value}, or -1 if absent. The node is found in O(1);
+	 * counting its position walks back to the head, so this is O(index).
+	 */
+	public int indexOf(int value) {
+		int slot = find(value);
+		if (slot < 0) {
+			return -1;
+		}
+
+		int index = 0;
+		for (DoublyLinkedListNode<Integer> curr = firsts[slot].prev; curr != null; curr = curr.prev) {
+			index++;
+		}
+		return index;
+	}
+
+	/**
+	 * Moves the first node holding {@code value} to the head in O(1).
+	 *
+	 * @throws Exception if the value is not present
+	 */
+	public void moveToFront(int value) throws Exception {
+		int slot = find(value);
+		if (slot < 0)
+			throw new Exception("Item not found");
+
+		// Moving it forward keeps it the first of its value
+		Node node = firsts[slot];
+		if (node != head) {
+			unlinkChain(node);
+			linkBefore(node, head);
+		}
+	}
+
+	/**
+	 * Moves the first node holding {@code value} to the tail in O(1).
+	 *
+	 * @throws Exception if the value is not present
+	 */
+	public void moveToBack(int value) throws Exception {
+		int slot = find(value);
+		if (slot < 0)
+			throw new Exception("Item not found");
+
+		Node node = firsts[slot];
+		if (node != tail) {
+			unlinkChain(node);
+			linkBefore(node, null);
+		}
+
+		// ...and makes it the last of its value
+		if (lasts[slot] != node) {
+			firsts[slot] = node.sameNext;
+			node.sameNext.samePrev = null;
+			node.sameNext = null;
+			node.samePrev = lasts[slot];
+			lasts[slot].sameNext = node;
+			lasts[slot] = node;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(head);
+	}
+
+	// ----------------------------------------
+	// 💠 CHAIN
+	// ----------------------------------------
+
+	private static Node next(Node node) {
+		return (Node) node.next;
+	}
+
+	private static Node prev(Node node) {
+		return (Node) node.prev;
+	}
+
+	/** Walks from the closer end; the caller guarantees {@code 0 <= index < size} */
+	private Node nodeAt(int index) {
+		Node curr;
+		if (index < (size >> 1)) {
+			curr = head;
+			for (int i = 0; i < index; i++) {
+				curr = next(curr);
+			}
+		} else {
+			curr = tail;
+			for (int i = size - 1; i > index; i--) {
+				curr = prev(curr);
+			}
+		}
+		return curr;
+	}
+
+	/** Links {@code node} into the chain before {@code after}; null appends */
+	private void linkBefore(Node node, Node after) {
+		Node before = after == null ? tail : prev(after);
+		node.prev = before;
+		node.next = after;
+
+		if (before != null) {
+			before.next = node;
+		} else {
+			head = node;
+		}
+
+		if (after != null) {
+			after.prev = node;
+		} else {
+			tail = node;
+		}
+		size++;
+	}
+
+	private void unlinkChain(Node node) {
+		Node before = prev(node);
+		Node after = next(node);
+
+		if (before != null) {
+			before.next = after;
+		} else {
+			head = after;
+		}
+
+		if (after != null) {
+			after.prev = before;
+		} else {
+			tail = before;
+		}
+
+		node.prev = null;
+		node.next = null;
+		size--;
+	}
+
+	private int delete(Node node) {
+		unlinkChain(node);
+		unindex(node);
+		return node.key();
+	}
+
+	// ----------------------------------------
+	// 💠 INDEX
+	// ----------------------------------------
+
+	/** Records {@code node} as the first node holding its value */
+	private void indexFirst(Node node) {
+		int slot = findOrAdd(node.key());
+		Node first = firsts[slot];
+
+		if (first == null) {
+			lasts[slot] = node;
+		} else {
+			node.sameNext = first;
+			first.samePrev = node;
+		}
+		firsts[slot] = node;
+		counts[slot]++;
+	}
+
+	/** Records {@code node} as the last node holding its value */
+	private void indexLast(Node node) {
+		int slot = findOrAdd(node.key());
+		Node last = lasts[slot];
+
+		if (last == null) {
+			firsts[slot] = node;
+		} else {
+			node.samePrev = last;
+			last.sameNext = node;
+		}
+		lasts[slot] = node;
+		counts[slot]++;
+	}
+
+	/** Records {@code node} right after {@code same}, which holds the same value */
+	private void indexAfter(Node node, Node same) {
+		if (same.sameNext == null) {
+			indexLast(node);
+			return;
+		}
+
+		node.samePrev = same;
+		node.sameNext = same.sameNext;
+		same.sameNext.samePrev = node;
+		same.sameNext = node;
+		counts[find(node.key())]++;
+	}
+
+	/** Records {@code node} right before {@code same}, which holds the same value */
+	private void indexBefore(Node node, Node same) {
+		if (same.samePrev == null) {
+			indexFirst(node);
+			return;
+		}
+
+		node.sameNext = same;
+		node.samePrev = same.samePrev;
+		same.samePrev.sameNext = node;
+		same.samePrev = node;
+		counts[find(node.key())]++;
+	}
+
+	private void unindex(Node node) {
+		int slot = find(node.key());
+
+		if (node.samePrev != null) {
+			node.samePrev.sameNext = node.sameNext;
+		} else {
+			firsts[slot] = node.sameNext;
+		}
+
+		if (node.sameNext != null) {
+			node.sameNext.samePrev = node.samePrev;
+		} else {
+			lasts[slot] = node.samePrev;
+		}
+
+		node.samePrev = null;
+		node.sameNext = null;
+
+		if (--counts[slot] == 0) {
+			removeSlot(slot);
+		}
+	}
+
+	private int home(int key) {
+		int h = key * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & (keys.length - 1);
+	}
+
+	/** Slot holding {@code key}, or -1 */
+	private int find(int key) {
+		int mask = keys.length - 1;
+		for (int i = home(key); firsts[i] != null; i = (i + 1) & mask) {
+			if (keys[i] == key) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private int findOrAdd(int key) {
+		int mask = keys.length - 1;
+		int i = home(key);
+		for (; firsts[i] != null; i = (i + 1) & mask) {
+			if (keys[i] == key) {
+				return i;
+			}
+		}
+
+		// Keep the load factor at or below 3/4
+		if ((distinct + 1) * 4 > keys.length * 3) {
+			resize();
+			return findOrAdd(key);
+		}
+
+		// The slot counts as occupied once the caller sets firsts[i]
+		keys[i] = key;
+		counts[i] = 0;
+		distinct++;
+		return i;
+	}
+
+	/** Empties {@code slot}, shifting later entries of the same probe run back into the gap */
+	private void removeSlot(int slot) {
+		int mask = keys.length - 1;
+		int gap = slot;
+
+		for (int i = (gap + 1) & mask; firsts[i] != null; i = (i + 1) & mask) {
+			// An entry may only move back if the gap lies between its home slot and itself
+			int home = home(keys[i]);
+			if (((i - home) & mask) >= ((i - gap) & mask)) {
+				keys[gap] = keys[i];
+				firsts[gap] = firsts[i];
+				lasts[gap] = lasts[i];
+				counts[gap] = counts[i];
+				gap = i;
+			}
+		}
+
+		firsts[gap] = null;
+		lasts[gap] = null;
+		counts[gap] = 0;
+		distinct--;
+	}
+
+	private void resize() {
+		int[] oldKeys = keys;
+		Node[] oldFirsts = firsts;
+		Node[] oldLasts = lasts;
+		int[] oldCounts = counts;
+
+		int capacity = oldKeys.length << 1;
+		keys = new int[capacity];
+		firsts = new Node[capacity];
+		lasts = new Node[capacity];
+		counts = new int[capacity];
+
+		int mask = capacity - 1;
+		for (int j = 0; j < oldKeys.length; j++) {
+			if (oldFirsts[j] == null) {
+				continue;
+			}
+
+			int i = home(oldKeys[j]);
+			while (firsts[i] != null) {
+				i = (i + 1) & mask;
+			}
+			keys[i] = oldKeys[j];
+			firsts[i] = oldFirsts[j];
+			lasts[i] = oldLasts[j];
+			counts[i] = oldCounts[j];
+		}
+	}
+}
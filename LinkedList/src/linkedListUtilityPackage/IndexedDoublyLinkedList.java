@@ -0,0 +1,495 @@
+package linkedListUtilityPackage;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A doubly linked list with an indexable skip-list overlay for O(log n) positional access.
+ *
+ * <p>The elements still form an ordinary chain of {@link DoublyLinkedListNode}s, so in-order
+ * traversal through {@code next}/{@code prev} works exactly as before. On top of that chain
+ * sit a few "express lanes" of index nodes. Every element is promoted to the next lane with
+ * probability 1/4, and each index node stores its {@code span}: how many positions its
+ * {@code right} link skips. Summing spans while moving right and down finds any position in
+ * O(log n) expected time, and insert/delete only adjust the spans of one node per lane.
+ *
+ * <p><b>Visualization (spans in brackets):</b>
+ * <pre>
+ *   lane 1:  HEAD[3] ----------------------> c[3] -------------------------> null
+ *   lane 0:  HEAD[1] -> a[2] -------------> c[1] -> d[2] ---------------> null
+ *   chain :           a  &lt;=&gt;  b  &lt;=&gt;  c  &lt;=&gt;  d  &lt;=&gt;  e
+ * </pre>
+ *
+ * <p>In lazy mode the lanes are not maintained while the list is only used through its
+ * head/tail operations; they are built in one O(n) pass on the first positional query and kept
+ * up to date from then on.
+ *
+ * <p>The chain is exposed through {@link #getHead()} and {@link #getTail()} for read-only
+ * traversal. Mutating the nodes' links directly would corrupt the index.
+ */
+public class IndexedDoublyLinkedList<T> {
+	/** Number of express lanes; with a promotion chance of 1/4 this covers 4^16 elements. */
+	private static final int MAX_LEVELS = 16;
+
+	private static final class IndexNode<T> {
+		final DoublyLinkedListNode<T> node;
+		final IndexNode<T> down;
+		IndexNode<T> right;
+		int span;
+
+		IndexNode(DoublyLinkedListNode<T> node, IndexNode<T> down) {
+			this.node = node;
+			this.down = down;
+		}
+	}
+
+	private DoublyLinkedListNode<T> head;
+	private DoublyLinkedListNode<T> tail;
+	private int size;
+
+	/** Sentinel tower; {@code heads[l]} sits at position -1 of lane {@code l}. */
+	private final IndexNode<T>[] heads;
+
+	/** Number of lanes currently in use (always at least 1 once indexed). */
+	private int level;
+
+	private boolean indexed;
+
+	// Scratch space for the per-lane predecessors of an insert or delete
+	private final IndexNode<T>[] update;
+	private final int[] rank = new int[MAX_LEVELS];
+
+	/** Creates an empty list that maintains its index from the start. */
+	public IndexedDoublyLinkedList() {
+		this(false);
+	}
+
+	/**
+	 * Creates an empty list.
+	 *
+	 * @param lazyIndex if true, the index is only built on the first positional operation
+	 */
+	@SuppressWarnings("unchecked")
+	public IndexedDoublyLinkedList(boolean lazyIndex) {
+		heads = (IndexNode<T>[]) new IndexNode<?>[MAX_LEVELS];
+		update = (IndexNode<T>[]) new IndexNode<?>[MAX_LEVELS];
+
+		for (int l = 0; l < MAX_LEVELS; l++) {
+			heads[l] = new IndexNode<>(null, l == 0 ? null : heads[l - 1]);
+		}
+
+		if (!lazyIndex) {
+			buildIndex();
+		}
+	}
+
+	/**
+	 * Takes ownership of an existing chain. The chain must not be modified through its nodes
+	 * afterwards.
+	 *
+	 * @param head      first node of a well-formed chain, may be null
+	 * @param lazyIndex if true, the index is only built on the first positional operation
+	 */
+	public static <T> IndexedDoublyLinkedList<T> wrap(DoublyLinkedListNode<T> head, boolean lazyIndex) {
+		IndexedDoublyLinkedList<T> list = new IndexedDoublyLinkedList<>(true);
+		list.head = head;
+
+		for (DoublyLinkedListNode<T> curr = head; curr != null; curr = curr.next) {
+			list.tail = curr;
+			list.size++;
+		}
+
+		if (!lazyIndex) {
+			list.buildIndex();
+		}
+		return list;
+	}
+
+	public DoublyLinkedListNode<T> getHead() {
+		return head;
+	}
+
+	public DoublyLinkedListNode<T> getTail() {
+		return tail;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/** Whether the express lanes are currently built */
+	public boolean isIndexed() {
+		return indexed;
+	}
+
+	// ----------------------------------------
+	// 💠 POSITIONAL OPERATIONS - O(log n) expected
+	// ----------------------------------------
+
+	/**
+	 * Returns the node at the given index.
+	 *
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public DoublyLinkedListNode<T> getNodeAtIndex(int index) throws Exception {
+		if (index < 0 || index >= size)
+			throw new Exception("Invalid index - List is smaller!");
+
+		ensureIndexed();
+
+		IndexNode<T> x = heads[level - 1];
+		int pos = -1;
+
+		for (int l = level - 1; ; l--) {
+			while (x.right != null && pos + x.span <= index) {
+				pos += x.span;
+				x = x.right;
+			}
+
+			if (pos == index)
+				return x.node;
+
+			if (l == 0)
+				break;
+			x = x.down;
+		}
+
+		return walk(x, pos, index);
+	}
+
+	/**
+	 * Returns the value at the given index.
+	 *
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public T getElementAtIndex(int index) throws Exception {
+		return getNodeAtIndex(index).value;
+	}
+
+	/**
+	 * Inserts a new node so that it ends up at the given index.
+	 *
+	 * @throws Exception if the index is negative or greater than the length
+	 */
+	public void insertAtIndex(int index, T value) throws Exception {
+		if (index < 0)
+			throw new Exception("Invalid index: negative");
+
+		if (index > size)
+			throw new Exception("Invalid index: list shorter than index");
+
+		ensureIndexed();
+		insertIndexed(index, value);
+	}
+
+	/**
+	 * Deletes the node at the given index.
+	 *
+	 * @return the deleted value
+	 * @throws Exception if the index is negative, the list is empty or the index is past the tail
+	 */
+	public T deleteAtIndex(int index) throws Exception {
+		if (index < 0)
+			throw new Exception("Invalid - negative index");
+
+		if (head == null)
+			throw new Exception("Invalid - Empty List");
+
+		if (index >= size)
+			throw new Exception("Invalid index - List is smaller!");
+
+		ensureIndexed();
+		return deleteIndexed(index);
+	}
+
+	// ----------------------------------------
+	// 💠 END OPERATIONS - O(1) while unindexed
+	// ----------------------------------------
+
+	/** Insert a new node at the head of the list */
+	public void insertAtHead(T value) {
+		if (indexed) {
+			insertIndexed(0, value);
+		} else {
+			linkAfter(null, value);
+		}
+	}
+
+	/** Insert a new node at the tail of the list */
+	public void insertAtTail(T value) {
+		if (indexed) {
+			insertIndexed(size, value);
+		} else {
+			linkAfter(tail, value);
+		}
+	}
+
+	/**
+	 * Deletes the head node.
+	 *
+	 * @return the deleted value, or {@code null} if the list was empty
+	 */
+	public T deleteAtHead() {
+		if (head == null)
+			return null;
+
+		return indexed ? deleteIndexed(0) : unlink(head);
+	}
+
+	/**
+	 * Deletes the tail node.
+	 *
+	 * @return the deleted value
+	 * @throws Exception if the list is empty
+	 */
+	public T deleteAtTail() throws Exception {
+		if (tail == null)
+			throw new Exception("Invalid - Empty List");
+
+		return indexed ? deleteIndexed(size - 1) : unlink(tail);
+	}
+
+	// ----------------------------------------
+	// 💠 SEARCH OPERATIONS - O(n)
+	// ----------------------------------------
+
+	/** Returns the index of the first node whose value equals {@code value}, or -1 */
+	public int indexOf(T value) {
+		int index = 0;
+		for (DoublyLinkedListNode<T> curr = head; curr != null; curr = curr.next) {
+			if (Objects.equals(curr.value, value))
+				return index;
+			index++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Deletes the first node whose value equals {@code value}.
+	 *
+	 * @throws Exception if the list is empty or the value is not present
+	 */
+	public void deleteFirstInstance(T value) throws Exception {
+		if (head == null)
+			throw new Exception("Empty List");
+
+		int index = indexOf(value);
+		if (index < 0)
+			throw new Exception("Item not found");
+
+		if (indexed) {
+			deleteIndexed(index);
+		} else {
+			unlink(nodeFrom(head, index));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(head);
+	}
+
+	// ----------------------------------------
+	// 💠 INDEX MAINTENANCE
+	// ----------------------------------------
+
+	private void ensureIndexed() {
+		if (!indexed) {
+			buildIndex();
+		}
+	}
+
+	/** Builds every lane in one pass over the chain */
+	private void buildIndex() {
+		IndexNode<T>[] last = update;
+		int[] lastPos = rank;
+
+		for (int l = 0; l < MAX_LEVELS; l++) {
+			heads[l].right = null;
+			last[l] = heads[l];
+			lastPos[l] = -1;
+		}
+		level = 1;
+
+		int pos = 0;
+		for (DoublyLinkedListNode<T> curr = head; curr != null; curr = curr.next, pos++) {
+			int height = randomHeight();
+			IndexNode<T> below = null;
+
+			for (int l = 0; l < height; l++) {
+				IndexNode<T> n = new IndexNode<>(curr, below);
+				last[l].right = n;
+				last[l].span = pos - lastPos[l];
+				last[l] = n;
+				lastPos[l] = pos;
+				below = n;
+			}
+			level = Math.max(level, height);
+		}
+
+		for (int l = 0; l < MAX_LEVELS; l++) {
+			last[l].span = size - lastPos[l];
+			last[l] = null;
+		}
+		indexed = true;
+	}
+
+	/**
+	 * Fills {@code update}/{@code rank} with the rightmost index node of each lane whose
+	 * position is before {@code index}.
+	 */
+	private void findPredecessors(int index) {
+		IndexNode<T> x = heads[level - 1];
+		int pos = -1;
+
+		for (int l = level - 1; l >= 0; l--) {
+			while (x.right != null && pos + x.span < index) {
+				pos += x.span;
+				x = x.right;
+			}
+			update[l] = x;
+			rank[l] = pos;
+			x = x.down;
+		}
+	}
+
+	private void insertIndexed(int index, T value) {
+		findPredecessors(index);
+
+		DoublyLinkedListNode<T> before = index == 0 ? null : walk(update[0], rank[0], index - 1);
+		DoublyLinkedListNode<T> node = linkAfter(before, value);
+
+		int height = randomHeight();
+		if (height > level) {
+			for (int l = level; l < height; l++) {
+				heads[l].right = null;
+				heads[l].span = size; // size already includes the new node
+				update[l] = heads[l];
+				rank[l] = -1;
+			}
+			level = height;
+		}
+
+		IndexNode<T> below = null;
+		for (int l = 0; l < height; l++) {
+			IndexNode<T> u = update[l];
+			IndexNode<T> n = new IndexNode<>(node, below);
+			n.right = u.right;
+			n.span = rank[l] + u.span + 1 - index;
+			u.right = n;
+			u.span = index - rank[l];
+			below = n;
+		}
+
+		for (int l = height; l < level; l++) {
+			update[l].span++;
+		}
+		clearUpdate();
+	}
+
+	private T deleteIndexed(int index) {
+		findPredecessors(index);
+
+		IndexNode<T> u0 = update[0];
+		DoublyLinkedListNode<T> node = (u0.right != null && rank[0] + u0.span == index)
+				? u0.right.node
+				: walk(u0, rank[0], index);
+
+		for (int l = 0; l < level; l++) {
+			IndexNode<T> u = update[l];
+			if (u.right != null && u.right.node == node) {
+				u.span += u.right.span - 1;
+				u.right = u.right.right;
+			} else {
+				u.span--;
+			}
+		}
+
+		while (level > 1 && heads[level - 1].right == null) {
+			level--;
+		}
+		clearUpdate();
+
+		return unlink(node);
+	}
+
+	/** Walks the chain from index node {@code from} (at position {@code pos}) to {@code index} */
+	private DoublyLinkedListNode<T> walk(IndexNode<T> from, int pos, int index) {
+		if (pos < 0)
+			return nodeFrom(head, index);
+
+		return nodeFrom(from.node, index - pos);
+	}
+
+	private static <T> DoublyLinkedListNode<T> nodeFrom(DoublyLinkedListNode<T> start, int steps) {
+		DoublyLinkedListNode<T> curr = start;
+		for (int i = 0; i < steps; i++) {
+			curr = curr.next;
+		}
+		return curr;
+	}
+
+	/** Drops the scratch references so deleted nodes are not kept reachable */
+	private void clearUpdate() {
+		for (int l = 0; l < level; l++) {
+			update[l] = null;
+		}
+	}
+
+	/** Number of lanes a new element appears in: 0 with probability 3/4, then geometric */
+	private static int randomHeight() {
+		int bits = ThreadLocalRandom.current().nextInt();
+		return Math.min(Integer.numberOfTrailingZeros(bits) >>> 1, MAX_LEVELS);
+	}
+
+	// ----------------------------------------
+	// 💠 CHAIN MAINTENANCE
+	// ----------------------------------------
+
+	/** Links a new node after {@code before} (at the head if null) and returns it */
+	private DoublyLinkedListNode<T> linkAfter(DoublyLinkedListNode<T> before, T value) {
+		DoublyLinkedListNode<T> after = before == null ? head : before.next;
+		DoublyLinkedListNode<T> node = new DoublyLinkedListNode<>(value, before, after);
+
+		if (before != null) {
+			before.next = node;
+		} else {
+			head = node;
+		}
+
+		if (after != null) {
+			after.prev = node;
+		} else {
+			tail = node;
+		}
+
+		size++;
+		return node;
+	}
+
+	private T unlink(DoublyLinkedListNode<T> node) {
+		DoublyLinkedListNode<T> before = node.prev;
+		DoublyLinkedListNode<T> after = node.next;
+
+		if (before != null) {
+			before.next = after;
+		} else {
+			head = after;
+		}
+
+		if (after != null) {
+			after.prev = before;
+		} else {
+			tail = before;
+		}
+
+		node.prev = null;
+		node.next = null;
+		size--;
+		return node.value;
+	}
+}
@@ -0,0 +1,352 @@
+package linkedListUtilityPackage;
+
+import java.util.Arrays;
+
+/**
+ * A doubly linked list of primitive {@code int} values whose nodes live in parallel arrays.
+ *
+ * <p>Node {@code i} is described by {@code values[i]}, {@code prev[i]} and {@code next[i]};
+ * links are array indices and {@link #NIL} marks either end of the chain. Deleted slots are
+ * threaded onto a free list (through the {@code next} array) and reused by later inserts.
+ * Compared to a chain of {@code DoublyLinkedListNode<Integer>} there is no node object and no
+ * boxed value per element.
+ *
+ * <p>The operations mirror the ones in {@code DoublyLinkedListInsertAndDelete} and
+ * {@code DoublyLinkedListLengthAndElements}, including their edge-case behaviour. Index based
+ * operations walk from whichever end of the list is closer.
+ */
+public class IntDoublyLinkedList {
+	/** Link value meaning "no node". */
+	public static final int NIL = -1;
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/** Largest number of slots; some VMs reserve header words in an array, as in {@code ArrayList}. */
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private int[] values;
+	private int[] prev;
+	private int[] next;
+
+	private int head = NIL;
+	private int tail = NIL;
+	private int size;
+
+	/** Head of the chain of reusable slots. */
+	private int free = NIL;
+
+	/** Slots below this index have been handed out at least once. */
+	private int used;
+
+	public IntDoublyLinkedList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IntDoublyLinkedList(int initialCapacity) {
+		int capacity = Math.max(1, initialCapacity);
+		values = new int[capacity];
+		prev = new int[capacity];
+		next = new int[capacity];
+	}
+
+	public static IntDoublyLinkedList of(int... elements) {
+		IntDoublyLinkedList list = new IntDoublyLinkedList(elements.length);
+		for (int value : elements) {
+			list.insertAtTail(value);
+		}
+		return list;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	// ----------------------------------------
+	// 💠 INSERTION OPERATIONS
+	// ----------------------------------------
+
+	/** Insert a new value at the head of the list */
+	public void insertAtHead(int value) {
+		int node = allocate(value);
+		prev[node] = NIL;
+		next[node] = head;
+
+		if (head != NIL) {
+			prev[head] = node;
+		} else {
+			tail = node;
+		}
+
+		head = node;
+		size++;
+	}
+
+	/** Insert a new value at the tail of the list */
+	public void insertAtTail(int value) {
+		int node = allocate(value);
+		prev[node] = tail;
+		next[node] = NIL;
+
+		if (tail != NIL) {
+			next[tail] = node;
+		} else {
+			head = node;
+		}
+
+		tail = node;
+		size++;
+	}
+
+	/**
+	 * Inserts a value so that it ends up at the given index.
+	 *
+	 * @throws Exception if the index is negative or greater than the length
+	 */
+	public void insertAtIndex(int index, int value) throws Exception {
+		if (index < 0)
+			throw new Exception("Invalid index: negative");
+
+		if (index == 0) {
+			insertAtHead(value);
+			return;
+		}
+
+		if (head == NIL)
+			throw new Exception("Invalid index: empty list");
+
+		if (index > size)
+			throw new Exception("Invalid index: list shorter than index");
+
+		if (index == size) {
+			insertAtTail(value);
+			return;
+		}
+
+		int after = nodeAt(index);
+		int before = prev[after];
+		int node = allocate(value);
+		prev[node] = before;
+		next[node] = after;
+		next[before] = node;
+		prev[after] = node;
+		size++;
+	}
+
+	// ----------------------------------------
+	// 💠 DELETION OPERATIONS
+	// ----------------------------------------
+
+	/** Delete the head of the list; does nothing on an empty list */
+	public void deleteAtHead() {
+		if (head != NIL) {
+			unlink(head);
+		}
+	}
+
+	/**
+	 * Deletes the tail of the list in O(1).
+	 *
+	 * @throws Exception if the list is empty
+	 */
+	public void deleteAtTail() throws Exception {
+		if (tail == NIL)
+			throw new Exception("Invalid - Empty List");
+
+		unlink(tail);
+	}
+
+	/**
+	 * Deletes the value at the given index.
+	 *
+	 * @throws Exception if the index is negative, the list is empty or the index is past the tail
+	 */
+	public void deleteAtIndex(int index) throws Exception {
+		if (index < 0)
+			throw new Exception("Invalid - negative index");
+
+		if (head == NIL)
+			throw new Exception("Invalid - Empty List");
+
+		if (index >= size)
+			throw new Exception("Invalid index - List is smaller!");
+
+		unlink(nodeAt(index));
+	}
+
+	/**
+	 * Deletes the first node holding {@code value}.
+	 *
+	 * @throws Exception if the list is empty or the value is not present
+	 */
+	public void deleteFirstInstance(int value) throws Exception {
+		if (head == NIL)
+			throw new Exception("Empty List");
+
+		for (int curr = head; curr != NIL; curr = next[curr]) {
+			if (values[curr] == value) {
+				unlink(curr);
+				return;
+			}
+		}
+
+		throw new Exception("Item not found");
+	}
+
+	/** Removes every element; the backing arrays are kept for reuse */
+	public void clear() {
+		head = tail = free = NIL;
+		size = used = 0;
+	}
+
+	// ----------------------------------------
+	// 💠 SEARCH OPERATIONS
+	// ----------------------------------------
+
+	/** Returns the index of the first occurrence of {@code value}, or -1 if absent */
+	public int indexOf(int value) {
+		int index = 0;
+		for (int curr = head; curr != NIL; curr = next[curr]) {
+			if (values[curr] == value) {
+				return index;
+			}
+			index++;
+		}
+		return -1;
+	}
+
+	/** Returns the index of the last occurrence of {@code value}, or -1 if absent */
+	public int lastIndexOf(int value) {
+		int index = size - 1;
+		for (int curr = tail; curr != NIL; curr = prev[curr]) {
+			if (values[curr] == value) {
+				return index;
+			}
+			index--;
+		}
+		return -1;
+	}
+
+	public boolean contains(int value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * Returns the value at the given index.
+	 *
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public int get(int index) throws Exception {
+		if (index < 0 || index >= size)
+			throw new Exception("Invalid index - List is smaller!");
+
+		return values[nodeAt(index)];
+	}
+
+	public int getFirst() throws Exception {
+		if (head == NIL)
+			throw new Exception("Invalid - Empty List");
+
+		return values[head];
+	}
+
+	public int getLast() throws Exception {
+		if (tail == NIL)
+			throw new Exception("Invalid - Empty List");
+
+		return values[tail];
+	}
+
+	public int[] toArray() {
+		int[] result = new int[size];
+		int i = 0;
+		for (int curr = head; curr != NIL; curr = next[curr]) {
+			result[i++] = values[curr];
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (int curr = head; curr != NIL; curr = next[curr]) {
+			sb.append(values[curr]).append(" <=> ");
+		}
+		return sb.append("null").toString();
+	}
+
+	// ----------------------------------------
+	// 💠 SLOT MANAGEMENT
+	// ----------------------------------------
+
+	/** Walks from the closer end of the list to the node at {@code index} */
+	private int nodeAt(int index) {
+		int curr;
+		if (index < (size >> 1)) {
+			curr = head;
+			for (int i = 0; i < index; i++) {
+				curr = next[curr];
+			}
+		} else {
+			curr = tail;
+			for (int i = size - 1; i > index; i--) {
+				curr = prev[curr];
+			}
+		}
+		return curr;
+	}
+
+	private void unlink(int node) {
+		int before = prev[node];
+		int after = next[node];
+
+		if (before != NIL) {
+			next[before] = after;
+		} else {
+			head = after;
+		}
+
+		if (after != NIL) {
+			prev[after] = before;
+		} else {
+			tail = before;
+		}
+
+		next[node] = free;
+		free = node;
+		size--;
+	}
+
+	private int allocate(int value) {
+		int node;
+		if (free != NIL) {
+			node = free;
+			free = next[node];
+		} else {
+			if (used == values.length) {
+				int capacity = grownCapacity(values.length);
+				values = Arrays.copyOf(values, capacity);
+				prev = Arrays.copyOf(prev, capacity);
+				next = Arrays.copyOf(next, capacity);
+			}
+			node = used++;
+		}
+		values[node] = value;
+		return node;
+	}
+
+	/**
+	 * Twice {@code capacity}, capped at {@link #MAX_CAPACITY}.
+	 *
+	 * @throws OutOfMemoryError if the list already has {@link #MAX_CAPACITY} slots
+	 */
+	private static int grownCapacity(int capacity) {
+		if (capacity >= MAX_CAPACITY) {
+			throw new OutOfMemoryError("List is full: " + MAX_CAPACITY + " nodes");
+		}
+		return (int) Math.min((long) capacity << 1, MAX_CAPACITY);
+	}
+}
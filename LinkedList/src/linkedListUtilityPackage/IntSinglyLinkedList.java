@@ -0,0 +1,337 @@
+package linkedListUtilityPackage;
+
+import java.util.Arrays;
+
+/**
+ * A singly linked list of primitive {@code int} values whose nodes live in parallel arrays.
+ *
+ * <p>Node {@code i} is described by {@code values[i]} and {@code next[i]}; links are array
+ * indices and {@link #NIL} marks the end of the chain. Deleted slots are threaded onto a free
+ * list (through the same {@code next} array) and reused by later inserts, so a list that
+ * churns at a steady size never reallocates. Compared to a chain of
+ * {@code SinglyLinkedListNode<Integer>} there is no node object and no boxed value per element.
+ *
+ * <p>The operations mirror the ones in {@code InsertIntoSinglyLinkedList} and
+ * {@code DeleteFromSinglyLinkedList}, including their edge-case behaviour.
+ */
+public class IntSinglyLinkedList {
+	/** Link value meaning "no node". */
+	public static final int NIL = -1;
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/** Largest number of slots; some VMs reserve header words in an array, as in {@code ArrayList}. */
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private int[] values;
+	private int[] next;
+
+	private int head = NIL;
+	private int tail = NIL;
+	private int size;
+
+	/** Head of the chain of reusable slots. */
+	private int free = NIL;
+
+	/** Slots below this index have been handed out at least once. */
+	private int used;
+
+	public IntSinglyLinkedList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IntSinglyLinkedList(int initialCapacity) {
+		int capacity = Math.max(1, initialCapacity);
+		values = new int[capacity];
+		next = new int[capacity];
+	}
+
+	public static IntSinglyLinkedList of(int... elements) {
+		IntSinglyLinkedList list = new IntSinglyLinkedList(elements.length);
+		for (int value : elements) {
+			list.insertAtTail(value);
+		}
+		return list;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	// ----------------------------------------
+	// 💠 INSERTION OPERATIONS
+	// ----------------------------------------
+
+	/** Insert a new value at the head of the list */
+	public void insertAtHead(int value) {
+		int node = allocate(value);
+		next[node] = head;
+		head = node;
+
+		if (tail == NIL) {
+			tail = node;
+		}
+		size++;
+	}
+
+	/** Insert a new value at the tail of the list */
+	public void insertAtTail(int value) {
+		int node = allocate(value);
+		next[node] = NIL;
+
+		if (tail == NIL) {
+			head = node;
+		} else {
+			next[tail] = node;
+		}
+		tail = node;
+		size++;
+	}
+
+	/**
+	 * Inserts a value at the given index, following the rules of
+	 * {@code InsertIntoSinglyLinkedList.insertIntoSinglyLinkedList}: a negative index is
+	 * treated as 0 and an index past the tail appends.
+	 *
+	 * @throws Exception if the list is empty and the index is not 0
+	 */
+	public void insertAtIndex(int index, int value) throws Exception {
+		if (index < 0) index = 0;
+
+		if (head == NIL && index != 0) {
+			throw new Exception("Invalid insertion index for empty list");
+		}
+
+		if (index == 0) {
+			insertAtHead(value);
+			return;
+		}
+
+		if (index >= size) {
+			insertAtTail(value);
+			return;
+		}
+
+		int prev = nodeAt(index - 1);
+		int node = allocate(value);
+		next[node] = next[prev];
+		next[prev] = node;
+		size++;
+	}
+
+	// ----------------------------------------
+	// 💠 DELETION OPERATIONS
+	// ----------------------------------------
+
+	/** Delete the head of the list; does nothing on an empty list */
+	public void deleteAtHead() {
+		if (head == NIL) {
+			return;
+		}
+
+		int node = head;
+		head = next[node];
+
+		if (head == NIL) {
+			tail = NIL;
+		}
+		release(node);
+		size--;
+	}
+
+	/** Delete the tail of the list; does nothing on an empty list */
+	public void deleteAtTail() {
+		if (head == NIL) {
+			return;
+		}
+
+		if (head == tail) {
+			deleteAtHead();
+			return;
+		}
+
+		// Singly linked: the new tail has to be found from the head
+		int prev = nodeAt(size - 2);
+		release(tail);
+		next[prev] = NIL;
+		tail = prev;
+		size--;
+	}
+
+	/**
+	 * Deletes the value at the given index.
+	 *
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public void deleteAtIndex(int index) throws Exception {
+		if (index < 0 || index >= size) {
+			throw new Exception("Invalid Index: Linked List is not that long");
+		}
+
+		if (index == 0) {
+			deleteAtHead();
+			return;
+		}
+
+		int prev = nodeAt(index - 1);
+		int node = next[prev];
+		next[prev] = next[node];
+
+		if (node == tail) {
+			tail = prev;
+		}
+		release(node);
+		size--;
+	}
+
+	/**
+	 * Deletes the first node holding {@code value}.
+	 *
+	 * @throws Exception if the value is not present
+	 */
+	public void deleteFirstInstance(int value) throws Exception {
+		int prev = NIL;
+		int curr = head;
+
+		while (curr != NIL) {
+			if (values[curr] == value) {
+				if (prev == NIL) {
+					head = next[curr];
+				} else {
+					next[prev] = next[curr];
+				}
+
+				if (curr == tail) {
+					tail = prev;
+				}
+				release(curr);
+				size--;
+				return;
+			}
+			prev = curr;
+			curr = next[curr];
+		}
+
+		throw new Exception("Item not found");
+	}
+
+	/** Removes every element; the backing arrays are kept for reuse */
+	public void clear() {
+		head = tail = free = NIL;
+		size = used = 0;
+	}
+
+	// ----------------------------------------
+	// 💠 SEARCH OPERATIONS
+	// ----------------------------------------
+
+	/** Returns the index of the first occurrence of {@code value}, or -1 if absent */
+	public int indexOf(int value) {
+		int index = 0;
+		for (int curr = head; curr != NIL; curr = next[curr]) {
+			if (values[curr] == value) {
+				return index;
+			}
+			index++;
+		}
+		return -1;
+	}
+
+	public boolean contains(int value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * Returns the value at the given index.
+	 *
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public int get(int index) throws Exception {
+		if (index < 0 || index >= size) {
+			throw new Exception("Invalid Index: Linked List is not that long");
+		}
+		return values[nodeAt(index)];
+	}
+
+	public int getFirst() throws Exception {
+		if (head == NIL) {
+			throw new Exception("Invalid - Empty List");
+		}
+		return values[head];
+	}
+
+	public int getLast() throws Exception {
+		if (tail == NIL) {
+			throw new Exception("Invalid - Empty List");
+		}
+		return values[tail];
+	}
+
+	public int[] toArray() {
+		int[] result = new int[size];
+		int i = 0;
+		for (int curr = head; curr != NIL; curr = next[curr]) {
+			result[i++] = values[curr];
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (int curr = head; curr != NIL; curr = next[curr]) {
+			sb.append(values[curr]).append(" -> ");
+		}
+		return sb.append("null").toString();
+	}
+
+	// ----------------------------------------
+	// 💠 SLOT MANAGEMENT
+	// ----------------------------------------
+
+	private int nodeAt(int index) {
+		int curr = head;
+		for (int i = 0; i < index; i++) {
+			curr = next[curr];
+		}
+		return curr;
+	}
+
+	private int allocate(int value) {
+		int node;
+		if (free != NIL) {
+			node = free;
+			free = next[node];
+		} else {
+			if (used == values.length) {
+				int capacity = grownCapacity(values.length);
+				values = Arrays.copyOf(values, capacity);
+				next = Arrays.copyOf(next, capacity);
+			}
+			node = used++;
+		}
+		values[node] = value;
+		return node;
+	}
+
+	private void release(int node) {
+		next[node] = free;
+		free = node;
+	}
+
+	/**
+	 * Twice {@code capacity}, capped at {@link #MAX_CAPACITY}.
+	 *
+	 * @throws OutOfMemoryError if the list already has {@link #MAX_CAPACITY} slots
+	 */
+	private static int grownCapacity(int capacity) {
+		if (capacity >= MAX_CAPACITY) {
+			throw new OutOfMemoryError("List is full: " + MAX_CAPACITY + " nodes");
+		}
+		return (int) Math.min((long) capacity << 1, MAX_CAPACITY);
+	}
+}
@@ -0,0 +1,127 @@
+package linkedListUtilityPackage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.util.function.IntConsumer;
+
+/**
+ * Single-pass parser for whitespace separated decimal {@code int}s.
+ *
+ * <p>Digits are accumulated straight into a number as bytes (or chars) go by, and each finished
+ * number is handed to an {@link IntConsumer}. There is no {@code String} per token, no
+ * {@code split}, no boxing and no intermediate collection. Any run of ASCII whitespace or
+ * control characters (spaces, tabs, CR/LF, ...) separates tokens, and a leading {@code '-'} or
+ * {@code '+'} sign is accepted.
+ *
+ * <p>Malformed tokens and values outside the {@code int} range raise
+ * {@link NumberFormatException}.
+ */
+public final class IntTokenParser {
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final IntConsumer sink;
+
+	// Token state, carried across buffer boundaries
+	private boolean inToken;
+	private boolean negative;
+	private boolean hasDigits;
+	private long value;
+	private long count;
+
+	private IntTokenParser(IntConsumer sink) {
+		this.sink = sink;
+	}
+
+	/**
+	 * Parses every number readable from {@code channel} until end of stream. The channel must be
+	 * in blocking mode: a non-blocking one would return no bytes forever instead of waiting.
+	 *
+	 * @return number of values passed to {@code sink}
+	 * @throws IllegalArgumentException if {@code channel} is a non-blocking {@link SelectableChannel}
+	 */
+	public static long parse(ReadableByteChannel channel, IntConsumer sink) throws IOException {
+		if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+			throw new IllegalArgumentException("Channel must be in blocking mode");
+		}
+
+		IntTokenParser parser = new IntTokenParser(sink);
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		byte[] bytes = buffer.array();
+
+		while (channel.read(buffer) >= 0) {
+			int end = buffer.position();
+			for (int i = 0; i < end; i++) {
+				parser.accept(bytes[i] & 0xFF);
+			}
+			buffer.clear();
+		}
+
+		parser.finish();
+		return parser.count;
+	}
+
+	/**
+	 * Parses every number in {@code text}.
+	 *
+	 * @return number of values passed to {@code sink}
+	 */
+	public static long parse(CharSequence text, IntConsumer sink) {
+		IntTokenParser parser = new IntTokenParser(sink);
+
+		for (int i = 0, n = text.length(); i < n; i++) {
+			parser.accept(text.charAt(i));
+		}
+
+		parser.finish();
+		return parser.count;
+	}
+
+	private void accept(int c) {
+		if (c <= ' ') {
+			if (inToken) {
+				emit();
+			}
+			return;
+		}
+
+		if (c >= '0' && c <= '9') {
+			value = value * 10 + (c - '0');
+			if (value > (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+				throw new NumberFormatException("Value out of int range at token #" + (count + 1));
+			}
+			hasDigits = true;
+			inToken = true;
+			return;
+		}
+
+		if ((c == '-' || c == '+') && !inToken) {
+			negative = c == '-';
+			inToken = true;
+			return;
+		}
+
+		throw new NumberFormatException("Unexpected character '" + (char) c + "' in token #" + (count + 1));
+	}
+
+	private void finish() {
+		if (inToken) {
+			emit();
+		}
+	}
+
+	private void emit() {
+		if (!hasDigits) {
+			throw new NumberFormatException("Sign without digits in token #" + (count + 1));
+		}
+
+		sink.accept((int) (negative ? -value : value));
+		count++;
+
+		inToken = false;
+		negative = false;
+		hasDigits = false;
+		value = 0;
+	}
+}
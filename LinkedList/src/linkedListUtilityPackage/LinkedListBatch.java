@@ -0,0 +1,498 @@
+package linkedListUtilityPackage;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.SplittableRandom;
+
+/**
+ * A batch of index based insert/delete mutations that is applied to a list in a single pass.
+ *
+ * <p>Calling {@code insertAtIndex}/{@code deleteAtIndex} k times walks the list k times, which
+ * is O(k·n). A batch first works out where every mutation lands in O(k log k), then walks the
+ * list once, relinking the surviving nodes and splicing in new ones: O(n + k log k) overall.
+ *
+ * <p>Indices are resolved in one of two ways ({@link IndexMode}):
+ * <ul>
+ *   <li>{@code ORIGINAL} - every index refers to the list as it was before the batch. Inserts
+ *   at the same index keep the order they were added in, and an index of {@code size} appends.</li>
+ *   <li>{@code SHIFTING} - every index refers to the list as left by the mutations added before
+ *   it, exactly as if the operations were called one after another.</li>
+ * </ul>
+ *
+ * <p>Indices are strict: an insert needs {@code 0 <= index <= size} and a delete
+ * {@code 0 <= index < size}. An invalid mutation does not stop the batch. It is skipped, and its
+ * error is reported in the {@link Result} under the position it was added at.
+ */
+public class LinkedListBatch<T> {
+
+	public enum Op {
+		INSERT, DELETE
+	}
+
+	public enum IndexMode {
+		ORIGINAL, SHIFTING
+	}
+
+	/** One (index, op, value) mutation; the value is ignored for deletes */
+	public static final class Mutation<T> {
+		public final int index;
+		public final Op op;
+		public final T value;
+
+		public Mutation(int index, Op op, T value) {
+			this.index = index;
+			this.op = op;
+			this.value = value;
+		}
+
+		public static <T> Mutation<T> insert(int index, T value) {
+			return new Mutation<>(index, Op.INSERT, value);
+		}
+
+		public static <T> Mutation<T> delete(int index) {
+			return new Mutation<>(index, Op.DELETE, null);
+		}
+	}
+
+	/** Outcome of {@link #applyTo}: one entry per mutation, in the order they were added */
+	public static final class Result {
+		private final String[] errors;
+		private final int failures;
+
+		Result(String[] errors) {
+			this.errors = errors;
+			int count = 0;
+			for (String error : errors) {
+				if (error != null) {
+					count++;
+				}
+			}
+			this.failures = count;
+		}
+
+		public int size() {
+			return errors.length;
+		}
+
+		public boolean isApplied(int mutation) {
+			return errors[mutation] == null;
+		}
+
+		/** Why the mutation was skipped, or null if it was applied */
+		public String getError(int mutation) {
+			return errors[mutation];
+		}
+
+		public int getAppliedCount() {
+			return errors.length - failures;
+		}
+
+		public int getFailureCount() {
+			return failures;
+		}
+
+		public boolean hasFailures() {
+			return failures > 0;
+		}
+	}
+
+	private int[] indices = new int[16];
+	private boolean[] inserts = new boolean[16];
+	private Object[] values = new Object[16];
+	private int count;
+
+	public LinkedListBatch<T> insert(int index, T value) {
+		return add(index, true, value);
+	}
+
+	public LinkedListBatch<T> delete(int index) {
+		return add(index, false, null);
+	}
+
+	public LinkedListBatch<T> add(Mutation<? extends T> mutation) {
+		return add(mutation.index, mutation.op == Op.INSERT, mutation.value);
+	}
+
+	public LinkedListBatch<T> addAll(Collection<? extends Mutation<? extends T>> mutations) {
+		for (Mutation<? extends T> mutation : mutations) {
+			add(mutation);
+		}
+		return this;
+	}
+
+	public int size() {
+		return count;
+	}
+
+	public void clear() {
+		Arrays.fill(values, 0, count, null);
+		count = 0;
+	}
+
+	private LinkedListBatch<T> add(int index, boolean insert, T value) {
+		if (count == indices.length) {
+			int capacity = count << 1;
+			indices = Arrays.copyOf(indices, capacity);
+			inserts = Arrays.copyOf(inserts, capacity);
+			values = Arrays.copyOf(values, capacity);
+		}
+		indices[count] = index;
+		inserts[count] = insert;
+		values[count] = value;
+		count++;
+		return this;
+	}
+
+	// ----------------------------------------
+	// 💠 APPLYING
+	// ----------------------------------------
+
+	/** Applies every valid mutation to {@code list} in one pass over its chain */
+	public Result applyTo(SinglyLinkedList<T> list, IndexMode mode) {
+		String[] errors = new String[count];
+		int originalSize = list.size;
+		Piece[] pieces = resolve(originalSize, mode, errors);
+
+		SinglyLinkedListNode<T> curr = list.head;
+		SinglyLinkedListNode<T> newHead = null;
+		SinglyLinkedListNode<T> newTail = null;
+		int position = 0;
+		int size = 0;
+
+		for (Piece piece : pieces) {
+			if (piece.length == 0) {
+				SinglyLinkedListNode<T> node = list.newNode(valueAt(piece.start), null);
+				if (newTail == null) {
+					newHead = node;
+				} else {
+					newTail.next = node;
+				}
+				newTail = node;
+				size++;
+				continue;
+			}
+
+			// Drop the nodes before the run, then keep the run as it is
+			while (position < piece.start) {
+				SinglyLinkedListNode<T> next = curr.next;
+				list.recycle(curr);
+				curr = next;
+				position++;
+			}
+
+			if (newTail == null) {
+				newHead = curr;
+			} else {
+				newTail.next = curr;
+			}
+
+			for (int i = 1; i < piece.length; i++) {
+				curr = curr.next;
+			}
+			newTail = curr;
+			curr = curr.next;
+			position += piece.length;
+			size += piece.length;
+		}
+
+		while (position < originalSize) {
+			SinglyLinkedListNode<T> next = curr.next;
+			list.recycle(curr);
+			curr = next;
+			position++;
+		}
+
+		if (newTail != null) {
+			newTail.next = null;
+		}
+
+		list.head = newHead;
+		list.tail = newTail;
+		list.size = size;
+		return new Result(errors);
+	}
+
+	/** Applies every valid mutation to {@code list} in one pass over its chain */
+	public Result applyTo(DoublyLinkedList<T> list, IndexMode mode) {
+		String[] errors = new String[count];
+		int originalSize = list.size;
+		Piece[] pieces = resolve(originalSize, mode, errors);
+
+		DoublyLinkedListNode<T> curr = list.head;
+		DoublyLinkedListNode<T> newHead = null;
+		DoublyLinkedListNode<T> newTail = null;
+		int position = 0;
+		int size = 0;
+
+		for (Piece piece : pieces) {
+			if (piece.length == 0) {
+				DoublyLinkedListNode<T> node = list.newNode(valueAt(piece.start), newTail, null);
+				if (newTail == null) {
+					newHead = node;
+				} else {
+					newTail.next = node;
+				}
+				newTail = node;
+				size++;
+				continue;
+			}
+
+			while (position < piece.start) {
+				DoublyLinkedListNode<T> next = curr.next;
+				list.recycle(curr);
+				curr = next;
+				position++;
+			}
+
+			curr.prev = newTail;
+			if (newTail == null) {
+				newHead = curr;
+			} else {
+				newTail.next = curr;
+			}
+
+			// Links inside a kept run are already right
+			for (int i = 1; i < piece.length; i++) {
+				curr = curr.next;
+			}
+			newTail = curr;
+			curr = curr.next;
+			position += piece.length;
+			size += piece.length;
+		}
+
+		while (position < originalSize) {
+			DoublyLinkedListNode<T> next = curr.next;
+			list.recycle(curr);
+			curr = next;
+			position++;
+		}
+
+		if (newTail != null) {
+			newTail.next = null;
+		}
+
+		list.head = newHead;
+		list.tail = newTail;
+		list.size = size;
+		return new Result(errors);
+	}
+
+	@SuppressWarnings("unchecked")
+	private T valueAt(int mutation) {
+		return (T) values[mutation];
+	}
+
+	// ----------------------------------------
+	// 💠 RESOLVING POSITIONS
+	// The final list is described as a sequence of pieces: runs of
+	// original nodes [start, start + length) and single inserted values
+	// (length 0, start = index of the insert mutation).
+	// ----------------------------------------
+
+	private static final class Piece {
+		int start;
+		int length;
+
+		// Implicit treap links, only used in SHIFTING mode
+		final int priority;
+		Piece left;
+		Piece right;
+		int total; // elements in this subtree
+
+		Piece(int start, int length, int priority) {
+			this.start = start;
+			this.length = length;
+			this.priority = priority;
+			this.total = Math.max(length, 1);
+		}
+
+		int elements() {
+			return Math.max(length, 1);
+		}
+	}
+
+	private Piece[] resolve(int size, IndexMode mode, String[] errors) {
+		return mode == IndexMode.ORIGINAL
+				? resolveOriginal(size, errors)
+				: new ShiftingResolver(size).resolve(errors);
+	}
+
+	/** Sorts the mutations by (index, insertion order) and emits pieces between them */
+	private Piece[] resolveOriginal(int size, String[] errors) {
+		long[] order = new long[count];
+		int valid = 0;
+
+		for (int i = 0; i < count; i++) {
+			int index = indices[i];
+			if (index < 0 || index > size || (!inserts[i] && index == size)) {
+				errors[i] = "Invalid index " + index + " for list of size " + size;
+				continue;
+			}
+			order[valid++] = ((long) index << 32) | i;
+		}
+		Arrays.sort(order, 0, valid);
+
+		Piece[] pieces = new Piece[2 * valid + 1];
+		int n = 0;
+		int position = 0; // first original node not yet emitted or dropped
+
+		for (int j = 0; j < valid; j++) {
+			int index = (int) (order[j] >>> 32);
+			int mutation = (int) order[j];
+
+			if (index > position) {
+				pieces[n++] = new Piece(position, index - position, 0);
+				position = index;
+			}
+
+			if (inserts[mutation]) {
+				pieces[n++] = new Piece(mutation, 0, 0);
+			} else if (index < position) {
+				errors[mutation] = "Index " + index + " is already deleted";
+			} else {
+				position = index + 1;
+			}
+		}
+
+		if (position < size) {
+			pieces[n++] = new Piece(position, size - position, 0);
+		}
+
+		return Arrays.copyOf(pieces, n);
+	}
+
+	/**
+	 * Replays the mutations in order on an implicit treap of pieces, where each position is
+	 * found by subtree element counts. The treap never holds more than {@code 2k + 1} pieces, so
+	 * every mutation costs O(log k) however long the list is.
+	 */
+	private final class ShiftingResolver {
+		private final SplittableRandom random = new SplittableRandom();
+		private Piece root;
+
+		// Results of split()
+		private Piece splitLeft;
+		private Piece splitRight;
+
+		ShiftingResolver(int size) {
+			if (size > 0) {
+				root = new Piece(0, size, random.nextInt());
+			}
+		}
+
+		Piece[] resolve(String[] errors) {
+			int length = total(root);
+			int pieces = root == null ? 0 : 1;
+
+			for (int i = 0; i < count; i++) {
+				int index = indices[i];
+
+				if (inserts[i]) {
+					if (index < 0 || index > length) {
+						errors[i] = "Invalid index " + index + " for list of size " + length;
+						continue;
+					}
+
+					split(root, index);
+					Piece left = splitLeft;
+					Piece right = splitRight;
+					root = merge(merge(left, new Piece(i, 0, random.nextInt())), right);
+					length++;
+				} else {
+					if (index < 0 || index >= length) {
+						errors[i] = "Invalid index " + index + " for list of size " + length;
+						continue;
+					}
+
+					split(root, index);
+					Piece left = splitLeft;
+					split(splitRight, 1);
+					root = merge(left, splitRight);
+					length--;
+				}
+				pieces += 2;
+			}
+
+			return inOrder(root, pieces);
+		}
+
+		/** Splits {@code t} into its first {@code k} elements and the rest, cutting a run if needed */
+		private void split(Piece t, int k) {
+			if (t == null) {
+				splitLeft = splitRight = null;
+				return;
+			}
+
+			int leftTotal = total(t.left);
+
+			if (k <= leftTotal) {
+				split(t.left, k);
+				t.left = splitRight;
+				update(t);
+				splitRight = t;
+			} else if (k >= leftTotal + t.elements()) {
+				split(t.right, k - leftTotal - t.elements());
+				t.right = splitLeft;
+				update(t);
+				splitLeft = t;
+			} else {
+				// k falls inside an original run: cut it in two
+				int cut = k - leftTotal;
+				Piece rest = new Piece(t.start + cut, t.length - cut, random.nextInt());
+				Piece right = t.right;
+				t.length = cut;
+				t.right = null;
+				update(t);
+				splitRight = merge(rest, right);
+				splitLeft = t;
+			}
+		}
+
+		private Piece merge(Piece a, Piece b) {
+			if (a == null) {
+				return b;
+			}
+			if (b == null) {
+				return a;
+			}
+
+			if (a.priority > b.priority) {
+				a.right = merge(a.right, b);
+				update(a);
+				return a;
+			}
+
+			b.left = merge(a, b.left);
+			update(b);
+			return b;
+		}
+
+		private int total(Piece t) {
+			return t == null ? 0 : t.total;
+		}
+
+		private void update(Piece t) {
+			t.total = total(t.left) + t.elements() + total(t.right);
+		}
+
+		private Piece[] inOrder(Piece t, int capacity) {
+			Piece[] result = new Piece[capacity];
+			int n = 0;
+			ArrayDeque<Piece> stack = new ArrayDeque<>();
+
+			while (t != null || !stack.isEmpty()) {
+				while (t != null) {
+					stack.push(t);
+					t = t.left;
+				}
+				t = stack.pop();
+				result[n++] = t;
+				t = t.right;
+			}
+
+			return Arrays.copyOf(result, n);
+		}
+	}
+}
@@ -1,98 +1,59 @@
 package linkedListUtilityPackage;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.List;
 import java.util.Scanner;
+import java.util.stream.IntStream;
 
 public class LinkedListHelper {
 	
-	public static <T> SinglyLinkedListNode<T> createSinglyLinkedList(List<T> list) {
-		if (list == null || list.size() == 0) {
-			return null;
-		}
+	public static <T> SinglyLinkedList<T> createSinglyLinkedList(List<T> list) {
+		SinglyLinkedList<T> linkedList = new SinglyLinkedList<>();
 		
-		SinglyLinkedListNode<T> rootNode = null;
-		SinglyLinkedListNode<T> prev = null;
+		if (list == null) {
+			return linkedList;
+		}
 		
 		for (T value : list) {
-			SinglyLinkedListNode<T> node = new SinglyLinkedListNode<>(value);
-			
-			if (rootNode == null) {
-				rootNode = node;
-			} else {
-				prev.next = node;
-			}
-			
-			prev = node;
+			linkedList.insertAtTail(value);
 		}
 		
-		return rootNode;
+		return linkedList;
 	}
 	
-	public static SinglyLinkedListNode<Integer> createIntegerSinglyLinkedListFromInput() {
+	public static SinglyLinkedList<Integer> createIntegerSinglyLinkedListFromInput() {
 		Scanner sc = new Scanner(System.in);
 
 		System.out.println("==> Enter Linked List (e.g., 12 8 7): ");
-		SinglyLinkedListNode<Integer> linkedList = null;
-		String line = sc.nextLine();
-
-		if (line.length() > 0) {
-			String[] ll1String = line.split(" ");
-			List<Integer> ll1List = new ArrayList<>();
-
-			for (String str : ll1String) {
-				ll1List.add(Integer.parseInt(str));
-			}
-
-			linkedList = createSinglyLinkedList(ll1List);
-		}
+		SinglyLinkedList<Integer> linkedList = createIntegerSinglyLinkedList(sc.nextLine());
 
 		System.out.println("==> Linked List: " + linkedList);
 		
 		return linkedList;
 	}
 	
-	public static <T> DoublyLinkedListNode<T> createDoublyLinkedList(List<T> list) {
-		if (list == null || list.size() == 0) {
-			return null;
-		}
+	public static <T> DoublyLinkedList<T> createDoublyLinkedList(List<T> list) {
+		DoublyLinkedList<T> linkedList = new DoublyLinkedList<>();
 		
-		DoublyLinkedListNode<T> rootNode = null;
-		DoublyLinkedListNode<T> prev = null;
+		if (list == null) {
+			return linkedList;
+		}
 		
 		for (T value : list) {
-			DoublyLinkedListNode<T> node = new DoublyLinkedListNode<>(value);
-			
-			if (rootNode == null) {
-				rootNode = node;
-			} else {
-				prev.next = node;
-				node.prev = prev;
-			}
-			
-			prev = node;
+			linkedList.insertAtTail(value);
 		}
 		
-		return rootNode;
+		return linkedList;
 	}
 	
-	public static DoublyLinkedListNode<Integer> createIntegerDoublyLinkedListFromInput() {
+	public static DoublyLinkedList<Integer> createIntegerDoublyLinkedListFromInput() {
 		Scanner sc = new Scanner(System.in);
 
 		System.out.println("==> Enter Linked List (e.g., 12 8 7): ");
-		DoublyLinkedListNode<Integer> linkedList = null;
-		String line = sc.nextLine();
-
-		if (line.length() > 0) {
-			String[] ll1String = line.split(" ");
-			List<Integer> ll1List = new ArrayList<>();
-
-			for (String str : ll1String) {
-				ll1List.add(Integer.parseInt(str));
-			}
-
-			linkedList = createDoublyLinkedList(ll1List);
-		}
+		DoublyLinkedList<Integer> linkedList = createIntegerDoublyLinkedList(sc.nextLine());
 
 		System.out.println("==> Linked List: " + linkedList);
 		
@@ -103,23 +64,16 @@ public class LinkedListHelper {
 		Scanner sc = new Scanner(System.in);
 
 		System.out.println("==> Enter Linked List (e.g., 12 8 7): ");
-		SinglyLinkedListNode<Integer> linkedList = null;
-		String line = sc.nextLine();
+		SinglyLinkedList<Integer> linkedList = createIntegerSinglyLinkedList(sc.nextLine());
 
-		if (line.length() > 0) {
-			String[] ll1String = line.split(" ");
-			List<Integer> ll1List = new ArrayList<>();
-
-			for (String str : ll1String) {
-				ll1List.add(Integer.parseInt(str));
-			}
-
-			linkedList = createSinglyLinkedList(ll1List, true);
+		// Close the loop: the tail points back to the head
+		if (linkedList.tail != null) {
+			linkedList.tail.next = linkedList.head;
 		}
 
-		printCircularLinkedList(linkedList);
+		printCircularLinkedList(linkedList.head);
 		
-		return linkedList;
+		return linkedList.head;
 	}
 	
 	public static void printCircularLinkedList(SinglyLinkedListNode<Integer> head)
@@ -141,32 +95,100 @@ public class LinkedListHelper {
 		System.out.println("==> Linked List: " + sb.toString());
 	}
 	
-	private static <T> SinglyLinkedListNode<T> createSinglyLinkedList(List<T> list, boolean createCircular) {
-		if (list == null || list.size() == 0) {
-			return null;
+	// ----------------------------------------
+	// 💠 BULK BUILDERS
+	// Values go straight into the list in one pass: no split(), no
+	// per-token String and no intermediate ArrayList<Integer>.
+	// ----------------------------------------
+
+	public static SinglyLinkedList<Integer> createIntegerSinglyLinkedList(int[] values) {
+		SinglyLinkedList<Integer> linkedList = new SinglyLinkedList<>();
+		for (int value : values) {
+			linkedList.insertAtTail(value);
 		}
-		
-		SinglyLinkedListNode<T> rootNode = null;
-		SinglyLinkedListNode<T> prev = null;
-		
-		for (int i=0; i<list.size(); ++i) {
-			T value = list.get(i);
-			SinglyLinkedListNode<T> node = new SinglyLinkedListNode<>(value);
-			
-			if (rootNode == null) {
-				rootNode = node;
-			} else {
-				prev.next = node;
-			}
-			
-			prev = node;
-			
-			if (i == list.size() - 1 && createCircular) {
-				node.next = rootNode;
-			}
+		return linkedList;
+	}
+
+	public static SinglyLinkedList<Integer> createIntegerSinglyLinkedList(IntStream values) {
+		SinglyLinkedList<Integer> linkedList = new SinglyLinkedList<>();
+		values.sequential().forEachOrdered(linkedList::insertAtTail);
+		return linkedList;
+	}
+
+	/** Parses whitespace separated integers, e.g. one line of user input */
+	public static SinglyLinkedList<Integer> createIntegerSinglyLinkedList(CharSequence text) {
+		SinglyLinkedList<Integer> linkedList = new SinglyLinkedList<>();
+		IntTokenParser.parse(text, linkedList::insertAtTail);
+		return linkedList;
+	}
+
+	/** Parses whitespace separated integers until end of stream; the stream is not closed */
+	public static SinglyLinkedList<Integer> createIntegerSinglyLinkedList(InputStream in) throws IOException {
+		return createIntegerSinglyLinkedList(Channels.newChannel(in));
+	}
+
+	/** Parses whitespace separated integers until end of stream; the channel is not closed */
+	public static SinglyLinkedList<Integer> createIntegerSinglyLinkedList(ReadableByteChannel channel) throws IOException {
+		SinglyLinkedList<Integer> linkedList = new SinglyLinkedList<>();
+		IntTokenParser.parse(channel, linkedList::insertAtTail);
+		return linkedList;
+	}
+
+	public static DoublyLinkedList<Integer> createIntegerDoublyLinkedList(int[] values) {
+		DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>();
+		for (int value : values) {
+			linkedList.insertAtTail(value);
 		}
-		
-		return rootNode;
+		return linkedList;
+	}
+
+	public static DoublyLinkedList<Integer> createIntegerDoublyLinkedList(IntStream values) {
+		DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>();
+		values.sequential().forEachOrdered(linkedList::insertAtTail);
+		return linkedList;
+	}
+
+	/** Parses whitespace separated integers, e.g. one line of user input */
+	public static DoublyLinkedList<Integer> createIntegerDoublyLinkedList(CharSequence text) {
+		DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>();
+		IntTokenParser.parse(text, linkedList::insertAtTail);
+		return linkedList;
+	}
+
+	/** Parses whitespace separated integers until end of stream; the stream is not closed */
+	public static DoublyLinkedList<Integer> createIntegerDoublyLinkedList(InputStream in) throws IOException {
+		return createIntegerDoublyLinkedList(Channels.newChannel(in));
+	}
+
+	/** Parses whitespace separated integers until end of stream; the channel is not closed */
+	public static DoublyLinkedList<Integer> createIntegerDoublyLinkedList(ReadableByteChannel channel) throws IOException {
+		DoublyLinkedList<Integer> linkedList = new DoublyLinkedList<>();
+		IntTokenParser.parse(channel, linkedList::insertAtTail);
+		return linkedList;
+	}
+
+	/** Parses whitespace separated integers into an unboxed list; the stream is not closed */
+	public static IntSinglyLinkedList createIntSinglyLinkedList(InputStream in) throws IOException {
+		return createIntSinglyLinkedList(Channels.newChannel(in));
+	}
+
+	/** Parses whitespace separated integers into an unboxed list; the channel is not closed */
+	public static IntSinglyLinkedList createIntSinglyLinkedList(ReadableByteChannel channel) throws IOException {
+		IntSinglyLinkedList linkedList = new IntSinglyLinkedList();
+		IntTokenParser.parse(channel, linkedList::insertAtTail);
+		return linkedList;
+	}
+
+	/** Parses whitespace separated integers into an unboxed list; the stream is not closed */
+	public static IntDoublyLinkedList createIntDoublyLinkedList(InputStream in) throws IOException {
+		return createIntDoublyLinkedList(Channels.newChannel(in));
+	}
+
+	/** Parses whitespace separated integers into an unboxed list; the channel is not closed */
+	public static IntDoublyLinkedList createIntDoublyLinkedList(ReadableByteChannel channel) throws IOException {
+		IntDoublyLinkedList linkedList = new IntDoublyLinkedList();
+		IntTokenParser.parse(channel, linkedList::insertAtTail);
+		return linkedList;
 	}
 
 }
@@ -0,0 +1,190 @@
+package linkedListUtilityPackage;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.EventType;
+
+/**
+ * Opt-in instrumentation of the {@link SinglyLinkedList} and {@link DoublyLinkedList} insert and
+ * delete operations.
+ *
+ * <p>Switched on with {@code -DlinkedList.metrics=true}. For every operation it then records
+ * <ul>
+ *   <li>the number of calls and the nodes walked to reach the position (hops),</li>
+ *   <li>latency and hops in {@link LogLinearHistogram}s,</li>
+ *   <li>a {@link ListOperationEvent} for JDK Flight Recorder, if a recording asks for it; the event
+ *       is only allocated while one does, and its duration spans the operation,</li>
+ * </ul>
+ * plus the number of nodes allocated and freed across all instrumented lists.
+ *
+ * <p>The hooks are all guarded by {@link #ENABLED}. It is a {@code static final} constant, so when
+ * the property is not set the JIT folds every {@code if (LinkedListMetrics.ENABLED)} to false and
+ * drops the guarded code, and the lists run exactly as without instrumentation.
+ */
+public final class LinkedListMetrics {
+	public static final boolean ENABLED = Boolean.getBoolean("linkedList.metrics");
+
+	public enum Container {
+		SINGLY("SinglyLinkedList"), DOUBLY("DoublyLinkedList");
+
+		final String label;
+
+		Container(String label) {
+			this.label = label;
+		}
+	}
+
+	public enum Operation {
+		INSERT_AT_HEAD, INSERT_AT_TAIL, INSERT_AT_INDEX,
+		DELETE_AT_HEAD, DELETE_AT_TAIL, DELETE_AT_INDEX, DELETE_FIRST_INSTANCE
+	}
+
+	/** Everything recorded for one operation of one container */
+	public static final class OperationStats {
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder hops = new LongAdder();
+		private final LogLinearHistogram latency = new LogLinearHistogram();
+		private final LogLinearHistogram hopHistogram = new LogLinearHistogram();
+
+		public long getCalls() {
+			return calls.sum();
+		}
+
+		/** Total nodes walked by all calls */
+		public long getHops() {
+			return hops.sum();
+		}
+
+		/** Latency in nanoseconds */
+		public LogLinearHistogram getLatency() {
+			return latency;
+		}
+
+		/** Nodes walked per call */
+		public LogLinearHistogram getHopHistogram() {
+			return hopHistogram;
+		}
+
+		void reset() {
+			calls.reset();
+			hops.reset();
+			latency.reset();
+			hopHistogram.reset();
+		}
+	}
+
+	private static final OperationStats[][] STATS = new OperationStats[Container.values().length][Operation.values().length];
+
+	static {
+		for (OperationStats[] row : STATS) {
+			for (int i = 0; i < row.length; i++) {
+				row[i] = new OperationStats();
+			}
+		}
+	}
+
+	/** Checked before allocating an event, so nothing is allocated while no recording enables it */
+	private static final EventType EVENT_TYPE = EventType.getEventType(ListOperationEvent.class);
+
+	private static final LongAdder NODES_ALLOCATED = new LongAdder();
+	private static final LongAdder NODES_FREED = new LongAdder();
+
+	private LinkedListMetrics() {
+	}
+
+	public static OperationStats get(Container container, Operation operation) {
+		return STATS[container.ordinal()][operation.ordinal()];
+	}
+
+	/** Nodes linked into an instrumented list, newly created or taken from a {@link NodePool} */
+	public static long getNodesAllocated() {
+		return NODES_ALLOCATED.sum();
+	}
+
+	/** Nodes deleted from an instrumented list */
+	public static long getNodesFreed() {
+		return NODES_FREED.sum();
+	}
+
+	public static void reset() {
+		for (OperationStats[] row : STATS) {
+			for (OperationStats stats : row) {
+				stats.reset();
+			}
+		}
+		NODES_ALLOCATED.reset();
+		NODES_FREED.reset();
+	}
+
+	/** One line per operation that has been called, with its call count, hops and latency */
+	public static String report() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-17s %-22s %10s %10s %10s %10s %10s%n",
+				"Container", "Operation", "calls", "avg hops", "p50 ns", "p99 ns", "max ns"));
+
+		for (Container container : Container.values()) {
+			for (Operation operation : Operation.values()) {
+				OperationStats stats = get(container, operation);
+				long calls = stats.getCalls();
+				if (calls == 0) {
+					continue;
+				}
+				LogLinearHistogram latency = stats.getLatency();
+				sb.append(String.format("%-17s %-22s %10d %10.1f %10d %10d %10d%n", container.label, operation,
+						calls, (double) stats.getHops() / calls, latency.getValueAtPercentile(50),
+						latency.getValueAtPercentile(99), latency.getMax()));
+			}
+		}
+
+		return sb.append(String.format("Nodes allocated: %d, freed: %d", getNodesAllocated(), getNodesFreed()))
+				.toString();
+	}
+
+	// ----------------------------------------
+	// 💠 HOOKS
+	// Callers guard every call with ENABLED.
+	// ----------------------------------------
+
+	/** Start timestamp for {@link #record} */
+	static long start() {
+		return System.nanoTime();
+	}
+
+	/** A begun event for {@link #record} if a recording has it enabled, else null */
+	static ListOperationEvent beginEvent() {
+		if (!EVENT_TYPE.isEnabled()) {
+			return null;
+		}
+		ListOperationEvent event = new ListOperationEvent();
+		event.begin();
+		return event;
+	}
+
+	static void record(Container container, Operation operation, long start, int hops, ListOperationEvent event) {
+		long latency = System.nanoTime() - start;
+
+		OperationStats stats = STATS[container.ordinal()][operation.ordinal()];
+		stats.calls.increment();
+		stats.hops.add(hops);
+		stats.latency.record(latency);
+		stats.hopHistogram.record(hops);
+
+		if (event != null) {
+			event.end();
+			if (event.shouldCommit()) {
+				event.container = container.label;
+				event.operation = operation.name();
+				event.hops = hops;
+				event.commit();
+			}
+		}
+	}
+
+	static void nodeAllocated() {
+		NODES_ALLOCATED.increment();
+	}
+
+	static void nodeFreed() {
+		NODES_FREED.increment();
+	}
+}
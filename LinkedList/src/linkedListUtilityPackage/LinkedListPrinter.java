@@ -0,0 +1,215 @@
+package linkedListUtilityPackage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+/**
+ * Iterative, bounded rendering of node chains.
+ *
+ * <p>Output is streamed to any {@link Appendable} (a {@code StringBuilder}, a {@code Writer},
+ * {@code System.out}, ...). At most {@code limit} values are written; the rest of the chain is
+ * only counted and reported as {@code "... (n more)"}. Everything runs in a single loop, so
+ * printing a list never recurses, never builds intermediate strings and stays O(n).
+ *
+ * <p>Chains that loop are handled too: a chain that comes back to its first node ends with
+ * {@code "back to head"} (like {@code LinkedListHelper.printCircularLinkedList}), and any other
+ * loop found while counting is reported instead of spinning forever.
+ *
+ * <p>Containers that do not expose nodes (array or file backed, persistent) are rendered the same
+ * way from their {@link Iterable} values and their size, which they keep, so nothing past the
+ * limit is read.
+ */
+public final class LinkedListPrinter {
+	/** Number of values {@code toString()} renders before summarising the rest. */
+	public static final int DEFAULT_LIMIT = 1_000;
+
+	/** Pass as {@code limit} to render every value. */
+	public static final int UNLIMITED = Integer.MAX_VALUE;
+
+	static final String SINGLY_ARROW = " -> ";
+	static final String DOUBLY_ARROW = " <=> ";
+
+	private LinkedListPrinter() {
+	}
+
+	// ----------------------------------------
+	// 💠 SINGLY LINKED
+	// ----------------------------------------
+
+	/** Renders the chain starting at {@code head}, e.g. {@code "1 -> 2 -> null"} */
+	public static void print(SinglyLinkedListNode<?> head, Appendable out, int limit) throws IOException {
+		SinglyLinkedListNode<?> curr = head;
+		int printed = 0;
+
+		while (curr != null && printed < limit) {
+			out.append(String.valueOf(curr.value)).append(SINGLY_ARROW);
+			curr = curr.next;
+			printed++;
+
+			if (curr == head) {
+				out.append("back to head");
+				return;
+			}
+		}
+
+		if (curr == null) {
+			out.append("null");
+			return;
+		}
+
+		// Count the rest without rendering it; Brent's teleporting marker catches any loop
+		SinglyLinkedListNode<?> marker = curr;
+		long remaining = 0;
+		long power = 1;
+
+		while (curr != null) {
+			remaining++;
+			curr = curr.next;
+
+			if (curr == marker || curr == head) {
+				out.append("... (more, list loops)");
+				return;
+			}
+
+			if (remaining == power) {
+				marker = curr;
+				power <<= 1;
+			}
+		}
+
+		out.append("... (").append(String.valueOf(remaining)).append(" more)");
+	}
+
+	public static String toString(SinglyLinkedListNode<?> head, int limit) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			print(head, sb, limit);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // StringBuilder never throws
+		}
+		return sb.toString();
+	}
+
+	// ----------------------------------------
+	// 💠 DOUBLY LINKED
+	// ----------------------------------------
+
+	/**
+	 * Renders the chain starting at {@code head}, e.g. {@code "1 <=> 2 <=> null"}.
+	 * Every node's {@code prev}/{@code next} links are verified in the same pass; the first
+	 * broken node ends the output with {@code "Wrong prev"} or {@code "Wrong next"}.
+	 */
+	public static void print(DoublyLinkedListNode<?> head, Appendable out, int limit) throws IOException {
+		DoublyLinkedListNode<?> curr = head;
+		int printed = 0;
+
+		while (curr != null && printed < limit) {
+			String error = checkLinks(curr);
+			if (error != null) {
+				out.append(error);
+				return;
+			}
+
+			out.append(String.valueOf(curr.value)).append(DOUBLY_ARROW);
+			curr = curr.next;
+			printed++;
+
+			if (curr == head) {
+				out.append("back to head");
+				return;
+			}
+		}
+
+		if (curr == null) {
+			out.append("null");
+			return;
+		}
+
+		DoublyLinkedListNode<?> marker = curr;
+		long remaining = 0;
+		long power = 1;
+
+		while (curr != null) {
+			String error = checkLinks(curr);
+			if (error != null) {
+				out.append("... (").append(String.valueOf(remaining)).append(" more) ").append(error);
+				return;
+			}
+
+			remaining++;
+			curr = curr.next;
+
+			if (curr == marker || curr == head) {
+				out.append("... (more, list loops)");
+				return;
+			}
+
+			if (remaining == power) {
+				marker = curr;
+				power <<= 1;
+			}
+		}
+
+		out.append("... (").append(String.valueOf(remaining)).append(" more)");
+	}
+
+	public static String toString(DoublyLinkedListNode<?> head, int limit) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			print(head, sb, limit);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // StringBuilder never throws
+		}
+		return sb.toString();
+	}
+
+	private static String checkLinks(DoublyLinkedListNode<?> node) {
+		if (node.prev != null && node.prev.next != node) {
+			return "Wrong prev";
+		}
+
+		if (node.next != null && node.next.prev != node) {
+			return "Wrong next";
+		}
+
+		return null;
+	}
+
+	// ----------------------------------------
+	// 💠 ITERABLE CONTAINERS
+	// ----------------------------------------
+
+	/**
+	 * Renders the values of a container of known {@code size} in iteration order, each followed by
+	 * {@code separator}, e.g. {@code "1 <=> 2 <=> null"}. Values past {@code limit} are not read;
+	 * the rest is reported as {@code "... (n more)"} from the size in O(1).
+	 */
+	public static void print(Iterable<?> values, int size, String separator, Appendable out, int limit)
+			throws IOException {
+		Iterator<?> it = values.iterator();
+		int printed = 0;
+
+		while (it.hasNext() && printed < limit) {
+			out.append(String.valueOf(it.next())).append(separator);
+			printed++;
+		}
+
+		if (printed == size) {
+			out.append("null");
+			return;
+		}
+
+		out.append("... (").append(String.valueOf(size - printed)).append(" more)");
+	}
+
+	public static String toString(Iterable<?> values, int size, String separator, int limit) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			print(values, size, separator, sb, limit);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // StringBuilder never throws
+		}
+		return sb.toString();
+	}
+}
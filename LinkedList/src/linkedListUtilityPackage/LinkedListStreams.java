@@ -0,0 +1,294 @@
+package linkedListUtilityPackage;
+
+import java.util.Comparator;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Spliterator} and {@link Stream} adapters for node chains.
+ *
+ * <p>A linked chain can only be walked from the front, so splitting works like the JDK's
+ * {@code LinkedList} spliterator: {@code trySplit} copies the next batch of values into an
+ * array and hands that array off as the split, while the original keeps walking. Batches grow
+ * by {@value #BATCH_UNIT} on every split (up to {@value #MAX_BATCH}), so a parallel stream
+ * quickly gets array-backed chunks that other cores can process while this thread keeps
+ * feeding them.
+ *
+ * <p>When the length is known (the list containers track it) the spliterators report
+ * {@code SIZED | SUBSIZED}; raw node chains are only {@code ORDERED}.
+ */
+public final class LinkedListStreams {
+	static final int BATCH_UNIT = 1 << 10;
+	static final int MAX_BATCH = 1 << 25;
+
+	private LinkedListStreams() {
+	}
+
+	// ----------------------------------------
+	// 💠 SPLITERATORS
+	// ----------------------------------------
+
+	public static <T> Spliterator<T> spliterator(SinglyLinkedListNode<T> head) {
+		return new SinglySpliterator<>(head, -1);
+	}
+
+	public static <T> Spliterator<T> spliterator(SinglyLinkedList<T> list) {
+		return new SinglySpliterator<>(list.getHead(), list.size());
+	}
+
+	public static <T> Spliterator<T> spliterator(DoublyLinkedListNode<T> head) {
+		return new DoublySpliterator<>(head, -1);
+	}
+
+	public static <T> Spliterator<T> spliterator(DoublyLinkedList<T> list) {
+		return new DoublySpliterator<>(list.getHead(), list.size());
+	}
+
+	// ----------------------------------------
+	// 💠 STREAMS
+	// ----------------------------------------
+
+	public static <T> Stream<T> stream(SinglyLinkedListNode<T> head, boolean parallel) {
+		return StreamSupport.stream(spliterator(head), parallel);
+	}
+
+	public static <T> Stream<T> stream(SinglyLinkedList<T> list, boolean parallel) {
+		return StreamSupport.stream(spliterator(list), parallel);
+	}
+
+	public static <T> Stream<T> stream(DoublyLinkedListNode<T> head, boolean parallel) {
+		return StreamSupport.stream(spliterator(head), parallel);
+	}
+
+	public static <T> Stream<T> stream(DoublyLinkedList<T> list, boolean parallel) {
+		return StreamSupport.stream(spliterator(list), parallel);
+	}
+
+	/**
+	 * Stream of the indices whose values match {@code predicate}, in ascending order. Unlike a
+	 * value stream this keeps each element's position, so index lookups can run in parallel.
+	 */
+	public static <T> IntStream matchingIndices(SinglyLinkedList<T> list, Predicate<? super T> predicate, boolean parallel) {
+		return StreamSupport.intStream(new MatchingIndexSpliterator<>(spliterator(list), predicate), parallel);
+	}
+
+	public static <T> IntStream matchingIndices(DoublyLinkedList<T> list, Predicate<? super T> predicate, boolean parallel) {
+		return StreamSupport.intStream(new MatchingIndexSpliterator<>(spliterator(list), predicate), parallel);
+	}
+
+	/** Index of the first value matching {@code predicate}, if any */
+	public static <T> OptionalInt firstIndexOf(DoublyLinkedList<T> list, Predicate<? super T> predicate, boolean parallel) {
+		return matchingIndices(list, predicate, parallel).findFirst();
+	}
+
+	public static <T> OptionalInt firstIndexOf(SinglyLinkedList<T> list, Predicate<? super T> predicate, boolean parallel) {
+		return matchingIndices(list, predicate, parallel).findFirst();
+	}
+
+	// ----------------------------------------
+	// 💠 IMPLEMENTATION
+	// ----------------------------------------
+
+	/** Walks a chain from the front; subclasses only say how to read a node and step past it */
+	private abstract static class NodeSpliterator<N, T> implements Spliterator<T> {
+		private N current;
+		private long remaining; // -1 when the length is unknown
+		private int batch;
+
+		NodeSpliterator(N head, long size) {
+			this.current = head;
+			this.remaining = size;
+		}
+
+		abstract T valueOf(N node);
+
+		abstract N nextOf(N node);
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (current == null || remaining == 0) {
+				return false;
+			}
+
+			N node = current;
+			current = nextOf(node);
+			if (remaining > 0) {
+				remaining--;
+			}
+			action.accept(valueOf(node));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			N node = current;
+			long left = remaining;
+			current = null;
+			remaining = 0;
+
+			while (node != null && left != 0) {
+				action.accept(valueOf(node));
+				node = nextOf(node);
+				if (left > 0) {
+					left--;
+				}
+			}
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			N node = current;
+			if (node == null || remaining == 0 || remaining == 1) {
+				return null;
+			}
+
+			int n = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+			if (remaining > 0 && n > remaining) {
+				n = (int) remaining;
+			}
+
+			Object[] values = new Object[n];
+			int j = 0;
+			do {
+				values[j++] = valueOf(node);
+				node = nextOf(node);
+			} while (node != null && j < n);
+
+			current = node;
+			batch = j;
+			if (remaining > 0) {
+				remaining -= j;
+			}
+
+			return Spliterators.spliterator(values, 0, j, Spliterator.ORDERED);
+		}
+
+		@Override
+		public long estimateSize() {
+			return remaining >= 0 ? remaining : Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return remaining >= 0
+					? Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+					: Spliterator.ORDERED;
+		}
+	}
+
+	private static final class SinglySpliterator<T> extends NodeSpliterator<SinglyLinkedListNode<T>, T> {
+		SinglySpliterator(SinglyLinkedListNode<T> head, long size) {
+			super(head, size);
+		}
+
+		@Override
+		T valueOf(SinglyLinkedListNode<T> node) {
+			return node.value;
+		}
+
+		@Override
+		SinglyLinkedListNode<T> nextOf(SinglyLinkedListNode<T> node) {
+			return node.next;
+		}
+	}
+
+	private static final class DoublySpliterator<T> extends NodeSpliterator<DoublyLinkedListNode<T>, T> {
+		DoublySpliterator(DoublyLinkedListNode<T> head, long size) {
+			super(head, size);
+		}
+
+		@Override
+		T valueOf(DoublyLinkedListNode<T> node) {
+			return node.value;
+		}
+
+		@Override
+		DoublyLinkedListNode<T> nextOf(DoublyLinkedListNode<T> node) {
+			return node.next;
+		}
+	}
+
+	/**
+	 * Turns a value spliterator into one over the indices of matching values. Each split
+	 * remembers the index of its first element, so positions survive parallel splitting.
+	 */
+	private static final class MatchingIndexSpliterator<T> implements Spliterator.OfInt {
+		private final Spliterator<T> values;
+		private final Predicate<? super T> predicate;
+		private int index;
+
+		// Set by tryAdvance's consumer
+		private boolean matched;
+
+		MatchingIndexSpliterator(Spliterator<T> values, Predicate<? super T> predicate) {
+			this(values, predicate, 0);
+		}
+
+		private MatchingIndexSpliterator(Spliterator<T> values, Predicate<? super T> predicate, int firstIndex) {
+			this.values = values;
+			this.predicate = predicate;
+			this.index = firstIndex;
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			while (values.tryAdvance(value -> matched = predicate.test(value))) {
+				int current = index++;
+				if (matched) {
+					action.accept(current);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			values.forEachRemaining(value -> {
+				int current = index++;
+				if (predicate.test(value)) {
+					action.accept(current);
+				}
+			});
+		}
+
+		@Override
+		public OfInt trySplit() {
+			// Only sized sources can tell how many positions the prefix covers
+			if (!values.hasCharacteristics(Spliterator.SUBSIZED)) {
+				return null;
+			}
+
+			Spliterator<T> prefix = values.trySplit();
+			if (prefix == null) {
+				return null;
+			}
+
+			int firstIndex = index;
+			index += (int) prefix.estimateSize();
+			return new MatchingIndexSpliterator<>(prefix, predicate, firstIndex);
+		}
+
+		@Override
+		public long estimateSize() {
+			return values.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL;
+		}
+
+		@Override
+		public Comparator<? super Integer> getComparator() {
+			return null; // natural order
+		}
+	}
+}
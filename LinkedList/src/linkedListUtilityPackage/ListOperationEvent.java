@@ -0,0 +1,31 @@
+package linkedListUtilityPackage;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one instrumented list operation, committed by
+ * {@link LinkedListMetrics} when metrics are enabled and a recording has the event switched on,
+ * e.g. {@code -XX:StartFlightRecording=settings=profile}. The event is begun when the operation
+ * starts, so its duration is the operation's latency. Recorded without a stack trace by default to
+ * keep it cheap; enable {@code stackTrace} in the recording settings to get one.
+ */
+@Name("linkedList.Operation")
+@Label("Linked List Operation")
+@Category({"Data Structures", "Linked List"})
+@Description("One insert or delete on a linked list container, with the number of nodes it walked")
+@StackTrace(false)
+final class ListOperationEvent extends jdk.jfr.Event {
+
+	@Label("Container")
+	String container;
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Nodes Visited")
+	int hops;
+}
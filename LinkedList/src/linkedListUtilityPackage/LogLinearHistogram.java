@@ -0,0 +1,120 @@
+package linkedListUtilityPackage;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe histogram of non-negative {@code long} values with a fixed relative precision,
+ * in the style of HdrHistogram.
+ *
+ * <p>Values below {@value #SUB_BUCKETS} get a bucket each. Above that, every power of two
+ * {@code [2^e, 2^(e+1))} is split into {@value #SUB_BUCKETS} equal buckets, so a recorded value is
+ * known to within about 3% whatever its magnitude, and the whole {@code long} range takes 1,888
+ * counters. Recording is a couple of shifts and one atomic increment; nothing is allocated.
+ *
+ * <p>Percentiles report the upper end of the bucket they fall in, so they never understate.
+ */
+public final class LogLinearHistogram {
+	private static final int SUB_BITS = 5;
+	static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+	/** One group of sub-buckets for the small values, then one per power of two from 2^5 to 2^62 */
+	private static final int BUCKETS = (Long.SIZE - 1 - SUB_BITS + 1) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/** Records {@code value}; negative values count as 0 */
+	public void record(long value) {
+		long v = Math.max(0, value);
+		counts.incrementAndGet(indexOf(v));
+		count.increment();
+		sum.add(v);
+		max.accumulate(v);
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	/** Exact mean of the recorded values, or 0 if there are none */
+	public double getMean() {
+		long n = count.sum();
+		return n == 0 ? 0 : (double) sum.sum() / n;
+	}
+
+	/**
+	 * The smallest bucket bound at or below which {@code percentile}% of the recorded values lie,
+	 * or 0 if nothing has been recorded.
+	 *
+	 * @param percentile between 0 and 100
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long[] snapshot = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += snapshot[i];
+			if (seen >= rank) {
+				return Math.min(highestValueIn(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0);
+		}
+		count.reset();
+		sum.reset();
+		max.reset();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("count=%d mean=%.1f p50=%d p90=%d p99=%d p99.9=%d max=%d", getCount(), getMean(),
+				getValueAtPercentile(50), getValueAtPercentile(90), getValueAtPercentile(99),
+				getValueAtPercentile(99.9), getMax());
+	}
+
+	// ----------------------------------------
+	// 💠 BUCKETS
+	// ----------------------------------------
+
+	static int indexOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+
+		// Keep the leading one bit plus SUB_BITS bits below it
+		int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BITS;
+		return ((shift + 1) << SUB_BITS) + (int) ((value >>> shift) - SUB_BUCKETS);
+	}
+
+	static long highestValueIn(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+
+		int shift = (index >>> SUB_BITS) - 1;
+		long lowest = (long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+}
@@ -0,0 +1,733 @@
+package linkedListUtilityPackage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A doubly linked list of {@code int} values that lives in a memory-mapped file, so it survives
+ * restarts without being rebuilt from input.
+ *
+ * <p>The file is a fixed header followed by fixed-size records, all little-endian:
+ *
+ * <pre>
+ * header (64 bytes)  magic, version, record size, dirty flag,
+ *                    capacity, used, head, tail, size, free
+ * record i (12 bytes) value, prev, next
+ * </pre>
+ *
+ * Links are record indices and {@link #NIL} marks either end of the chain, exactly like
+ * {@link IntDoublyLinkedList}. Deleted records are threaded onto a free list and reused by later
+ * inserts; the file doubles when every record is in use. A free record keeps its {@code next}
+ * link and stores the free list link in {@code prev}, encoded below {@code NIL} so that it also
+ * marks the record as deleted.
+ *
+ * <p>Opening a file only maps it and checks the header, so it is O(1) however long the list is.
+ * Every operation reads and writes the mapped records directly; there is no heap copy.
+ *
+ * <p><b>Durability.</b> Changes reach the page cache immediately but only {@link #force()}
+ * guarantees they are on disk. The header carries a dirty flag that the first change after a
+ * {@code force()} writes through to disk before touching any record, and that is cleared once
+ * everything has been written. A file that is opened with the flag still set was not closed
+ * cleanly: its links are rebuilt by walking the {@code next} chain from the head (see
+ * {@link #wasRecovered()}). The walk steps over records marked deleted instead of keeping them,
+ * so a deletion that reached the disk stays deleted even if the link that bypassed the record did
+ * not. Changes made since the last {@code force()} may otherwise be lost, partly or entirely:
+ * values inserted since then can be missing. That O(n) pass only ever happens after a crash.
+ *
+ * <p>Not thread safe.
+ */
+public class MappedLinkedList implements Closeable {
+	/** Link value meaning "no record". */
+	public static final int NIL = -1;
+
+	private static final int MAGIC = 0x4C4C4D46; // "LLMF"
+	private static final int VERSION = 2;
+
+	private static final int DEFAULT_CAPACITY = 1024;
+
+	// Header layout
+	private static final int MAGIC_OFFSET = 0;
+	private static final int VERSION_OFFSET = 4;
+	private static final int RECORD_SIZE_OFFSET = 8;
+	private static final int DIRTY_OFFSET = 12;
+	private static final int CAPACITY_OFFSET = 16;
+	private static final int USED_OFFSET = 20;
+	private static final int HEAD_OFFSET = 24;
+	private static final int TAIL_OFFSET = 28;
+	private static final int SIZE_OFFSET = 32;
+	private static final int FREE_OFFSET = 36;
+	private static final int HEADER_SIZE = 64;
+
+	// Record layout
+	private static final int VALUE = 0;
+	private static final int PREV = 4;
+	private static final int NEXT = 8;
+	private static final int RECORD_SIZE = 12;
+
+	/** {@code prev} of a free record whose free list link is NIL; lower values encode other links */
+	private static final int FREE_MARK = -2;
+
+	/** A single mapping is limited to 2GB */
+	private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+	private final FileChannel channel;
+	private MappedByteBuffer buffer;
+	private int capacity;
+	private boolean dirty;
+	private final boolean recovered;
+
+	private MappedLinkedList(FileChannel channel, int initialCapacity) throws IOException {
+		this.channel = channel;
+
+		long length = channel.size();
+		if (length == 0) {
+			capacity = Math.min(Math.max(1, initialCapacity), MAX_CAPACITY);
+			map();
+			buffer.putInt(MAGIC_OFFSET, MAGIC);
+			buffer.putInt(VERSION_OFFSET, VERSION);
+			buffer.putInt(RECORD_SIZE_OFFSET, RECORD_SIZE);
+			buffer.putInt(CAPACITY_OFFSET, capacity);
+			setHead(NIL);
+			setTail(NIL);
+			setFree(NIL);
+			buffer.force();
+			recovered = false;
+			return;
+		}
+
+		if (length < HEADER_SIZE) {
+			throw new IOException("Not a linked list file: too short");
+		}
+
+		buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+		if (buffer.getInt(MAGIC_OFFSET) != MAGIC) {
+			throw new IOException("Not a linked list file: bad magic");
+		}
+
+		if (buffer.getInt(VERSION_OFFSET) != VERSION) {
+			throw new IOException("Unsupported linked list file version " + buffer.getInt(VERSION_OFFSET));
+		}
+
+		if (buffer.getInt(RECORD_SIZE_OFFSET) != RECORD_SIZE) {
+			throw new IOException("Unexpected record size " + buffer.getInt(RECORD_SIZE_OFFSET));
+		}
+
+		capacity = buffer.getInt(CAPACITY_OFFSET);
+		if (capacity < 1 || capacity > MAX_CAPACITY || length < HEADER_SIZE + (long) capacity * RECORD_SIZE) {
+			throw new IOException("Corrupt linked list file: capacity " + capacity + " does not match file length " + length);
+		}
+
+		map();
+
+		recovered = buffer.getInt(DIRTY_OFFSET) != 0;
+		if (recovered) {
+			recover();
+			force();
+		}
+	}
+
+	/** Opens the list stored in {@code file}, creating an empty one if the file does not exist */
+	public static MappedLinkedList open(Path file) throws IOException {
+		return open(file, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Opens the list stored in {@code file}, creating an empty one with room for
+	 * {@code initialCapacity} values if the file does not exist or is empty.
+	 *
+	 * @throws IOException if the file exists but is not a linked list file
+	 */
+	public static MappedLinkedList open(Path file, int initialCapacity) throws IOException {
+		FileChannel channel = FileChannel.open(file,
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			return new MappedLinkedList(channel, initialCapacity);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	public int size() {
+		return buffer.getInt(SIZE_OFFSET);
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/** True if the file was not closed cleanly and its links had to be rebuilt on open */
+	public boolean wasRecovered() {
+		return recovered;
+	}
+
+	// ----------------------------------------
+	// 💠 DURABILITY
+	// ----------------------------------------
+
+	/**
+	 * Writes every change made so far to the storage device. When this returns the file holds
+	 * a consistent list that will be opened without recovery, even after a crash.
+	 */
+	public void force() {
+		if (!dirty) {
+			return;
+		}
+
+		buffer.force();
+
+		// Only mark the file clean once the records it describes are on disk
+		buffer.putInt(DIRTY_OFFSET, 0);
+		buffer.force(0, HEADER_SIZE);
+		dirty = false;
+	}
+
+	/** Forces outstanding changes to disk and closes the file */
+	@Override
+	public void close() throws IOException {
+		if (!channel.isOpen()) {
+			return;
+		}
+
+		try {
+			force();
+		} finally {
+			channel.close();
+		}
+	}
+
+	// ----------------------------------------
+	// 💠 INSERTION OPERATIONS
+	// ----------------------------------------
+
+	/** Insert a new value at the head of the list */
+	public void insertAtHead(int value) throws IOException {
+		int head = head();
+		int node = allocate(value);
+		setPrev(node, NIL);
+		setNext(node, head);
+
+		if (head != NIL) {
+			setPrev(head, node);
+		} else {
+			setTail(node);
+		}
+
+		setHead(node);
+		setSize(size() + 1);
+	}
+
+	/** Insert a new value at the tail of the list */
+	public void insertAtTail(int value) throws IOException {
+		int tail = tail();
+		int node = allocate(value);
+		setPrev(node, tail);
+		setNext(node, NIL);
+
+		if (tail != NIL) {
+			setNext(tail, node);
+		} else {
+			setHead(node);
+		}
+
+		setTail(node);
+		setSize(size() + 1);
+	}
+
+	/**
+	 * Inserts a value so that it ends up at the given index.
+	 *
+	 * @throws Exception if the index is negative or greater than the length
+	 */
+	public void insertAtIndex(int index, int value) throws Exception {
+		if (index < 0)
+			throw new Exception("Invalid index: negative");
+
+		if (index == 0) {
+			insertAtHead(value);
+			return;
+		}
+
+		if (head() == NIL)
+			throw new Exception("Invalid index: empty list");
+
+		int size = size();
+		if (index > size)
+			throw new Exception("Invalid index: list shorter than index");
+
+		if (index == size) {
+			insertAtTail(value);
+			return;
+		}
+
+		int after = nodeAt(index);
+		int before = prevOf(after);
+		int node = allocate(value);
+		setPrev(node, before);
+		setNext(node, after);
+		setNext(before, node);
+		setPrev(after, node);
+		setSize(size + 1);
+	}
+
+	// ----------------------------------------
+	// 💠 DELETION OPERATIONS
+	// ----------------------------------------
+
+	/** Delete the head of the list; does nothing on an empty list */
+	public void deleteAtHead() {
+		int head = head();
+		if (head != NIL) {
+			unlink(head);
+		}
+	}
+
+	/**
+	 * Deletes the tail of the list in O(1).
+	 *
+	 * @throws Exception if the list is empty
+	 */
+	public void deleteAtTail() throws Exception {
+		int tail = tail();
+		if (tail == NIL)
+			throw new Exception("Invalid - Empty List");
+
+		unlink(tail);
+	}
+
+	/**
+	 * Deletes the value at the given index.
+	 *
+	 * @throws Exception if the index is negative, the list is empty or the index is past the tail
+	 */
+	public void deleteAtIndex(int index) throws Exception {
+		if (index < 0)
+			throw new Exception("Invalid - negative index");
+
+		if (head() == NIL)
+			throw new Exception("Invalid - Empty List");
+
+		if (index >= size())
+			throw new Exception("Invalid index - List is smaller!");
+
+		unlink(nodeAt(index));
+	}
+
+	/**
+	 * Deletes the first record holding {@code value}.
+	 *
+	 * @throws Exception if the list is empty or the value is not present
+	 */
+	public void deleteFirstInstance(int value) throws Exception {
+		if (head() == NIL)
+			throw new Exception("Empty List");
+
+		for (int curr = head(); curr != NIL; curr = nextOf(curr)) {
+			if (valueOf(curr) == value) {
+				unlink(curr);
+				return;
+			}
+		}
+
+		throw new Exception("Item not found");
+	}
+
+	/** Removes every element; the file keeps its size and records are reused */
+	public void clear() {
+		markDirty();
+		setHead(NIL);
+		setTail(NIL);
+		setFree(NIL);
+		setSize(0);
+		setUsed(0);
+	}
+
+	// ----------------------------------------
+	// 💠 SEARCH OPERATIONS
+	// ----------------------------------------
+
+	/** Returns the index of the first occurrence of {@code value}, or -1 if absent */
+	public int indexOf(int value) {
+		int index = 0;
+		for (int curr = head(); curr != NIL; curr = nextOf(curr)) {
+			if (valueOf(curr) == value) {
+				return index;
+			}
+			index++;
+		}
+		return -1;
+	}
+
+	public boolean contains(int value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * Returns the value at the given index.
+	 *
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public int get(int index) throws Exception {
+		if (index < 0 || index >= size())
+			throw new Exception("Invalid index - List is smaller!");
+
+		return valueOf(nodeAt(index));
+	}
+
+	public int getFirst() throws Exception {
+		if (head() == NIL)
+			throw new Exception("Invalid - Empty List");
+
+		return valueOf(head());
+	}
+
+	public int getLast() throws Exception {
+		if (tail() == NIL)
+			throw new Exception("Invalid - Empty List");
+
+		return valueOf(tail());
+	}
+
+	public int[] toArray() {
+		int[] result = new int[size()];
+		int i = 0;
+		for (int curr = head(); curr != NIL; curr = nextOf(curr)) {
+			result[i++] = valueOf(curr);
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		// Only the printed values are read (and boxed); the rest is reported from the size
+		Iterable<Integer> values = this::values;
+		return LinkedListPrinter.toString(values, size(), LinkedListPrinter.DOUBLY_ARROW,
+				LinkedListPrinter.DEFAULT_LIMIT);
+	}
+
+	/** Values from head to tail, read from the mapped records as the iterator advances */
+	private Iterator<Integer> values() {
+		return new Iterator<Integer>() {
+			private int curr = head();
+
+			@Override
+			public boolean hasNext() {
+				return curr != NIL;
+			}
+
+			@Override
+			public Integer next() {
+				if (curr == NIL) {
+					throw new NoSuchElementException();
+				}
+
+				int value = valueOf(curr);
+				curr = nextOf(curr);
+				return value;
+			}
+		};
+	}
+
+	// ----------------------------------------
+	// 💠 CONVERSION
+	// ----------------------------------------
+
+	/**
+	 * Appends every value of the chain starting at {@code head}.
+	 *
+	 * @throws Exception if a node holds {@code null}; the values before it have been appended
+	 */
+	public void appendAll(SinglyLinkedListNode<Integer> head) throws Exception {
+		int index = 0;
+		for (SinglyLinkedListNode<Integer> curr = head; curr != null; curr = curr.next) {
+			if (curr.value == null)
+				throw new Exception("Null value at index " + index);
+
+			insertAtTail(curr.value);
+			index++;
+		}
+	}
+
+	/**
+	 * Appends every value of the chain starting at {@code head}.
+	 *
+	 * @throws Exception if a node holds {@code null}; the values before it have been appended
+	 */
+	public void appendAll(DoublyLinkedListNode<Integer> head) throws Exception {
+		int index = 0;
+		for (DoublyLinkedListNode<Integer> curr = head; curr != null; curr = curr.next) {
+			if (curr.value == null)
+				throw new Exception("Null value at index " + index);
+
+			insertAtTail(curr.value);
+			index++;
+		}
+	}
+
+	/** Copies the list into a new heap chain; returns its head, or null if the list is empty */
+	public SinglyLinkedListNode<Integer> toSinglyLinkedListNodes() {
+		SinglyLinkedListNode<Integer> head = null;
+		for (int curr = tail(); curr != NIL; curr = prevOf(curr)) {
+			head = new SinglyLinkedListNode<>(valueOf(curr), head);
+		}
+		return head;
+	}
+
+	/** Copies the list into a new heap chain; returns its head, or null if the list is empty */
+	public DoublyLinkedListNode<Integer> toDoublyLinkedListNodes() {
+		DoublyLinkedListNode<Integer> head = null;
+		for (int curr = tail(); curr != NIL; curr = prevOf(curr)) {
+			DoublyLinkedListNode<Integer> node = new DoublyLinkedListNode<>(valueOf(curr), null, head);
+			if (head != null) {
+				head.prev = node;
+			}
+			head = node;
+		}
+		return head;
+	}
+
+	public SinglyLinkedList<Integer> toSinglyLinkedList() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+		for (int curr = head(); curr != NIL; curr = nextOf(curr)) {
+			list.insertAtTail(valueOf(curr));
+		}
+		return list;
+	}
+
+	public DoublyLinkedList<Integer> toDoublyLinkedList() {
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+		for (int curr = head(); curr != NIL; curr = nextOf(curr)) {
+			list.insertAtTail(valueOf(curr));
+		}
+		return list;
+	}
+
+	// ----------------------------------------
+	// 💠 RECORD MANAGEMENT
+	// ----------------------------------------
+
+	/** Walks from the closer end of the list to the record at {@code index} */
+	private int nodeAt(int index) {
+		int size = size();
+		int curr;
+		if (index < (size >> 1)) {
+			curr = head();
+			for (int i = 0; i < index; i++) {
+				curr = nextOf(curr);
+			}
+		} else {
+			curr = tail();
+			for (int i = size - 1; i > index; i--) {
+				curr = prevOf(curr);
+			}
+		}
+		return curr;
+	}
+
+	private void unlink(int node) {
+		markDirty();
+
+		int before = prevOf(node);
+		int after = nextOf(node);
+
+		if (before != NIL) {
+			setNext(before, after);
+		} else {
+			setHead(after);
+		}
+
+		if (after != NIL) {
+			setPrev(after, before);
+		} else {
+			setTail(before);
+		}
+
+		// next is left as it was, so recovery can still step over the record
+		setPrev(node, freeMark(free()));
+		setFree(node);
+		setSize(size() - 1);
+	}
+
+	private int allocate(int value) throws IOException {
+		markDirty();
+
+		int node = free();
+		if (node != NIL) {
+			setFree(freeLink(prevOf(node)));
+		} else {
+			node = used();
+			if (node == capacity) {
+				grow();
+			}
+			setUsed(node + 1);
+		}
+
+		setValue(node, value);
+		return node;
+	}
+
+	private void grow() throws IOException {
+		if (capacity == MAX_CAPACITY) {
+			throw new IOException("Linked list file is full: " + MAX_CAPACITY + " records");
+		}
+
+		// Mapping past the end of the file extends it; the old mapping is released by the GC
+		capacity = (int) Math.min((long) capacity << 1, MAX_CAPACITY);
+		map();
+		buffer.putInt(CAPACITY_OFFSET, capacity);
+	}
+
+	private void map() throws IOException {
+		buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private void markDirty() {
+		if (!dirty) {
+			buffer.putInt(DIRTY_OFFSET, 1);
+			// On disk before any record changes, or the OS may write records back first
+			buffer.force(0, HEADER_SIZE);
+			dirty = true;
+		}
+	}
+
+	/**
+	 * Rebuilds a consistent list after an unclean shutdown. The {@code next} chain from the head
+	 * is trusted up to the first out-of-range link or repeated record, and records marked free on
+	 * it are passed through but not kept; {@code prev} links, the tail, the size and the free list
+	 * are all recomputed from it.
+	 */
+	private void recover() {
+		dirty = true;
+
+		int used = used();
+		if (used < 0 || used > capacity) {
+			used = capacity;
+			setUsed(used);
+		}
+
+		BitSet visited = new BitSet(used);
+		BitSet live = new BitSet(used);
+		int size = 0;
+		int prev = NIL;
+		int curr = head();
+		setHead(NIL);
+
+		while (curr >= 0 && curr < used && !visited.get(curr)) {
+			visited.set(curr);
+			int next = nextOf(curr);
+
+			// A deleted record whose predecessor's relink did not reach the disk
+			if (prevOf(curr) > FREE_MARK) {
+				live.set(curr);
+				setPrev(curr, prev);
+				if (prev == NIL) {
+					setHead(curr);
+				} else {
+					setNext(prev, curr);
+				}
+				size++;
+				prev = curr;
+			}
+			curr = next;
+		}
+
+		if (prev != NIL) {
+			setNext(prev, NIL);
+		}
+
+		setTail(prev);
+		setSize(size);
+
+		int free = NIL;
+		for (int node = live.previousClearBit(used - 1); node >= 0; node = live.previousClearBit(node - 1)) {
+			setPrev(node, freeMark(free));
+			free = node;
+		}
+		setFree(free);
+	}
+
+	/** The {@code prev} value of a free record whose free list link is {@code nextFree} */
+	private static int freeMark(int nextFree) {
+		return FREE_MARK - 1 - nextFree;
+	}
+
+	/** The free list link stored in a free record's {@code prev} */
+	private static int freeLink(int mark) {
+		return FREE_MARK - 1 - mark;
+	}
+
+	private int head() {
+		return buffer.getInt(HEAD_OFFSET);
+	}
+
+	private void setHead(int node) {
+		buffer.putInt(HEAD_OFFSET, node);
+	}
+
+	private int tail() {
+		return buffer.getInt(TAIL_OFFSET);
+	}
+
+	private void setTail(int node) {
+		buffer.putInt(TAIL_OFFSET, node);
+	}
+
+	private void setSize(int size) {
+		buffer.putInt(SIZE_OFFSET, size);
+	}
+
+	private int free() {
+		return buffer.getInt(FREE_OFFSET);
+	}
+
+	private void setFree(int node) {
+		buffer.putInt(FREE_OFFSET, node);
+	}
+
+	private int used() {
+		return buffer.getInt(USED_OFFSET);
+	}
+
+	private void setUsed(int used) {
+		buffer.putInt(USED_OFFSET, used);
+	}
+
+	private static int offset(int node) {
+		return HEADER_SIZE + node * RECORD_SIZE;
+	}
+
+	private int valueOf(int node) {
+		return buffer.getInt(offset(node) + VALUE);
+	}
+
+	private void setValue(int node, int value) {
+		buffer.putInt(offset(node) + VALUE, value);
+	}
+
+	private int prevOf(int node) {
+		return buffer.getInt(offset(node) + PREV);
+	}
+
+	private void setPrev(int node, int prev) {
+		buffer.putInt(offset(node) + PREV, prev);
+	}
+
+	private int nextOf(int node) {
+		return buffer.getInt(offset(node) + NEXT);
+	}
+
+	private void setNext(int node, int next) {
+		buffer.putInt(offset(node) + NEXT, next);
+	}
+}
@@ -0,0 +1,178 @@
+package linkedListUtilityPackage;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A recycling allocator for list nodes, for workloads that insert and delete at a high rate.
+ *
+ * <p>Every thread keeps a small free list of its own, so the common acquire/release pair
+ * touches no shared state. When a thread's free list fills up, half of it spills into a
+ * bounded global overflow that other threads refill from; once the overflow is full as well,
+ * released nodes are simply left to the garbage collector. The pool therefore never holds more
+ * than {@code globalCapacity} nodes plus {@code localCapacity} per thread.
+ *
+ * <p>Released nodes must already be detached and cleared (value and links set to
+ * {@code null}); {@link SinglyLinkedList} and {@link DoublyLinkedList} do this when they are
+ * given a pool. Code must not keep a reference to a node after deleting it, since the same node
+ * object may come back holding a different value.
+ */
+public final class NodePool<N> {
+	public static final int DEFAULT_LOCAL_CAPACITY = 256;
+	public static final int DEFAULT_GLOBAL_CAPACITY = 1 << 16;
+
+	private final Supplier<N> factory;
+	private final int localCapacity;
+
+	private final ThreadLocal<Local> locals;
+
+	// Global overflow, guarded by itself
+	private final Object[] global;
+	private int globalSize;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+
+	/** One thread's free list */
+	private static final class Local {
+		final Object[] items;
+		int size;
+
+		Local(int capacity) {
+			items = new Object[capacity];
+		}
+	}
+
+	public NodePool(Supplier<N> factory) {
+		this(factory, DEFAULT_LOCAL_CAPACITY, DEFAULT_GLOBAL_CAPACITY);
+	}
+
+	/**
+	 * @param factory        creates a node when the pool is empty
+	 * @param localCapacity  free nodes kept per thread (at least 2)
+	 * @param globalCapacity free nodes kept in the shared overflow
+	 */
+	public NodePool(Supplier<N> factory, int localCapacity, int globalCapacity) {
+		this.factory = factory;
+		this.localCapacity = Math.max(2, localCapacity);
+		this.global = new Object[Math.max(0, globalCapacity)];
+		this.locals = ThreadLocal.withInitial(() -> new Local(this.localCapacity));
+	}
+
+	public static <T> NodePool<SinglyLinkedListNode<T>> forSinglyLinkedListNodes() {
+		return new NodePool<>(() -> new SinglyLinkedListNode<>(null));
+	}
+
+	public static <T> NodePool<DoublyLinkedListNode<T>> forDoublyLinkedListNodes() {
+		return new NodePool<>(() -> new DoublyLinkedListNode<>(null));
+	}
+
+	// ----------------------------------------
+	// 💠 ACQUIRE / RELEASE
+	// ----------------------------------------
+
+	/** Returns a recycled node if one is available, otherwise a new one from the factory */
+	@SuppressWarnings("unchecked")
+	public N acquire() {
+		Local local = locals.get();
+
+		if (local.size == 0 && !refill(local)) {
+			misses.increment();
+			return factory.get();
+		}
+
+		hits.increment();
+		N node = (N) local.items[--local.size];
+		local.items[local.size] = null;
+		return node;
+	}
+
+	/** Hands a detached, cleared node back for reuse */
+	public void release(N node) {
+		if (node == null) {
+			return;
+		}
+
+		Local local = locals.get();
+		if (local.size == localCapacity) {
+			spill(local);
+		}
+		local.items[local.size++] = node;
+	}
+
+	/** Moves up to half a free list's worth of nodes from the overflow into {@code local} */
+	private boolean refill(Local local) {
+		int n;
+		synchronized (global) {
+			n = Math.min(globalSize, localCapacity >> 1);
+			if (n == 0) {
+				return false;
+			}
+
+			globalSize -= n;
+			System.arraycopy(global, globalSize, local.items, 0, n);
+			Arrays.fill(global, globalSize, globalSize + n, null);
+		}
+		local.size = n;
+		return true;
+	}
+
+	/** Moves the top half of {@code local} into the overflow, dropping what does not fit */
+	private void spill(Local local) {
+		int half = localCapacity >> 1;
+		int from = local.size - half;
+		int n;
+
+		synchronized (global) {
+			n = Math.min(half, global.length - globalSize);
+			System.arraycopy(local.items, from, global, globalSize, n);
+			globalSize += n;
+		}
+
+		Arrays.fill(local.items, from, local.size, null);
+		local.size = from;
+
+		if (n < half) {
+			dropped.add(half - n);
+		}
+	}
+
+	// ----------------------------------------
+	// 💠 STATS
+	// ----------------------------------------
+
+	/** Acquires served from a free list */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/** Acquires that had to create a new node */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/** Released nodes that were left to the garbage collector because the pool was full */
+	public long getDropped() {
+		return dropped.sum();
+	}
+
+	public double getHitRate() {
+		long h = getHits();
+		long total = h + getMisses();
+		return total == 0 ? 0 : (double) h / total;
+	}
+
+	public void resetStats() {
+		hits.reset();
+		misses.reset();
+		dropped.reset();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("NodePool[hits=%d, misses=%d, dropped=%d, hitRate=%.1f%%]",
+				getHits(), getMisses(), getDropped(), 100 * getHitRate());
+	}
+}
@@ -0,0 +1,254 @@
+package linkedListUtilityPackage;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable singly linked list. Every "mutating" operation leaves this list untouched and
+ * returns a new version, which shares with the old one every node it did not have to change.
+ *
+ * <p>Since a node can only point forward, a change at index {@code i} copies the {@code i} nodes
+ * in front of it and reuses the rest of the chain as is:
+ * <ul>
+ *   <li>{@link #insertAtHead} and {@link #deleteAtHead} are O(1) and copy nothing,</li>
+ *   <li>{@link #insertAtIndex} and {@link #deleteAtIndex} copy the first {@code index} nodes,</li>
+ *   <li>{@link #insertAtTail} and {@link #deleteAtTail} copy the whole list.</li>
+ * </ul>
+ * Every node also records the length of the chain it starts, so {@link #size()} is O(1) for
+ * every version.
+ *
+ * <p>Node fields are final, so a version can be handed to any number of threads and read
+ * without locks or copying, however it was published; {@link VersionedLinkedList} publishes
+ * successive versions for concurrent readers and writers. The operations and their errors
+ * match {@link SinglyLinkedList}.
+ */
+public final class PersistentSinglyLinkedList<T> implements Iterable<T> {
+	private static final PersistentSinglyLinkedList<?> EMPTY = new PersistentSinglyLinkedList<>(null);
+
+	private static final class Node<T> {
+		final T value;
+		final Node<T> next;
+		final int size;
+
+		Node(T value, Node<T> next) {
+			this.value = value;
+			this.next = next;
+			this.size = next == null ? 1 : next.size + 1;
+		}
+	}
+
+	private final Node<T> head;
+
+	private PersistentSinglyLinkedList(Node<T> head) {
+		this.head = head;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentSinglyLinkedList<T> empty() {
+		return (PersistentSinglyLinkedList<T>) EMPTY;
+	}
+
+	@SafeVarargs
+	public static <T> PersistentSinglyLinkedList<T> of(T... values) {
+		Node<T> head = null;
+		for (int i = values.length - 1; i >= 0; i--) {
+			head = new Node<>(values[i], head);
+		}
+		return wrap(head);
+	}
+
+	/** A persistent copy of {@code list}'s current contents */
+	public static <T> PersistentSinglyLinkedList<T> copyOf(SinglyLinkedList<T> list) {
+		Object[] values = new Object[list.size()];
+		int i = 0;
+		for (SinglyLinkedListNode<T> curr = list.getHead(); curr != null; curr = curr.next) {
+			values[i++] = curr.value;
+		}
+		return wrap(prepend(values, values.length, null));
+	}
+
+	public int size() {
+		return head == null ? 0 : head.size;
+	}
+
+	public boolean isEmpty() {
+		return head == null;
+	}
+
+	// ----------------------------------------
+	// 💠 INSERTION OPERATIONS
+	// ----------------------------------------
+
+	/** The list with {@code value} in front, in O(1) */
+	public PersistentSinglyLinkedList<T> insertAtHead(T value) {
+		return wrap(new Node<>(value, head));
+	}
+
+	/** The list with {@code value} appended; copies every node */
+	public PersistentSinglyLinkedList<T> insertAtTail(T value) {
+		return rebuild(size(), new Node<>(value, null));
+	}
+
+	/**
+	 * The list with {@code value} inserted at the given index, sharing everything from that index
+	 * on. A negative index is treated as 0 and an index past the tail appends.
+	 *
+	 * @throws Exception if the list is empty and the index is not 0
+	 */
+	public PersistentSinglyLinkedList<T> insertAtIndex(int index, T value) throws Exception {
+		if (index < 0) index = 0;
+
+		if (head == null && index != 0) {
+			throw new Exception("Invalid insertion index for empty list");
+		}
+
+		if (index >= size()) {
+			return insertAtTail(value);
+		}
+
+		return rebuild(index, new Node<>(value, nodeAt(index)));
+	}
+
+	// ----------------------------------------
+	// 💠 DELETION OPERATIONS
+	// ----------------------------------------
+
+	/** The list without its head in O(1); this list if it is empty */
+	public PersistentSinglyLinkedList<T> deleteAtHead() {
+		return head == null ? this : wrap(head.next);
+	}
+
+	/** The list without its last value; copies every other node. This list if it is empty */
+	public PersistentSinglyLinkedList<T> deleteAtTail() {
+		return head == null ? this : rebuild(size() - 1, null);
+	}
+
+	/**
+	 * The list without the value at the given index, sharing everything after it.
+	 *
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public PersistentSinglyLinkedList<T> deleteAtIndex(int index) throws Exception {
+		if (index < 0 || index >= size()) {
+			throw new Exception("Invalid Index: Linked List is not that long");
+		}
+
+		return rebuild(index, nodeAt(index).next);
+	}
+
+	// ----------------------------------------
+	// 💠 ACCESS AND TRAVERSAL
+	// ----------------------------------------
+
+	/** The first value, or {@code null} if the list is empty */
+	public T getFirst() {
+		return head == null ? null : head.value;
+	}
+
+	/** The last value, or {@code null} if the list is empty; walks the list */
+	public T getLast() {
+		return head == null ? null : nodeAt(head.size - 1).value;
+	}
+
+	/**
+	 * Returns the value at the given index.
+	 *
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public T get(int index) throws Exception {
+		if (index < 0 || index >= size()) {
+			throw new Exception("Invalid Index: Linked List is not that long");
+		}
+		return nodeAt(index).value;
+	}
+
+	/** Returns the index of the first occurrence of {@code value}, or -1 if absent */
+	public int indexOf(T value) {
+		int index = 0;
+		for (Node<T> curr = head; curr != null; curr = curr.next, index++) {
+			if (Objects.equals(curr.value, value)) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	public boolean contains(T value) {
+		return indexOf(value) >= 0;
+	}
+
+	/** A mutable copy of this version */
+	public SinglyLinkedList<T> toSinglyLinkedList() {
+		SinglyLinkedList<T> list = new SinglyLinkedList<>();
+		for (T value : this) {
+			list.insertAtTail(value);
+		}
+		return list;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private Node<T> curr = head;
+
+			@Override
+			public boolean hasNext() {
+				return curr != null;
+			}
+
+			@Override
+			public T next() {
+				if (curr == null) {
+					throw new NoSuchElementException();
+				}
+				T value = curr.value;
+				curr = curr.next;
+				return value;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		return LinkedListPrinter.toString(this, size(), LinkedListPrinter.SINGLY_ARROW,
+				LinkedListPrinter.DEFAULT_LIMIT);
+	}
+
+	// ----------------------------------------
+	// 💠 PATH COPYING
+	// ----------------------------------------
+
+	/** The node at {@code index}; the caller guarantees {@code 0 <= index < size} */
+	private Node<T> nodeAt(int index) {
+		Node<T> curr = head;
+		for (int i = 0; i < index; i++) {
+			curr = curr.next;
+		}
+		return curr;
+	}
+
+	/** A version made of copies of the first {@code count} values, followed by {@code suffix} */
+	private PersistentSinglyLinkedList<T> rebuild(int count, Node<T> suffix) {
+		Object[] values = new Object[count];
+		Node<T> curr = head;
+		for (int i = 0; i < count; i++) {
+			values[i] = curr.value;
+			curr = curr.next;
+		}
+		return wrap(prepend(values, count, suffix));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Node<T> prepend(Object[] values, int count, Node<T> suffix) {
+		Node<T> head = suffix;
+		for (int i = count - 1; i >= 0; i--) {
+			head = new Node<>((T) values[i], head);
+		}
+		return head;
+	}
+
+	private static <T> PersistentSinglyLinkedList<T> wrap(Node<T> head) {
+		return head == null ? empty() : new PersistentSinglyLinkedList<>(head);
+	}
+}
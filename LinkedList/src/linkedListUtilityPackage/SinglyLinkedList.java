@@ -0,0 +1,280 @@
+package linkedListUtilityPackage;
+
+import linkedListUtilityPackage.LinkedListMetrics.Container;
+import linkedListUtilityPackage.LinkedListMetrics.Operation;
+
+/**
+ * A singly linked list container around a chain of {@link SinglyLinkedListNode}s.
+ *
+ * <p>Besides the head it keeps a reference to the tail and the number of nodes, and updates
+ * all three on every operation. That makes append and length O(1); deleting the tail still
+ * needs a walk to find the new tail, since a singly linked node cannot look backwards.
+ *
+ * <p>The chain is exposed through {@link #getHead()} for read-only traversal. Mutating the
+ * nodes' {@code next} links directly would leave the tail and size out of date.
+ *
+ * <p>A list created with a {@link NodePool} takes its nodes from the pool and returns deleted
+ * nodes to it, so insert/delete churn allocates (almost) nothing.
+ *
+ * <p>Inserts and deletes report to {@link LinkedListMetrics} when it is enabled.
+ */
+public class SinglyLinkedList<T> {
+	SinglyLinkedListNode<T> head;
+	SinglyLinkedListNode<T> tail;
+	int size;
+
+	/** Source of new nodes and sink for deleted ones; null allocates and drops normally */
+	final NodePool<SinglyLinkedListNode<T>> pool;
+
+	public SinglyLinkedList() {
+		this(null);
+	}
+
+	public SinglyLinkedList(NodePool<SinglyLinkedListNode<T>> pool) {
+		this.pool = pool;
+	}
+
+	public SinglyLinkedListNode<T> getHead() {
+		return head;
+	}
+
+	public SinglyLinkedListNode<T> getTail() {
+		return tail;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	// ----------------------------------------
+	// 💠 INSERTION OPERATIONS
+	// ----------------------------------------
+
+	/** Insert a new node at the head of the list in O(1) */
+	public void insertAtHead(T value) {
+		long start = LinkedListMetrics.ENABLED ? LinkedListMetrics.start() : 0L;
+		ListOperationEvent event = LinkedListMetrics.ENABLED ? LinkedListMetrics.beginEvent() : null;
+		linkAtHead(value);
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.record(Container.SINGLY, Operation.INSERT_AT_HEAD, start, 0, event);
+		}
+	}
+
+	/** Insert a new node at the tail of the list in O(1) */
+	public void insertAtTail(T value) {
+		long start = LinkedListMetrics.ENABLED ? LinkedListMetrics.start() : 0L;
+		ListOperationEvent event = LinkedListMetrics.ENABLED ? LinkedListMetrics.beginEvent() : null;
+		linkAtTail(value);
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.record(Container.SINGLY, Operation.INSERT_AT_TAIL, start, 0, event);
+		}
+	}
+
+	/**
+	 * Inserts a new node at the given index. A negative index is treated as 0 and an index
+	 * past the tail appends.
+	 *
+	 * @throws Exception if the list is empty and the index is not 0
+	 */
+	public void insertAtIndex(int index, T value) throws Exception {
+		long start = LinkedListMetrics.ENABLED ? LinkedListMetrics.start() : 0L;
+		ListOperationEvent event = LinkedListMetrics.ENABLED ? LinkedListMetrics.beginEvent() : null;
+		int hops = 0;
+
+		if (index < 0) index = 0;
+
+		if (head == null && index != 0) {
+			throw new Exception("Invalid insertion index for empty list");
+		}
+
+		if (index == 0) {
+			linkAtHead(value);
+		} else if (index >= size) {
+			linkAtTail(value);
+		} else {
+			hops = index - 1;
+			SinglyLinkedListNode<T> prev = nodeAt(index - 1);
+			prev.next = newNode(value, prev.next);
+			size++;
+		}
+
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.record(Container.SINGLY, Operation.INSERT_AT_INDEX, start, hops, event);
+		}
+	}
+
+	private void linkAtHead(T value) {
+		head = newNode(value, head);
+
+		if (tail == null) {
+			tail = head;
+		}
+		size++;
+	}
+
+	private void linkAtTail(T value) {
+		SinglyLinkedListNode<T> node = newNode(value, null);
+
+		if (tail == null) {
+			head = node;
+		} else {
+			tail.next = node;
+		}
+		tail = node;
+		size++;
+	}
+
+	// ----------------------------------------
+	// 💠 DELETION OPERATIONS
+	// ----------------------------------------
+
+	/**
+	 * Deletes the head node in O(1).
+	 *
+	 * @return the deleted value, or {@code null} if the list was empty
+	 */
+	public T deleteAtHead() {
+		if (head == null) {
+			return null;
+		}
+
+		long start = LinkedListMetrics.ENABLED ? LinkedListMetrics.start() : 0L;
+		ListOperationEvent event = LinkedListMetrics.ENABLED ? LinkedListMetrics.beginEvent() : null;
+		T value = unlinkHead();
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.record(Container.SINGLY, Operation.DELETE_AT_HEAD, start, 0, event);
+		}
+		return value;
+	}
+
+	/**
+	 * Deletes the tail node. This walks to the second-last node.
+	 *
+	 * @return the deleted value, or {@code null} if the list was empty
+	 */
+	public T deleteAtTail() {
+		if (head == null) {
+			return null;
+		}
+
+		long start = LinkedListMetrics.ENABLED ? LinkedListMetrics.start() : 0L;
+		ListOperationEvent event = LinkedListMetrics.ENABLED ? LinkedListMetrics.beginEvent() : null;
+		int hops = 0;
+		T value;
+
+		if (head == tail) {
+			value = unlinkHead();
+		} else {
+			hops = size - 2;
+			SinglyLinkedListNode<T> prev = nodeAt(size - 2);
+			SinglyLinkedListNode<T> node = tail;
+			prev.next = null;
+			tail = prev;
+			size--;
+			value = recycle(node);
+		}
+
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.record(Container.SINGLY, Operation.DELETE_AT_TAIL, start, hops, event);
+		}
+		return value;
+	}
+
+	/**
+	 * Deletes the node at the given index.
+	 *
+	 * @return the deleted value
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public T deleteAtIndex(int index) throws Exception {
+		if (index < 0 || index >= size) {
+			throw new Exception("Invalid Index: Linked List is not that long");
+		}
+
+		long start = LinkedListMetrics.ENABLED ? LinkedListMetrics.start() : 0L;
+		ListOperationEvent event = LinkedListMetrics.ENABLED ? LinkedListMetrics.beginEvent() : null;
+		int hops = 0;
+		T value;
+
+		if (index == 0) {
+			value = unlinkHead();
+		} else {
+			hops = index - 1;
+			SinglyLinkedListNode<T> prev = nodeAt(index - 1);
+			SinglyLinkedListNode<T> node = prev.next;
+			prev.next = node.next;
+
+			if (node == tail) {
+				tail = prev;
+			}
+			size--;
+			value = recycle(node);
+		}
+
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.record(Container.SINGLY, Operation.DELETE_AT_INDEX, start, hops, event);
+		}
+		return value;
+	}
+
+	private T unlinkHead() {
+		SinglyLinkedListNode<T> node = head;
+		head = node.next;
+
+		if (head == null) {
+			tail = null;
+		}
+		size--;
+		return recycle(node);
+	}
+
+	/** Returns the node at {@code index}; the caller guarantees {@code 0 <= index < size} */
+	SinglyLinkedListNode<T> nodeAt(int index) {
+		SinglyLinkedListNode<T> curr = head;
+		for (int i = 0; i < index; i++) {
+			curr = curr.next;
+		}
+		return curr;
+	}
+
+	/** A node holding {@code value}, taken from the pool if there is one */
+	SinglyLinkedListNode<T> newNode(T value, SinglyLinkedListNode<T> next) {
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.nodeAllocated();
+		}
+
+		if (pool == null) {
+			return new SinglyLinkedListNode<>(value, next);
+		}
+
+		SinglyLinkedListNode<T> node = pool.acquire();
+		node.value = value;
+		node.next = next;
+		return node;
+	}
+
+	/** Clears a detached node, hands it back to the pool and returns the value it held */
+	T recycle(SinglyLinkedListNode<T> node) {
+		if (LinkedListMetrics.ENABLED) {
+			LinkedListMetrics.nodeFreed();
+		}
+
+		T value = node.value;
+		node.next = null;
+
+		if (pool != null) {
+			node.value = null;
+			pool.release(node);
+		}
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(head);
+	}
+}
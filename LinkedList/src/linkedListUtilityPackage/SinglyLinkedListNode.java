@@ -1,5 +1,7 @@
 package linkedListUtilityPackage;
 
+import java.io.IOException;
+
 public class SinglyLinkedListNode<T> {
 	public T value;
 	public SinglyLinkedListNode<T> next;
@@ -14,8 +16,20 @@ public class SinglyLinkedListNode<T> {
 		this.next = next;		
 	}
 
+	/**
+	 * Writes this node and the nodes after it to {@code out}, rendering at most {@code limit}
+	 * values. See {@link LinkedListPrinter}.
+	 */
+	public void appendTo(Appendable out, int limit) throws IOException {
+		LinkedListPrinter.print(this, out, limit);
+	}
+
+	public String toString(int limit) {
+		return LinkedListPrinter.toString(this, limit);
+	}
+
 	@Override
 	public String toString() {
-		return value + " -> " +next;
+		return LinkedListPrinter.toString(this, LinkedListPrinter.DEFAULT_LIMIT);
 	}
 }
@@ -0,0 +1,358 @@
+package linkedListUtilityPackage;
+
+/**
+ * An unrolled singly linked list of {@code int} values.
+ *
+ * <p>Each node holds a small primitive array ("block") of up to {@code blockCapacity} values
+ * instead of a single value. A walk over n elements therefore follows only about
+ * n / (blockCapacity / 2) links and reads the values from contiguous memory, which is far
+ * kinder to the CPU cache than one {@code SinglyLinkedListNode} per element.
+ *
+ * <p><b>Block maintenance:</b>
+ * <ul>
+ *   <li>Insert into a full block splits it in half and links the upper half as a new node.</li>
+ *   <li>Delete that leaves a block less than half full refills it from the next block, or
+ *   merges the two blocks when their combined contents fit into one.</li>
+ * </ul>
+ * Every block except the last therefore stays at least half full.
+ *
+ * <p>The operations mirror {@code InsertIntoSinglyLinkedList} and
+ * {@code DeleteFromSinglyLinkedList}, including their edge-case behaviour.
+ */
+public class UnrolledLinkedList {
+	private static final int DEFAULT_BLOCK_CAPACITY = 64;
+
+	private static final class Block {
+		final int[] values;
+		int count;
+		Block next;
+
+		Block(int capacity) {
+			values = new int[capacity];
+		}
+	}
+
+	private final int blockCapacity;
+
+	private Block head;
+	private Block tail;
+	private int size;
+
+	// Result of locate(): the block holding an index and the offset inside it
+	private Block foundBlock;
+	private Block foundPrev;
+	private int foundOffset;
+
+	public UnrolledLinkedList() {
+		this(DEFAULT_BLOCK_CAPACITY);
+	}
+
+	/**
+	 * @param blockCapacity number of values per node; must be at least 2 so blocks can be split
+	 */
+	public UnrolledLinkedList(int blockCapacity) {
+		if (blockCapacity < 2) {
+			throw new IllegalArgumentException("Block capacity must be at least 2");
+		}
+		this.blockCapacity = blockCapacity;
+	}
+
+	public static UnrolledLinkedList of(int... elements) {
+		UnrolledLinkedList list = new UnrolledLinkedList();
+		for (int value : elements) {
+			list.insertAtTail(value);
+		}
+		return list;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	// ----------------------------------------
+	// 💠 INSERTION OPERATIONS
+	// ----------------------------------------
+
+	/** Insert a value at the head of the list */
+	public void insertAtHead(int value) {
+		if (head == null) {
+			insertAtTail(value);
+			return;
+		}
+		insertInto(head, 0, value);
+	}
+
+	/** Insert a value at the tail of the list in O(1) */
+	public void insertAtTail(int value) {
+		if (tail == null || tail.count == blockCapacity) {
+			Block block = new Block(blockCapacity);
+			if (tail == null) {
+				head = block;
+			} else {
+				tail.next = block;
+			}
+			tail = block;
+		}
+
+		tail.values[tail.count++] = value;
+		size++;
+	}
+
+	/**
+	 * Inserts a value at the given index. A negative index is treated as 0 and an index past
+	 * the tail appends.
+	 *
+	 * @throws Exception if the list is empty and the index is not 0
+	 */
+	public void insertAtIndex(int index, int value) throws Exception {
+		if (index < 0) index = 0;
+
+		if (head == null && index != 0) {
+			throw new Exception("Invalid insertion index for empty list");
+		}
+
+		if (index >= size) {
+			insertAtTail(value);
+			return;
+		}
+
+		locate(index);
+		insertInto(foundBlock, foundOffset, value);
+		foundBlock = foundPrev = null;
+	}
+
+	// ----------------------------------------
+	// 💠 DELETION OPERATIONS
+	// ----------------------------------------
+
+	/** Delete the head value; does nothing on an empty list */
+	public void deleteAtHead() {
+		if (head != null) {
+			deleteFrom(null, head, 0);
+		}
+	}
+
+	/** Delete the tail value; does nothing on an empty list */
+	public void deleteAtTail() {
+		if (head == null) {
+			return;
+		}
+		locate(size - 1);
+		deleteFrom(foundPrev, foundBlock, foundOffset);
+		foundBlock = foundPrev = null;
+	}
+
+	/**
+	 * Deletes the value at the given index.
+	 *
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public void deleteAtIndex(int index) throws Exception {
+		if (index < 0 || index >= size) {
+			throw new Exception("Invalid Index: Linked List is not that long");
+		}
+
+		locate(index);
+		deleteFrom(foundPrev, foundBlock, foundOffset);
+		foundBlock = foundPrev = null;
+	}
+
+	/**
+	 * Deletes the first occurrence of {@code value}.
+	 *
+	 * @throws Exception if the value is not present
+	 */
+	public void deleteFirstInstance(int value) throws Exception {
+		Block prev = null;
+		for (Block block = head; block != null; prev = block, block = block.next) {
+			int[] values = block.values;
+			for (int i = 0, n = block.count; i < n; i++) {
+				if (values[i] == value) {
+					deleteFrom(prev, block, i);
+					return;
+				}
+			}
+		}
+
+		throw new Exception("Item not found");
+	}
+
+	// ----------------------------------------
+	// 💠 SEARCH OPERATIONS
+	// ----------------------------------------
+
+	/** Returns the index of the first occurrence of {@code value}, or -1 if absent */
+	public int indexOf(int value) {
+		int base = 0;
+		for (Block block = head; block != null; block = block.next) {
+			int[] values = block.values;
+			for (int i = 0, n = block.count; i < n; i++) {
+				if (values[i] == value) {
+					return base + i;
+				}
+			}
+			base += block.count;
+		}
+		return -1;
+	}
+
+	public boolean contains(int value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * Returns the value at the given index; whole blocks are skipped using their counts.
+	 *
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public int get(int index) throws Exception {
+		if (index < 0 || index >= size) {
+			throw new Exception("Invalid Index: Linked List is not that long");
+		}
+
+		locate(index);
+		int value = foundBlock.values[foundOffset];
+		foundBlock = foundPrev = null;
+		return value;
+	}
+
+	/** Sum of all values, as an example of a cache-friendly full scan */
+	public long sum() {
+		long sum = 0;
+		for (Block block = head; block != null; block = block.next) {
+			int[] values = block.values;
+			for (int i = 0, n = block.count; i < n; i++) {
+				sum += values[i];
+			}
+		}
+		return sum;
+	}
+
+	/** Number of nodes currently linked, useful to compare against one node per element */
+	public int blockCount() {
+		int count = 0;
+		for (Block block = head; block != null; block = block.next) {
+			count++;
+		}
+		return count;
+	}
+
+	public int[] toArray() {
+		int[] result = new int[size];
+		int pos = 0;
+		for (Block block = head; block != null; block = block.next) {
+			System.arraycopy(block.values, 0, result, pos, block.count);
+			pos += block.count;
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (Block block = head; block != null; block = block.next) {
+			for (int i = 0; i < block.count; i++) {
+				sb.append(block.values[i]).append(" -> ");
+			}
+		}
+		return sb.append("null").toString();
+	}
+
+	// ----------------------------------------
+	// 💠 BLOCK MAINTENANCE
+	// ----------------------------------------
+
+	/** Sets foundBlock/foundPrev/foundOffset for {@code 0 <= index < size} */
+	private void locate(int index) {
+		Block prev = null;
+		Block block = head;
+
+		while (index >= block.count) {
+			index -= block.count;
+			prev = block;
+			block = block.next;
+		}
+
+		foundPrev = prev;
+		foundBlock = block;
+		foundOffset = index;
+	}
+
+	/** Inserts at {@code offset} of {@code block}, splitting it first if it is full */
+	private void insertInto(Block block, int offset, int value) {
+		if (block.count == blockCapacity) {
+			Block upper = new Block(blockCapacity);
+			int half = blockCapacity >>> 1;
+			int moved = block.count - half;
+
+			System.arraycopy(block.values, half, upper.values, 0, moved);
+			upper.count = moved;
+			block.count = half;
+
+			upper.next = block.next;
+			block.next = upper;
+			if (tail == block) {
+				tail = upper;
+			}
+
+			if (offset > half) {
+				block = upper;
+				offset -= half;
+			}
+		}
+
+		System.arraycopy(block.values, offset, block.values, offset + 1, block.count - offset);
+		block.values[offset] = value;
+		block.count++;
+		size++;
+	}
+
+	/** Removes the value at {@code offset} of {@code block}, then rebalances with the next block */
+	private void deleteFrom(Block prev, Block block, int offset) {
+		System.arraycopy(block.values, offset + 1, block.values, offset, block.count - offset - 1);
+		block.count--;
+		size--;
+
+		if (block.count == 0) {
+			unlinkBlock(prev, block);
+			return;
+		}
+
+		int half = blockCapacity >>> 1;
+		Block next = block.next;
+		if (block.count >= half || next == null) {
+			return;
+		}
+
+		if (block.count + next.count <= blockCapacity) {
+			// Merge: pull everything from the next block and drop it
+			System.arraycopy(next.values, 0, block.values, block.count, next.count);
+			block.count += next.count;
+			unlinkBlock(block, next);
+		} else {
+			// Borrow just enough from the next block to be half full again
+			int borrow = half - block.count;
+			System.arraycopy(next.values, 0, block.values, block.count, borrow);
+			System.arraycopy(next.values, borrow, next.values, 0, next.count - borrow);
+			block.count += borrow;
+			next.count -= borrow;
+		}
+	}
+
+	private void unlinkBlock(Block prev, Block block) {
+		if (prev == null) {
+			head = block.next;
+		} else {
+			prev.next = block.next;
+		}
+
+		if (tail == block) {
+			tail = prev;
+		}
+		block.next = null;
+	}
+}
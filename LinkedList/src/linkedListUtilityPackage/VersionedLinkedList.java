@@ -0,0 +1,123 @@
+package linkedListUtilityPackage;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe list that publishes successive {@link PersistentSinglyLinkedList} versions
+ * through an {@link AtomicReference}.
+ *
+ * <p>Readers call {@link #snapshot()} and get an immutable version they can iterate, index and
+ * keep for as long as they like, without locks or copying; later writes never show up in it.
+ * Writers offer the operations of {@link SinglyLinkedList}. Each one builds the next version from
+ * the current one and installs it with a compare-and-set, retrying on top of the newer version
+ * if another writer got there first. Nothing ever blocks, and since a new version shares all
+ * unchanged nodes with the old one, a write at index {@code i} costs O(i), not a deep copy.
+ *
+ * <p>A retried write redoes its copying, so heavily contended writes to the far end of a long
+ * list are best batched through {@link #update}.
+ */
+public final class VersionedLinkedList<T> {
+	private final AtomicReference<PersistentSinglyLinkedList<T>> current;
+
+	public VersionedLinkedList() {
+		this(PersistentSinglyLinkedList.empty());
+	}
+
+	public VersionedLinkedList(PersistentSinglyLinkedList<T> initial) {
+		this.current = new AtomicReference<>(initial);
+	}
+
+	/** The current version; never changes underneath the caller */
+	public PersistentSinglyLinkedList<T> snapshot() {
+		return current.get();
+	}
+
+	public int size() {
+		return current.get().size();
+	}
+
+	public boolean isEmpty() {
+		return current.get().isEmpty();
+	}
+
+	/** Replaces the current version with {@code expected -> next} if it is still {@code expected} */
+	public boolean compareAndSet(PersistentSinglyLinkedList<T> expected, PersistentSinglyLinkedList<T> next) {
+		return current.compareAndSet(expected, next);
+	}
+
+	/**
+	 * Applies {@code change} to the current version and publishes the result, retrying if another
+	 * writer published first. {@code change} may run several times and must have no side effects.
+	 *
+	 * @return the version that was published
+	 */
+	public PersistentSinglyLinkedList<T> update(UnaryOperator<PersistentSinglyLinkedList<T>> change) {
+		return current.updateAndGet(change);
+	}
+
+	// ----------------------------------------
+	// 💠 INSERTION OPERATIONS
+	// ----------------------------------------
+
+	public void insertAtHead(T value) {
+		update(list -> list.insertAtHead(value));
+	}
+
+	public void insertAtTail(T value) {
+		update(list -> list.insertAtTail(value));
+	}
+
+	/** @throws Exception if the list is empty and the index is not 0 */
+	public void insertAtIndex(int index, T value) throws Exception {
+		PersistentSinglyLinkedList<T> expected;
+		PersistentSinglyLinkedList<T> next;
+		do {
+			expected = current.get();
+			next = expected.insertAtIndex(index, value);
+		} while (!current.compareAndSet(expected, next));
+	}
+
+	// ----------------------------------------
+	// 💠 DELETION OPERATIONS
+	// ----------------------------------------
+
+	/** @return the deleted value, or {@code null} if the list was empty */
+	public T deleteAtHead() {
+		PersistentSinglyLinkedList<T> expected;
+		do {
+			expected = current.get();
+		} while (!current.compareAndSet(expected, expected.deleteAtHead()));
+		return expected.getFirst();
+	}
+
+	/** @return the deleted value, or {@code null} if the list was empty */
+	public T deleteAtTail() {
+		PersistentSinglyLinkedList<T> expected;
+		PersistentSinglyLinkedList<T> next;
+		do {
+			expected = current.get();
+			next = expected.deleteAtTail();
+		} while (!current.compareAndSet(expected, next));
+		return expected.getLast();
+	}
+
+	/**
+	 * @return the deleted value
+	 * @throws Exception if the index is negative or past the tail
+	 */
+	public T deleteAtIndex(int index) throws Exception {
+		PersistentSinglyLinkedList<T> expected;
+		PersistentSinglyLinkedList<T> next;
+		do {
+			expected = current.get();
+			next = expected.deleteAtIndex(index);
+		} while (!current.compareAndSet(expected, next));
+		return expected.get(index);
+	}
+
+	@Override
+	public String toString() {
+		return current.get().toString();
+	}
+}
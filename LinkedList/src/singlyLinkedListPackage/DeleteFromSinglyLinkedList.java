@@ -1,11 +1,10 @@
 package singlyLinkedListPackage;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Scanner;
 
 import linkedListUtilityPackage.LinkedListHelper;
-import linkedListUtilityPackage.SinglyLinkedListNode;
+import linkedListUtilityPackage.LinkedListMetrics;
+import linkedListUtilityPackage.SinglyLinkedList;
 
 /**
  * DSA Topic - Delete Operations in Singly Linked List
@@ -33,6 +32,7 @@ import linkedListUtilityPackage.SinglyLinkedListNode;
  * - Always handle empty list and single-node list separately.
  * - Keep track of both current and previous nodes for index deletion.
  * - Avoid memory leaks by unlinking target nodes cleanly.
+ * - Run with -DlinkedList.metrics=true to see how many nodes each deletion walked.
  *
  * 🔍 Related Topics:
  * Linked List, Pointers, Deletion Operations
@@ -48,19 +48,9 @@ public class DeleteFromSinglyLinkedList {
         System.out.println("===== Welcome to Linked List Deletion =====");
         System.out.print("Enter elements of Int Linked List space separated: ");
 
-        // Parse user input into integer list
-        List<Integer> initialList = new ArrayList<>();
-        String[] initial = sc.nextLine().split(" ");
-
-        for (String num : initial) {
-            if (!num.isBlank()) {
-                initialList.add(Integer.parseInt(num));
-            }
-        }
-
-        // Create linked list from user input
-        SinglyLinkedListNode<Integer> rootNode = LinkedListHelper.createSinglyLinkedList(initialList);
-        System.out.printf("\nInitial LinkedList: %s\n\n", rootNode);
+        // Parse user input straight into the linked list
+        SinglyLinkedList<Integer> list = LinkedListHelper.createIntegerSinglyLinkedList(sc.nextLine());
+        System.out.printf("\nInitial LinkedList: %s\n\n", list);
 
         int option;
 
@@ -78,20 +68,20 @@ public class DeleteFromSinglyLinkedList {
 
             switch (option) {
                 case 1:
-                    rootNode = deleteFromBeginning(rootNode);
-                    print(rootNode);
+                    deleteFromBeginning(list);
+                    print(list);
                     break;
 
                 case 2:
-                    rootNode = deleteFromEnd(rootNode);
-                    print(rootNode);
+                    deleteFromEnd(list);
+                    print(list);
                     break;
 
                 case 3:
                     System.out.print("Index: ");
                     int index = sc.nextInt();
-                    rootNode = deleteFromIndex(rootNode, index);
-                    print(rootNode);
+                    deleteFromIndex(list, index);
+                    print(list);
                     break;
 
                 default:
@@ -102,95 +92,49 @@ public class DeleteFromSinglyLinkedList {
         } while (option != 4);
 
         sc.close();
+
+        if (LinkedListMetrics.ENABLED) {
+            System.out.println("\n" + LinkedListMetrics.report());
+        }
         System.out.println("\n===== Good Bye =====\n");
     }
 
     /**
      * Deletes the node at a specified index.
      *
-     * @param rootNode head node of the linked list
-     * @param index    index of node to delete (0-based)
-     * @return updated head node after deletion
+     * @param list  the linked list
+     * @param index index of node to delete (0-based)
      * @throws Exception if index exceeds list length
      */
-    private static SinglyLinkedListNode<Integer> deleteFromIndex(
-            SinglyLinkedListNode<Integer> rootNode, int index) throws Exception {
-
-        if (index == 0) {
-            return deleteFromBeginning(rootNode);
-        }
-
-        SinglyLinkedListNode<Integer> curr = rootNode;
-        SinglyLinkedListNode<Integer> prev = null;
-        int location = 0;
-
-        // Traverse to node at given index
-        while (curr != null && location < index) {
-            prev = curr;
-            curr = curr.next;
-            location++;
-        }
-
-        if (curr == null) {
-            throw new Exception("Invalid Index: Linked List is not that long");
-        }
-
-        // Bypass the target node
-        prev.next = curr.next;
-        curr = null; // Help GC
-
-        return rootNode;
+    public static void deleteFromIndex(SinglyLinkedList<Integer> list, int index) throws Exception {
+        list.deleteAtIndex(index);
     }
 
     /**
      * Deletes the head node of the linked list.
      *
-     * @param rootNode head node of the list
-     * @return updated head after deletion
+     * @param list the linked list
      */
-    private static SinglyLinkedListNode<Integer> deleteFromBeginning(SinglyLinkedListNode<Integer> rootNode) {
-        if (rootNode != null) {
-            rootNode = rootNode.next;
-        }
-        return rootNode;
+    public static void deleteFromBeginning(SinglyLinkedList<Integer> list) {
+        list.deleteAtHead();
     }
 
     /**
      * Deletes the last node of the linked list.
+     * The walk to the second-last node is still needed to find the new tail.
      *
-     * @param rootNode head node of the list
-     * @return updated head after deletion
+     * @param list the linked list
      */
-    private static SinglyLinkedListNode<Integer> deleteFromEnd(SinglyLinkedListNode<Integer> rootNode) {
-        if (rootNode == null) {
-            return null;
-        }
-
-        // If single node
-        if (rootNode.next == null) {
-            return null;
-        }
-
-        // Traverse to second-last node
-        SinglyLinkedListNode<Integer> curr = rootNode;
-        SinglyLinkedListNode<Integer> nextNode = rootNode.next;
-
-        while (nextNode.next != null) {
-            curr = nextNode;
-            nextNode = nextNode.next;
-        }
-
-        // Unlink last node
-        curr.next = null;
-        return rootNode;
+    public static void deleteFromEnd(SinglyLinkedList<Integer> list) {
+        list.deleteAtTail();
     }
 
     /**
      * Prints the linked list in current state.
      *
-     * @param rootNode head node of the list
+     * @param list the linked list
      */
-    private static void print(SinglyLinkedListNode<Integer> rootNode) {
-        System.out.println("\n==> Final LinkedList: " + rootNode + "\n");
+    private static void print(SinglyLinkedList<Integer> list) {
+        System.out.println("\n==> Final LinkedList: " + list + "\n");
     }
 }
\ No newline at end of file
@@ -1,11 +1,9 @@
 package singlyLinkedListPackage;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Scanner;
 
 import linkedListUtilityPackage.LinkedListHelper;
-import linkedListUtilityPackage.SinglyLinkedListNode;
+import linkedListUtilityPackage.SinglyLinkedList;
 
 /**
  * DSA Topic - Insertion Operations in Singly Linked List
@@ -21,13 +19,13 @@ import linkedListUtilityPackage.SinglyLinkedListNode;
  * Output : 10 → 15 → 20 → 30
  *
  * ⚙️ Approach:
- * - Parse input into a list and create a singly linked list.
+ * - Parse input into a list and create a singly linked list that tracks head, tail and size.
  * - Use menu-driven options to perform insertion operations.
  * - Insert at head, tail, or specific index by adjusting next pointers.
  *
  * 🧮 Complexity Analysis:
  * Insert at Head : O(1)
- * Insert at Tail : O(n)
+ * Insert at Tail : O(1)
  * Insert at Index: O(n)
  *
  * 🧠 Key Insights:
@@ -48,20 +46,9 @@ public class InsertIntoSinglyLinkedList {
         System.out.println("===== Welcome to Linked List Insertion =====");
         System.out.print("Enter elements of Int Linked List space separated: ");
 
-        // Parse user input into integer list
-        List<Integer> initialList = new ArrayList<>();
-        String initialString = sc.nextLine();
-        String[] initial = initialString.split(" ");
-
-        for (String num : initial) {
-            if (!num.isBlank()) {
-                initialList.add(Integer.parseInt(num));
-            }
-        }
-
-        // Create initial linked list
-        SinglyLinkedListNode<Integer> rootNode = LinkedListHelper.createSinglyLinkedList(initialList);
-        System.out.printf("\nInitial LinkedList: %s\n\n", rootNode);
+        // Parse user input straight into the linked list
+        SinglyLinkedList<Integer> list = LinkedListHelper.createIntegerSinglyLinkedList(sc.nextLine());
+        System.out.printf("\nInitial LinkedList: %s\n\n", list);
 
         int option;
 
@@ -83,15 +70,15 @@ public class InsertIntoSinglyLinkedList {
                 case 1:
                     System.out.print("Value: ");
                     value = sc.nextInt();
-                    rootNode = insertIntoSinglyLinkedList(rootNode, 0, value, false);
-                    print(rootNode);
+                    insertIntoSinglyLinkedList(list, 0, value, false);
+                    print(list);
                     break;
 
                 case 2:
                     System.out.print("Value: ");
                     value = sc.nextInt();
-                    rootNode = insertIntoSinglyLinkedList(rootNode, 0, value, true);
-                    print(rootNode);
+                    insertIntoSinglyLinkedList(list, 0, value, true);
+                    print(list);
                     break;
 
                 case 3:
@@ -99,8 +86,8 @@ public class InsertIntoSinglyLinkedList {
                     value = sc.nextInt();
                     System.out.print("Index: ");
                     index = sc.nextInt();
-                    rootNode = insertIntoSinglyLinkedList(rootNode, index, value, false);
-                    print(rootNode);
+                    insertIntoSinglyLinkedList(list, index, value, false);
+                    print(list);
                     break;
 
                 default:
@@ -117,10 +104,10 @@ public class InsertIntoSinglyLinkedList {
     /**
      * Prints the linked list in its current state.
      *
-     * @param rootNode head node of the linked list
+     * @param list the linked list
      */
-    private static void print(SinglyLinkedListNode<Integer> rootNode) {
-        System.out.println("\n==> Final LinkedList: " + rootNode + "\n");
+    private static void print(SinglyLinkedList<Integer> list) {
+        System.out.println("\n==> Final LinkedList: " + list + "\n");
     }
 
     /**
@@ -130,63 +117,30 @@ public class InsertIntoSinglyLinkedList {
      * - Handles three cases:
      *   1. Empty list → Creates new node if index == 0
      *   2. Insert at head → Prepend new node
-     *   3. Insert at tail or index → Traverse until (index - 1)
-     * - Uses {@code insertLast} flag to control tail insertion.
+     *   3. Insert at index → Traverse until (index - 1)
+     * - Uses {@code insertLast} flag to append via the tail reference in O(1).
      *
      * 🧠 Edge Cases:
      * - Negative index → treated as 0
      * - Insertion beyond tail → adds at the end
      * - Empty list with invalid index → throws Exception
      *
-     * @param rootNode   head of the linked list
+     * @param list       the linked list
      * @param index      index at which new node should be inserted
      * @param value      value to insert
      * @param insertLast if true, node is appended regardless of index
-     * @return updated head node of the linked list
      * @throws Exception if insertion index is invalid for an empty list
      */
-    private static SinglyLinkedListNode<Integer> insertIntoSinglyLinkedList(
-            SinglyLinkedListNode<Integer> rootNode,
+    public static void insertIntoSinglyLinkedList(
+            SinglyLinkedList<Integer> list,
             int index,
             int value,
             boolean insertLast) throws Exception {
 
-        // Treat negative index as 0 for safety
-        if (index < 0) index = 0;
-
-        // Case 1: Empty list
-        if (rootNode == null) {
-            if (index == 0) {
-                return new SinglyLinkedListNode<>(value);
-            } else {
-                throw new Exception("Invalid insertion index for empty list");
-            }
-        }
-
-        // Case 2: Insert at head
-        if (index == 0 && !insertLast) {
-            return new SinglyLinkedListNode<>(value, rootNode);
+        if (insertLast) {
+            list.insertAtTail(value);
+        } else {
+            list.insertAtIndex(index, value);
         }
-
-        // Traverse to the desired position
-        SinglyLinkedListNode<Integer> curr = rootNode;
-        int currIndex = 0;
-
-        // If insertLast is true → go till end
-        while (insertLast ? curr.next != null : currIndex < index - 1) {
-            curr = curr.next;
-            currIndex++;
-
-            // Stop if reached tail before target index
-            if (curr.next == null && currIndex < index - 1) {
-                break;
-            }
-        }
-
-        // Create new node and adjust pointers
-        SinglyLinkedListNode<Integer> newNode = new SinglyLinkedListNode<>(value, curr.next);
-        curr.next = newNode;
-
-        return rootNode;
     }
 }
@@ -3,29 +3,21 @@ package singlyLinkedListPackage;
 import java.util.Arrays;
 
 import linkedListUtilityPackage.LinkedListHelper;
-import linkedListUtilityPackage.SinglyLinkedListNode;
+import linkedListUtilityPackage.SinglyLinkedList;
 
 public class SinglyLinkedListLength {
 
 	public static void main(String[] args) {
-		SinglyLinkedListNode<Integer> rootNode = LinkedListHelper.createSinglyLinkedList(Arrays.asList(1,2,3));
-		System.out.println(rootNode);
+		SinglyLinkedList<Integer> list = LinkedListHelper.createSinglyLinkedList(Arrays.asList(1,2,3));
+		System.out.println(list);
 		
-		int length = lengthOfSinglyLinkedList(rootNode);
+		int length = lengthOfSinglyLinkedList(list);
 		System.out.printf("Length: %d", length);
 	}
 	
-	private static int lengthOfSinglyLinkedList(SinglyLinkedListNode<Integer> rootNode) {
-		int length = 0;
-		
-		SinglyLinkedListNode<Integer> curr = rootNode;
-		
-		while (curr != null) {
-			length++;
-			curr = curr.next;
-		}
-		
-		return length;
+	public static int lengthOfSinglyLinkedList(SinglyLinkedList<Integer> list) {
+		// The container keeps the size up to date, so no traversal is needed
+		return list.size();
 	}
 
 }
@@ -0,0 +1,115 @@
+package recursionAndBacktrackingPackage;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Aho-Corasick automaton recognizing a set of patterns over a small alphabet of symbols
+ * {@code 0 .. K-1}, compiled into a complete transition table.
+ *
+ * <p>A state is the longest suffix of the text read so far that is a prefix of some pattern.
+ * The table is built from the trie of the patterns by following failure links once, up front,
+ * so reading a symbol is a single array lookup, {@link #next}, with no failure-link walks at
+ * match time. A state is a match state if some pattern ends in the text read so far.
+ *
+ * <p>Because a state says everything about the text that matters for future matches, a caller
+ * that extends a text one symbol at a time (like a backtracking search) only has to remember the
+ * state at each length to resume from any prefix.
+ */
+public final class AhoCorasickAutomaton {
+
+    /** State before any symbol has been read. */
+    public static final int START = 0;
+
+    private final int alphabetSize;
+
+    /** {@code transitions[state * alphabetSize + symbol]} */
+    private final int[] transitions;
+
+    private final boolean[] match;
+
+    /**
+     * @param alphabetSize number of symbols K
+     * @param patterns     each pattern as a sequence of symbols in {@code [0, K)}; must not be empty
+     */
+    public AhoCorasickAutomaton(int alphabetSize, int[][] patterns) {
+        this.alphabetSize = alphabetSize;
+
+        // Trie, with -1 for missing edges
+        int capacity = 1;
+        for (int[] pattern : patterns) {
+            if (pattern.length == 0) {
+                throw new IllegalArgumentException("Empty pattern");
+            }
+            capacity += pattern.length;
+        }
+
+        int[] table = new int[capacity * alphabetSize];
+        Arrays.fill(table, -1);
+        boolean[] terminal = new boolean[capacity];
+        int states = 1;
+
+        for (int[] pattern : patterns) {
+            int state = START;
+            for (int symbol : pattern) {
+                if (symbol < 0 || symbol >= alphabetSize) {
+                    throw new IllegalArgumentException("Symbol outside [0, " + alphabetSize + "): " + symbol);
+                }
+                int slot = state * alphabetSize + symbol;
+                if (table[slot] < 0) {
+                    table[slot] = states++;
+                }
+                state = table[slot];
+            }
+            terminal[state] = true;
+        }
+
+        // Breadth-first, so a state's failure target is always complete before the state itself
+        int[] fail = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            int child = table[symbol];
+            if (child < 0) {
+                table[symbol] = START;
+            } else {
+                fail[child] = START;
+                queue.add(child);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            terminal[state] |= terminal[fail[state]];
+
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                int slot = state * alphabetSize + symbol;
+                int child = table[slot];
+                int fallback = table[fail[state] * alphabetSize + symbol];
+                if (child < 0) {
+                    table[slot] = fallback;
+                } else {
+                    fail[child] = fallback;
+                    queue.add(child);
+                }
+            }
+        }
+
+        this.transitions = Arrays.copyOf(table, states * alphabetSize);
+        this.match = Arrays.copyOf(terminal, states);
+    }
+
+    /** Number of states, at most one plus the total pattern length */
+    public int stateCount() {
+        return match.length;
+    }
+
+    /** The state after reading {@code symbol} in {@code state} */
+    public int next(int state, int symbol) {
+        return transitions[state * alphabetSize + symbol];
+    }
+
+    /** True if the text that led to {@code state} ends with one of the patterns */
+    public boolean isMatch(int state) {
+        return match[state];
+    }
+}
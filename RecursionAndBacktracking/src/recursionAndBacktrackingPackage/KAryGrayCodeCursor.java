@@ -0,0 +1,239 @@
+package recursionAndBacktrackingPackage;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterative, constant-memory walk over all K-ary strings of a fixed length in reflected Gray
+ * code order: each string differs from the one before it in exactly one position, by one step up
+ * or down the allowed characters.
+ *
+ * <p>A consumer that keeps state derived from the string (a hash, per-symbol counts, a score) can
+ * therefore update it from the single change that {@link #advance()} reports, instead of
+ * recomputing it over all N positions for every string as it would with {@link KAryStringCursor}.
+ *
+ * <p><b>Order:</b> the last position moves fastest. It runs through the characters from first to
+ * last, then the position to its left moves one step, and the last position runs back from last to
+ * first, and so on, each position reversing direction whenever it reaches an end. For
+ * K = 3, N = 2 over {A, B, C}:
+ * <pre>
+ * AA AB AC BC BB BA CA CB CC
+ * </pre>
+ *
+ * <p><b>Loopless:</b> {@link #advance()} is Knuth's Algorithm H (TAOCP 7.2.1.1) with focus pointers:
+ * {@code focus[j]} names the position to change next, so every step is O(1) in the worst case, not
+ * just amortized, and nothing is allocated or called recursively. Internally position {@code j}
+ * counts from the right, string position {@code N-1-j}.
+ *
+ * <p>Like {@link KAryStringCursor}, the cursor is a {@link CharSequence} over the current string
+ * that the next {@link #advance()} overwrites.
+ */
+public final class KAryGrayCodeCursor implements CharSequence {
+
+    /** Receives each step of {@link #forEachStep}. */
+    @FunctionalInterface
+    public interface StepVisitor {
+        /**
+         * @param position the only position that changed
+         * @param oldChar  the character it held before
+         * @param newChar  the character it holds now
+         * @param string   the new string; a live view, only valid during this call
+         * @return {@code true} to continue, {@code false} to stop
+         */
+        boolean step(int position, char oldChar, char newChar, CharSequence string);
+    }
+
+    /** Allowed characters; digit {@code d} stands for {@code allowedChars[d]}. */
+    private final char[] allowedChars;
+
+    /** Digit per internal position (counted from the right). */
+    private final int[] digits;
+
+    /** +1 or -1: the way each position moves on its next change. */
+    private final int[] directions;
+
+    /** Focus pointers; {@code focus[0]} is the next position to change, N means done. */
+    private final int[] focus;
+
+    /** The current string. */
+    private final char[] current;
+
+    /** Number of steps taken, i.e. the position of the current string in Gray code order. */
+    private long rank;
+
+    private boolean exhausted;
+
+    /** The change made by the last {@link #advance()}; -1 before the first step */
+    private int changedPosition = -1;
+    private char oldChar;
+    private char newChar;
+
+    /**
+     * Creates a cursor on the first string, with every position set to {@code allowedChars[0]}.
+     *
+     * @param length       the string length N
+     * @param allowedChars the K allowed characters
+     */
+    public KAryGrayCodeCursor(int length, char[] allowedChars) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+
+        this.allowedChars = allowedChars.clone();
+        this.digits = new int[length];
+        this.directions = new int[length];
+        this.focus = new int[length + 1];
+        this.current = new char[length];
+        reset();
+    }
+
+    /** Moves the cursor back to the first string */
+    public void reset() {
+        int length = digits.length;
+        for (int j = 0; j < length; j++) {
+            digits[j] = 0;
+            directions[j] = 1;
+            focus[j] = j;
+        }
+        focus[length] = length;
+
+        if (allowedChars.length > 0) {
+            Arrays.fill(current, allowedChars[0]);
+        }
+
+        // With a single character the first string is also the last
+        if (allowedChars.length < 2) {
+            focus[0] = length;
+        }
+
+        rank = 0;
+        exhausted = allowedChars.length == 0 && length > 0;
+        changedPosition = -1;
+    }
+
+    // ----------------------------------------
+    // 💠 NAVIGATION
+    // ----------------------------------------
+
+    /**
+     * Steps to the next string in Gray code order, changing exactly one position.
+     *
+     * @return the position that changed, or -1 if the cursor was on the last string and is now
+     *         exhausted
+     * @throws NoSuchElementException if the cursor is already exhausted
+     */
+    public int advance() {
+        if (exhausted) {
+            throw new NoSuchElementException("No more strings");
+        }
+
+        int length = digits.length;
+        int j = focus[0];
+        focus[0] = 0;
+        rank++;
+        if (j == length) {
+            exhausted = true;
+            changedPosition = -1;
+            return -1;
+        }
+
+        int digit = digits[j] + directions[j];
+        digits[j] = digit;
+
+        // At either end the position turns around and hands the focus on to the left
+        if (digit == 0 || digit == allowedChars.length - 1) {
+            directions[j] = -directions[j];
+            focus[j] = focus[j + 1];
+            focus[j + 1] = j + 1;
+        }
+
+        int position = length - 1 - j;
+        oldChar = current[position];
+        newChar = allowedChars[digit];
+        current[position] = newChar;
+        changedPosition = position;
+        return position;
+    }
+
+    /**
+     * Advances through all remaining strings, reporting each change to {@code visitor}. The
+     * current string itself is not reported; on a fresh cursor that is the all-{@code allowedChars[0]}
+     * string.
+     *
+     * @return the number of steps reported (including the one that stopped the walk)
+     */
+    public long forEachStep(StepVisitor visitor) {
+        long steps = 0;
+        while (!exhausted) {
+            int position = advance();
+            if (position < 0) {
+                break;
+            }
+            steps++;
+            if (!visitor.step(position, oldChar, newChar, this)) {
+                break;
+            }
+        }
+        return steps;
+    }
+
+    /** True while the cursor is on a string, false once it has moved past the last one */
+    public boolean hasCurrent() {
+        return !exhausted;
+    }
+
+    /** Position of the current string in Gray code order; K<sup>N</sup> once exhausted */
+    public long rank() {
+        return rank;
+    }
+
+    /** Position changed by the last step, or -1 before the first step and once exhausted */
+    public int changedPosition() {
+        return changedPosition;
+    }
+
+    /** Character the changed position held before the last step */
+    public char oldChar() {
+        return oldChar;
+    }
+
+    /** Character the changed position holds after the last step */
+    public char newChar() {
+        return newChar;
+    }
+
+    /** Digit (index into {@code allowedChars}) at {@code position} */
+    public int digitAt(int position) {
+        return digits[digits.length - 1 - position];
+    }
+
+    /** Copies the current string into {@code dest} starting at {@code offset} */
+    public void copyTo(char[] dest, int offset) {
+        System.arraycopy(current, 0, dest, offset, current.length);
+    }
+
+    // ----------------------------------------
+    // 💠 CHARSEQUENCE VIEW
+    // ----------------------------------------
+
+    @Override
+    public int length() {
+        return current.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return current[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new String(current, start, end - start);
+    }
+
+    /** A copy of the current string */
+    @Override
+    public String toString() {
+        return new String(current);
+    }
+}
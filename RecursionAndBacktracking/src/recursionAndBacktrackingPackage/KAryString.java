@@ -1,7 +1,6 @@
 package recursionAndBacktrackingPackage;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
 
 /**
  * The {@code KAryString} class demonstrates how to generate all possible strings
@@ -66,89 +65,20 @@ public class KAryString {
      * generates all possible combinations using recursion.
      *
      * @param args command-line arguments (not used)
+     * @throws IOException if writing to standard output fails
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         int length = 5;  // Desired string length
         char[] allowedChars = new char[] { 'A', 'B', 'C', 'D' };  // Allowed character set
 
         // Create instance of recursive generator
         K_AryStringsByRecursion recursionClass = new K_AryStringsByRecursion(length, allowedChars);
 
-        // Generate all possible K-ary strings
-        List<String> allStrings = recursionClass.generateAllStrings();
-
-        // Print all generated strings
-        for (String str : allStrings) {
-            System.out.println(str);
+        // Write each string as soon as it is generated, one per line, in large chunks
+        // instead of a println (and a String) per result; nothing is collected,
+        // so memory stays O(N) however many strings there are
+        try (KAryStringWriter out = KAryStringWriter.toStream(System.out, length, KAryStringWriter.Format.LINES)) {
+            recursionClass.forEachString(out);
         }
     }
 }
-
-/**
- * The {@code K_AryStringsByRecursion} class generates all possible strings of a given
- * length using a specified set of allowed characters through recursion.
- *
- * <p>Each recursive call fills one position of the string and explores all
- * possible character choices for that position.</p>
- */
-class K_AryStringsByRecursion {
-    /** The target length of each generated string. */
-    int length;
-
-    /** The set of characters allowed in the strings. */
-    char[] allowedChars;
-
-    /** The list that stores all generated K-ary strings. */
-    List<String> allPossibleStrings;
-
-    /** The temporary array representing the string being built recursively. */
-    char[] currentString;
-
-    /**
-     * Constructs a new instance of the K-ary string generator.
-     *
-     * @param length       the desired string length
-     * @param allowedChars the allowed characters for generation
-     */
-    public K_AryStringsByRecursion(int length, char[] allowedChars) {
-        this.length = length;
-        this.allowedChars = allowedChars;
-        this.allPossibleStrings = new ArrayList<>();
-        this.currentString = new char[length];
-    }
-
-    /**
-     * Public method that initiates the recursive generation of all strings.
-     *
-     * @return a list containing all possible K-ary strings
-     */
-    public List<String> generateAllStrings() {
-        generateAllStrings(0);
-        return allPossibleStrings;
-    }
-
-    /**
-     * Recursive helper function that generates all strings of the specified length.
-     *
-     * <p><b>Recursive Strategy:</b>
-     * <ul>
-     *   <li>If {@code index == length}: we’ve formed a complete string → add to results.</li>
-     *   <li>Else: assign each possible character at {@code currentString[index]} and recurse to the next index.</li>
-     * </ul>
-     *
-     * @param index the current position in the string being filled
-     */
-    private void generateAllStrings(int index) {
-        // Base case: full string is formed
-        if (index == length) {
-            allPossibleStrings.add(new String(currentString));  // Convert char[] to String
-            return;
-        }
-
-        // Recursive case: try each allowed character at current position
-        for (int i = 0; i < allowedChars.length; ++i) {
-            currentString[index] = allowedChars[i]; // Place character at current position
-            generateAllStrings(index + 1);          // Recurse for next character
-        }
-    }
-}
\ No newline at end of file
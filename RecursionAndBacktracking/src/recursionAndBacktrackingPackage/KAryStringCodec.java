@@ -0,0 +1,284 @@
+package recursionAndBacktrackingPackage;
+
+import java.util.Arrays;
+
+/**
+ * Converts between K-ary strings of a fixed length, their rank in the generation order of
+ * {@link K_AryStringsByRecursion}, and a bit-packed {@code long}.
+ *
+ * <p><b>Rank (base K):</b> reading the string as a base-K number, with {@code allowedChars[d]}
+ * as digit {@code d} and the first position most significant, gives exactly its rank:
+ * <pre>
+ *   allowedChars = {A, B, C}, N = 3:   "BCA" = 1·3² + 2·3 + 0 = 15
+ * </pre>
+ * {@link #rank} and {@link #unrank} are O(N), so the i-th string can be had without generating
+ * the ones before it, and a rank (8 bytes) can stand in for the string itself (a {@code String}
+ * of N chars is about 40 + 2N bytes). Ranks are dense, so the space splits evenly into numeric
+ * ranges, see {@link #split}.
+ *
+ * <p><b>Bit-packed:</b> each symbol takes {@code ceil(log2 K)} bits, the first position in the
+ * highest bits. Packing and unpacking are plain shifts and masks, at the price of gaps between
+ * the codes when K is not a power of two. Packed codes still sort in generation order when
+ * compared as unsigned numbers ({@link Long#compareUnsigned}): with all 64 bits in use the first
+ * symbol reaches the sign bit. Available when {@code N · ceil(log2 K) <= 64}, see
+ * {@link #supportsBitPacking()}.
+ *
+ * <p>Ranks need K<sup>N</sup> to fit in a {@code long}: up to N = 62 for K = 2, 31 for K = 4,
+ * 13 for K = 26.
+ */
+public final class KAryStringCodec {
+
+    private final int length;
+    private final char[] allowedChars;
+
+    /** {@code powers[i] = K^i} */
+    private final long[] powers;
+
+    /** Allowed characters sorted, with the digit of each, for lookups */
+    private final char[] sortedChars;
+    private final int[] sortedDigits;
+
+    private final int bitsPerSymbol;
+
+    /**
+     * @throws IllegalArgumentException if a character is allowed twice, or K<sup>N</sup> does not
+     *                                  fit in a {@code long}
+     */
+    public KAryStringCodec(int length, char[] allowedChars) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+
+        int k = allowedChars.length;
+        this.length = length;
+        this.allowedChars = allowedChars.clone();
+
+        this.powers = new long[length + 1];
+        powers[0] = 1;
+        for (int i = 1; i <= length; i++) {
+            try {
+                powers[i] = Math.multiplyExact(powers[i - 1], k);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException(k + "^" + length + " strings do not fit in a long");
+            }
+        }
+
+        this.sortedChars = this.allowedChars.clone();
+        Arrays.sort(sortedChars);
+        for (int i = 1; i < k; i++) {
+            if (sortedChars[i] == sortedChars[i - 1]) {
+                throw new IllegalArgumentException("Character allowed twice: " + sortedChars[i]);
+            }
+        }
+
+        this.sortedDigits = new int[k];
+        for (int d = 0; d < k; d++) {
+            sortedDigits[Arrays.binarySearch(sortedChars, allowedChars[d])] = d;
+        }
+
+        this.bitsPerSymbol = k <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(k - 1);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /** K, the number of allowed characters */
+    public int radix() {
+        return allowedChars.length;
+    }
+
+    /** Number of strings, K<sup>N</sup> */
+    public long count() {
+        return powers[length];
+    }
+
+    // ----------------------------------------
+    // 💠 RANK / UNRANK
+    // ----------------------------------------
+
+    /**
+     * Position of {@code string} in the generation order, in O(N).
+     *
+     * @throws IllegalArgumentException if the length is wrong or a character is not allowed
+     */
+    public long rank(CharSequence string) {
+        checkLength(string);
+        long rank = 0;
+        int k = allowedChars.length;
+        for (int i = 0; i < length; i++) {
+            rank = rank * k + digitOf(string.charAt(i));
+        }
+        return rank;
+    }
+
+    /**
+     * The string with the given rank, in O(N).
+     *
+     * @throws IllegalArgumentException if {@code rank} is not in {@code [0, K^N)}
+     */
+    public String unrank(long rank) {
+        char[] chars = new char[length];
+        unrank(rank, chars, 0);
+        return new String(chars);
+    }
+
+    /** Writes the string with the given rank into {@code dest[offset .. offset + N)} */
+    public void unrank(long rank, char[] dest, int offset) {
+        checkRank(rank);
+        int k = allowedChars.length;
+        long rest = rank;
+        for (int i = length - 1; i >= 0; i--) {
+            dest[offset + i] = allowedChars[(int) (rest % k)];
+            rest /= k;
+        }
+    }
+
+    /** Character at {@code position} of the string with the given rank, without building the string */
+    public char charAt(long rank, int position) {
+        checkRank(rank);
+        if (position < 0 || position >= length) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        return allowedChars[(int) (rank / powers[length - 1 - position] % allowedChars.length)];
+    }
+
+    /**
+     * Boundaries that cut the ranks into {@code parts} contiguous ranges of (almost) equal size:
+     * part {@code i} is {@code [bounds[i], bounds[i + 1])}, with {@code bounds[0] = 0} and
+     * {@code bounds[parts] = K^N}. Feed each range to
+     * {@link K_AryStringsByRecursion#forEachString(long, long, K_AryStringsByRecursion.Visitor)}.
+     */
+    public long[] split(int parts) {
+        if (parts < 1) {
+            throw new IllegalArgumentException("Parts must be positive: " + parts);
+        }
+
+        long count = count();
+        long[] bounds = new long[parts + 1];
+        for (int i = 0; i <= parts; i++) {
+            // count / parts * i + (count % parts) * i / parts, without overflowing
+            bounds[i] = count / parts * i + count % parts * i / parts;
+        }
+        return bounds;
+    }
+
+    // ----------------------------------------
+    // 💠 BIT PACKING
+    // ----------------------------------------
+
+    /** Bits per symbol in the packed form, {@code ceil(log2 K)} (0 when K <= 1) */
+    public int bitsPerSymbol() {
+        return bitsPerSymbol;
+    }
+
+    /** True if {@code N · bitsPerSymbol() <= 64}, so a string packs into one {@code long} */
+    public boolean supportsBitPacking() {
+        return (long) length * bitsPerSymbol <= Long.SIZE;
+    }
+
+    /**
+     * The bit-packed form of {@code string}.
+     *
+     * @throws IllegalArgumentException if the length is wrong or a character is not allowed
+     * @throws IllegalStateException    unless {@link #supportsBitPacking()}
+     */
+    public long pack(CharSequence string) {
+        checkPackable();
+        checkLength(string);
+        long packed = 0;
+        for (int i = 0; i < length; i++) {
+            packed = (packed << bitsPerSymbol) | digitOf(string.charAt(i));
+        }
+        return packed;
+    }
+
+    /**
+     * The string with the given bit-packed form.
+     *
+     * @throws IllegalArgumentException if a symbol in {@code packed} is not a valid digit
+     * @throws IllegalStateException    unless {@link #supportsBitPacking()}
+     */
+    public String unpack(long packed) {
+        checkPackable();
+        char[] chars = new char[length];
+        long mask = (1L << bitsPerSymbol) - 1;
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = allowedChars[checkDigit((int) (packed & mask))];
+            packed >>>= bitsPerSymbol;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Converts a rank to the bit-packed form without going through a string.
+     *
+     * @throws IllegalArgumentException if {@code rank} is not in {@code [0, K^N)}
+     * @throws IllegalStateException    unless {@link #supportsBitPacking()}
+     */
+    public long packRank(long rank) {
+        checkPackable();
+        checkRank(rank);
+        int k = allowedChars.length;
+        long packed = 0;
+        for (int i = 0; i < length; i++) {
+            packed |= (rank % k) << (i * bitsPerSymbol);
+            rank /= k;
+        }
+        return packed;
+    }
+
+    /**
+     * Converts a bit-packed form to its rank without going through a string.
+     *
+     * @throws IllegalArgumentException if a symbol in {@code packed} is not a valid digit
+     * @throws IllegalStateException    unless {@link #supportsBitPacking()}
+     */
+    public long unpackRank(long packed) {
+        checkPackable();
+        long mask = (1L << bitsPerSymbol) - 1;
+        long rank = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            rank = rank * allowedChars.length + checkDigit((int) ((packed >>> (i * bitsPerSymbol)) & mask));
+        }
+        return rank;
+    }
+
+    // ----------------------------------------
+    // 💠 CHECKS
+    // ----------------------------------------
+
+    private int digitOf(char c) {
+        int at = Arrays.binarySearch(sortedChars, c);
+        if (at < 0) {
+            throw new IllegalArgumentException("Character not allowed: " + c);
+        }
+        return sortedDigits[at];
+    }
+
+    private int checkDigit(int digit) {
+        if (digit >= allowedChars.length) {
+            throw new IllegalArgumentException("Invalid packed symbol: " + digit);
+        }
+        return digit;
+    }
+
+    private void checkLength(CharSequence string) {
+        if (string.length() != length) {
+            throw new IllegalArgumentException("Expected length " + length + ", got " + string.length());
+        }
+    }
+
+    private void checkRank(long rank) {
+        if (rank < 0 || rank >= count()) {
+            throw new IllegalArgumentException("Rank " + rank + " outside [0, " + count() + ")");
+        }
+    }
+
+    private void checkPackable() {
+        if (!supportsBitPacking()) {
+            throw new IllegalStateException(
+                    length + " symbols of " + bitsPerSymbol + " bits do not fit in a long");
+        }
+    }
+}
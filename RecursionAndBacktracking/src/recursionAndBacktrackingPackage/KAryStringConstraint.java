@@ -0,0 +1,48 @@
+package recursionAndBacktrackingPackage;
+
+/**
+ * A rule that generated K-ary strings must satisfy, checked one position at a time while the
+ * recursion of {@link K_AryStringsByRecursion#forEachMatching} builds the string.
+ *
+ * <p>As soon as {@link #tryPlace} rejects a character, the recursion skips the whole subtree below
+ * that prefix: none of its K<sup>N-index-1</sup> completions is ever formed. A rule can therefore
+ * only look at the prefix, but it may keep state about it (counts, an automaton state) as long
+ * as it undoes each accepted placement in {@link #remove}, which the recursion calls when it
+ * backtracks over that position.
+ *
+ * <p>Implementations are stateful and not thread-safe; see {@link KAryStringConstraints} for the
+ * built-in rules.
+ */
+public interface KAryStringConstraint {
+
+    /**
+     * Called once before a generation starts, to set up or clear any state.
+     *
+     * @param length       the string length N
+     * @param allowedChars the allowed characters; a digit {@code d} stands for {@code allowedChars[d]}
+     */
+    default void reset(int length, char[] allowedChars) {
+    }
+
+    /**
+     * Checks the character just placed at {@code string[index]}, given that {@code string[0 .. index)}
+     * was accepted.
+     *
+     * @param digit the index of {@code string[index]} in {@code allowedChars}
+     * @return {@code false} to prune every string with this prefix
+     */
+    boolean tryPlace(char[] string, int index, int digit);
+
+    /**
+     * Final check of a complete string, whose every position was accepted by {@link #tryPlace}.
+     * Rules that always decide from the prefix need not override it; it matters only for what a
+     * prefix cannot show, such as a lower bound on an empty (N = 0) string.
+     */
+    default boolean accept(char[] string) {
+        return true;
+    }
+
+    /** Undoes a placement that {@link #tryPlace} accepted; called in reverse order of placement */
+    default void remove(char[] string, int index, int digit) {
+    }
+}
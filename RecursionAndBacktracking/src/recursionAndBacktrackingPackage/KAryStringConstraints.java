@@ -0,0 +1,201 @@
+package recursionAndBacktrackingPackage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Built-in {@link KAryStringConstraint}s. Each check costs O(1) per placed character.
+ *
+ * <p><b>Example:</b> strings over {A, C, G, T} of length 12 with no repeated neighbour, at most
+ * three {@code G}s and neither {@code "ACA"} nor {@code "TGT"} anywhere:
+ * <pre>
+ * generator.forEachMatching(KAryStringConstraints.allOf(
+ *         KAryStringConstraints.noAdjacentEqual(),
+ *         KAryStringConstraints.occurrences('G', 0, 3),
+ *         KAryStringConstraints.forbiddenSubstrings("ACA", "TGT")), visitor);
+ * </pre>
+ */
+public final class KAryStringConstraints {
+
+    private KAryStringConstraints() {
+    }
+
+    /** No two neighbouring positions hold the same character */
+    public static KAryStringConstraint noAdjacentEqual() {
+        return (string, index, digit) -> index == 0 || string[index] != string[index - 1];
+    }
+
+    /**
+     * {@code symbol} occurs at least {@code min} and at most {@code max} times. A prefix is pruned
+     * as soon as it has more than {@code max}, or when the positions left could no longer bring it
+     * up to {@code min}.
+     */
+    public static KAryStringConstraint occurrences(char symbol, int min, int max) {
+        if (min < 0 || min > max) {
+            throw new IllegalArgumentException("Invalid bounds [" + min + ", " + max + "]");
+        }
+
+        return new KAryStringConstraint() {
+            private int length;
+            private int count;
+
+            @Override
+            public void reset(int length, char[] allowedChars) {
+                this.length = length;
+                this.count = 0;
+            }
+
+            @Override
+            public boolean tryPlace(char[] string, int index, int digit) {
+                int next = string[index] == symbol ? count + 1 : count;
+                int positionsLeft = length - index - 1;
+                if (next > max || next + positionsLeft < min) {
+                    return false;
+                }
+                count = next;
+                return true;
+            }
+
+            @Override
+            public boolean accept(char[] string) {
+                return count >= min;
+            }
+
+            @Override
+            public void remove(char[] string, int index, int digit) {
+                if (string[index] == symbol) {
+                    count--;
+                }
+            }
+        };
+    }
+
+    /**
+     * None of {@code patterns} occurs anywhere in the string.
+     *
+     * <p>The patterns are compiled into an {@link AhoCorasickAutomaton} over the allowed characters,
+     * and the automaton state after each prefix is kept per position, so checking a placement is
+     * one table lookup, and backtracking is free: the state for a shorter prefix is still there.
+     * Patterns using a character that is not allowed can never occur and are ignored.
+     *
+     * <p>The automaton reads digits, so each character must be allowed only once: with a duplicate,
+     * the same character would be two different symbols and a pattern could slip through under
+     * the one it was not compiled with.
+     *
+     * @throws IllegalArgumentException from {@link KAryStringConstraint#reset} (when generation starts)
+     *                                  if a character is allowed twice
+     */
+    public static KAryStringConstraint forbiddenSubstrings(String... patterns) {
+        for (String pattern : patterns) {
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("Empty forbidden substring");
+            }
+        }
+        String[] forbidden = patterns.clone();
+
+        return new KAryStringConstraint() {
+            private AhoCorasickAutomaton automaton;
+
+            /** {@code states[i]} is the automaton state after {@code string[0 .. i)} */
+            private int[] states;
+
+            @Override
+            public void reset(int length, char[] allowedChars) {
+                requireDistinct(allowedChars);
+                automaton = new AhoCorasickAutomaton(allowedChars.length, toSymbols(forbidden, allowedChars));
+                states = new int[length + 1];
+                states[0] = AhoCorasickAutomaton.START;
+            }
+
+            @Override
+            public boolean tryPlace(char[] string, int index, int digit) {
+                int state = automaton.next(states[index], digit);
+                if (automaton.isMatch(state)) {
+                    return false;
+                }
+                states[index + 1] = state;
+                return true;
+            }
+        };
+    }
+
+    /** All of {@code constraints} hold; they are checked in the given order */
+    public static KAryStringConstraint allOf(KAryStringConstraint... constraints) {
+        KAryStringConstraint[] all = constraints.clone();
+
+        return new KAryStringConstraint() {
+            @Override
+            public void reset(int length, char[] allowedChars) {
+                for (KAryStringConstraint constraint : all) {
+                    constraint.reset(length, allowedChars);
+                }
+            }
+
+            @Override
+            public boolean tryPlace(char[] string, int index, int digit) {
+                for (int i = 0; i < all.length; i++) {
+                    if (!all[i].tryPlace(string, index, digit)) {
+                        // Undo the ones that accepted, newest first
+                        for (int j = i - 1; j >= 0; j--) {
+                            all[j].remove(string, index, digit);
+                        }
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public boolean accept(char[] string) {
+                for (KAryStringConstraint constraint : all) {
+                    if (!constraint.accept(string)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public void remove(char[] string, int index, int digit) {
+                for (int i = all.length - 1; i >= 0; i--) {
+                    all[i].remove(string, index, digit);
+                }
+            }
+        };
+    }
+
+    /** Patterns as digit sequences, leaving out those with a character that is not allowed */
+    private static int[][] toSymbols(String[] patterns, char[] allowedChars) {
+        List<int[]> symbols = new ArrayList<>();
+
+        for (String pattern : patterns) {
+            int[] digits = new int[pattern.length()];
+            boolean possible = true;
+            for (int i = 0; i < digits.length && possible; i++) {
+                digits[i] = indexOf(allowedChars, pattern.charAt(i));
+                possible = digits[i] >= 0;
+            }
+            if (possible) {
+                symbols.add(digits);
+            }
+        }
+        return symbols.toArray(new int[0][]);
+    }
+
+    private static void requireDistinct(char[] allowedChars) {
+        for (int i = 0; i < allowedChars.length; i++) {
+            if (indexOf(allowedChars, allowedChars[i]) != i) {
+                throw new IllegalArgumentException("Character allowed twice: " + allowedChars[i]);
+            }
+        }
+    }
+
+    private static int indexOf(char[] chars, char c) {
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
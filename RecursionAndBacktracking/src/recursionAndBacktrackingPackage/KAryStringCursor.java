@@ -0,0 +1,180 @@
+package recursionAndBacktrackingPackage;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An iterative, constant-memory walk over all K-ary strings of a fixed length, in the same order
+ * as {@link K_AryStringsByRecursion} produces them.
+ *
+ * <p>The cursor works like an odometer: every position holds a digit (the index of its character
+ * in {@code allowedChars}), and {@link #advance()} adds one to the last digit, carrying to the
+ * left on overflow. Only the digits that actually change are rewritten, so a step costs O(1)
+ * amortized: the last position changes every time, the one before it every K steps, and so on.
+ *
+ * <p>The cursor is itself a {@link CharSequence} over the current string. It is a live view that
+ * the next {@link #advance()} overwrites; call {@link #toString()} to keep a copy.
+ *
+ * <p><b>Rank:</b> the position of a string in the generation order, from 0 to K<sup>N</sup> - 1. The
+ * first position is the most significant digit, so {@code rank = d[0]·K^(N-1) + ... + d[N-1]}.
+ */
+public final class KAryStringCursor implements CharSequence {
+
+    /** Allowed characters; digit {@code d} stands for {@code allowedChars[d]}. */
+    private final char[] allowedChars;
+
+    /** Digit per position of the current string. */
+    private final int[] digits;
+
+    /** The current string. */
+    private final char[] current;
+
+    /** Rank of the current string. */
+    private long rank;
+
+    /** True once {@link #advance()} has stepped past the last string, or if there are no strings at all. */
+    private boolean exhausted;
+
+    /**
+     * Creates a cursor positioned on the first string (all positions set to {@code allowedChars[0]}).
+     *
+     * @param length       the string length N
+     * @param allowedChars the K allowed characters, in generation order
+     */
+    public KAryStringCursor(int length, char[] allowedChars) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+
+        this.allowedChars = allowedChars.clone();
+        this.digits = new int[length];
+        this.current = new char[length];
+        seek(0);
+    }
+
+    /**
+     * Number of strings, K<sup>N</sup>.
+     *
+     * @throws ArithmeticException if it does not fit in a {@code long}
+     */
+    public static long count(int length, int k) {
+        long count = 1;
+        for (int i = 0; i < length; i++) {
+            count = Math.multiplyExact(count, k);
+        }
+        return count;
+    }
+
+    /** K<sup>N</sup>, or {@code Long.MAX_VALUE} if it is larger than that */
+    static long cappedCount(int length, int k) {
+        try {
+            return count(length, k);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    // ----------------------------------------
+    // 💠 NAVIGATION
+    // ----------------------------------------
+
+    /**
+     * Moves the cursor to the string with the given rank. Seeking to K<sup>N</sup> (one past the
+     * last string) leaves the cursor exhausted.
+     *
+     * @throws IllegalArgumentException if {@code rank} is negative or greater than K<sup>N</sup>
+     */
+    public void seek(long rank) {
+        int k = allowedChars.length;
+        long count = cappedCount(digits.length, k);
+        if (rank < 0 || rank > count) {
+            throw new IllegalArgumentException("Rank " + rank + " outside [0, " + count + "]");
+        }
+
+        this.rank = rank;
+        this.exhausted = rank == count;
+        if (exhausted) {
+            return;
+        }
+
+        long rest = rank;
+        for (int i = digits.length - 1; i >= 0; i--) {
+            digits[i] = (int) (rest % k);
+            current[i] = allowedChars[digits[i]];
+            rest /= k;
+        }
+    }
+
+    /**
+     * Steps to the next string.
+     *
+     * @return the leftmost position that changed, or -1 if the cursor was on the last string and
+     *         is now exhausted
+     * @throws NoSuchElementException if the cursor is already exhausted
+     */
+    public int advance() {
+        if (exhausted) {
+            throw new NoSuchElementException("No more strings");
+        }
+
+        int k = allowedChars.length;
+        for (int i = digits.length - 1; i >= 0; i--) {
+            if (++digits[i] < k) {
+                current[i] = allowedChars[digits[i]];
+                rank++;
+                return i;
+            }
+            digits[i] = 0;
+            current[i] = allowedChars[0];
+        }
+
+        // Every digit wrapped around: the cursor was on the last string
+        exhausted = true;
+        rank++;
+        return -1;
+    }
+
+    /** True while the cursor is on a string, false once it has moved past the last one */
+    public boolean hasCurrent() {
+        return !exhausted;
+    }
+
+    /** Rank of the current string; K<sup>N</sup> once exhausted */
+    public long rank() {
+        return rank;
+    }
+
+    /** Digit (index into {@code allowedChars}) at {@code position} */
+    public int digitAt(int position) {
+        return digits[position];
+    }
+
+    /** Copies the current string into {@code dest} starting at {@code offset} */
+    public void copyTo(char[] dest, int offset) {
+        System.arraycopy(current, 0, dest, offset, current.length);
+    }
+
+    // ----------------------------------------
+    // 💠 CHARSEQUENCE VIEW
+    // ----------------------------------------
+
+    @Override
+    public int length() {
+        return current.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return current[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new String(current, start, end - start);
+    }
+
+    /** A copy of the current string */
+    @Override
+    public String toString() {
+        return new String(current);
+    }
+}
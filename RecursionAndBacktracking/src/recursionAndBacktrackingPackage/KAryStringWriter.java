@@ -0,0 +1,308 @@
+package recursionAndBacktrackingPackage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link K_AryStringsByRecursion.Visitor} that writes every string it visits as a fixed-width
+ * record of single-byte characters, buffered in bulk, with no per-string garbage.
+ *
+ * <p>Printing each string with {@code System.out.println} takes a lock, builds a {@code String}
+ * and flushes a line per string. Here each string is encoded straight from the generator's
+ * {@code currentString} view into a reused record array and copied into a large buffer, which is
+ * written out only when full:
+ * <ul>
+ *   <li><b>channel</b> - a direct {@link ByteBuffer} (1 MB by default) handed to a
+ *       {@link WritableByteChannel}, e.g. a {@link FileChannel} or an {@link OutputStream}, in one
+ *       {@code write} per chunk.</li>
+ *   <li><b>mapped</b> - {@link #mapped} sizes the file for a known number of strings up front and
+ *       writes into memory-mapped windows of it, leaving the copying to the OS page cache.</li>
+ * </ul>
+ *
+ * <p><b>Record format:</b> string {@code r} occupies bytes {@code [r·W, (r+1)·W)}, where the width
+ * W is N ({@link Format#RAW}) or N + 1 with a trailing {@code '\n'} ({@link Format#LINES}). Every
+ * character must fit in one byte (ISO-8859-1), so a consumer can seek to any record directly.
+ *
+ * <p>The {@link K_AryStringsByRecursion.Visitor} interface cannot throw checked exceptions, so an
+ * {@link IOException} while writing is rethrown as an {@link UncheckedIOException}. Not thread-safe.
+ */
+public final class KAryStringWriter implements K_AryStringsByRecursion.Visitor, Closeable {
+
+    /** Layout of one record. */
+    public enum Format {
+        /** The N characters followed by {@code '\n'}; readable as text. */
+        LINES,
+        /** Just the N characters, back to back. */
+        RAW
+    }
+
+    /** Size of the direct buffer used by the channel-backed writers. */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    /** Upper bound on the size of each mapped window. */
+    private static final long MAPPED_WINDOW_SIZE = 64L << 20;
+
+    private final int length;
+    private final boolean newline;
+
+    /** Bytes per record, N or N + 1. */
+    private final int recordWidth;
+
+    /** The record being encoded. */
+    private final byte[] record;
+
+    /** Destination of a channel-backed writer; null when mapped. */
+    private final WritableByteChannel channel;
+
+    /** Whether {@link #close()} also closes {@link #channel}. */
+    private final boolean ownsChannel;
+
+    /** Stream behind {@link #channel} when made by {@link #toStream}, flushed with it; else null. */
+    private final OutputStream stream;
+
+    /** The file of a mapped writer; null when channel-backed. */
+    private final FileChannel mappedFile;
+
+    /** Size the mapped file was created with. */
+    private final long mappedSize;
+
+    /** File offset of the current mapped window. */
+    private long windowStart;
+
+    /** The direct buffer, or the current mapped window. */
+    private ByteBuffer buffer;
+
+    private long records;
+    private boolean closed;
+
+    /**
+     * Writes to {@code channel} through a direct buffer of {@code bufferSize} bytes. The channel is
+     * left open by {@link #close()}.
+     *
+     * @param length N, the length of every string that will be visited
+     * @throws IllegalArgumentException if the buffer cannot hold a single record
+     */
+    public KAryStringWriter(WritableByteChannel channel, int length, Format format, int bufferSize) {
+        this(channel, false, null, length, format, bufferSize);
+    }
+
+    private KAryStringWriter(WritableByteChannel channel, boolean ownsChannel, OutputStream stream, int length,
+            Format format, int bufferSize) {
+        this.length = length;
+        this.newline = format == Format.LINES;
+        this.recordWidth = recordWidth(length, format);
+        if (bufferSize < recordWidth) {
+            throw new IllegalArgumentException("Buffer of " + bufferSize + " bytes smaller than a record");
+        }
+
+        this.record = new byte[recordWidth];
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        this.stream = stream;
+        this.mappedFile = null;
+        this.mappedSize = 0;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    private KAryStringWriter(FileChannel mappedFile, long mappedSize, int length, Format format) throws IOException {
+        this.length = length;
+        this.newline = format == Format.LINES;
+        this.recordWidth = recordWidth(length, format);
+        this.record = new byte[recordWidth];
+        this.channel = null;
+        this.ownsChannel = false;
+        this.stream = null;
+        this.mappedFile = mappedFile;
+        this.mappedSize = mappedSize;
+        this.buffer = mapWindow(0);
+    }
+
+    /** Writes to {@code file}, creating or truncating it */
+    public static KAryStringWriter toFile(Path file, int length, Format format) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        return new KAryStringWriter(channel, true, null, length, format, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Writes to {@code out} in chunks of {@link #DEFAULT_BUFFER_SIZE}, e.g. {@code System.out}.
+     * {@link #flush()} and {@link #close()} flush the stream but leave it open.
+     */
+    public static KAryStringWriter toStream(OutputStream out, int length, Format format) {
+        return new KAryStringWriter(Channels.newChannel(out), false, out, length, format, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Writes to {@code file} through memory-mapped windows. The file is created with room for
+     * exactly {@code expectedRecords} records (e.g. {@link K_AryStringsByRecursion#count()}), and
+     * truncated on {@link #close()} if fewer were written.
+     *
+     * @throws IllegalStateException from {@link #visit} if more than {@code expectedRecords} arrive
+     */
+    public static KAryStringWriter mapped(Path file, int length, Format format, long expectedRecords)
+            throws IOException {
+        long size = Math.multiplyExact(expectedRecords, (long) recordWidth(length, format));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return new KAryStringWriter(channel, size, length, format);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** Bytes per record: N, plus one for the newline of {@link Format#LINES} */
+    public static int recordWidth(int length, Format format) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        return format == Format.LINES ? length + 1 : length;
+    }
+
+    // ----------------------------------------
+    // 💠 WRITING
+    // ----------------------------------------
+
+    /**
+     * Appends {@code string} as one record.
+     *
+     * @return always {@code true}
+     * @throws IllegalArgumentException if the string is not N long or has a character above 0xFF
+     * @throws IllegalStateException    if the writer is closed
+     * @throws UncheckedIOException     if writing a full buffer fails
+     */
+    @Override
+    public boolean visit(CharSequence string) {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        if (string.length() != length) {
+            throw new IllegalArgumentException("Expected length " + length + ", got " + string.length());
+        }
+
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+            if (c > 0xFF) {
+                throw new IllegalArgumentException("Not a single-byte character: " + c);
+            }
+            record[i] = (byte) c;
+        }
+        if (newline) {
+            record[length] = '\n';
+        }
+
+        if (buffer.remaining() < recordWidth) {
+            drain();
+        }
+        buffer.put(record);
+        records++;
+        return true;
+    }
+
+    /** Number of records written so far */
+    public long records() {
+        return records;
+    }
+
+    /** Number of bytes written so far, {@code records() · recordWidth} */
+    public long bytesWritten() {
+        return records * recordWidth;
+    }
+
+    /**
+     * Writes out everything buffered so far, and flushes the stream of {@link #toStream}; a no-op
+     * for a mapped writer.
+     */
+    public void flush() throws IOException {
+        if (channel != null) {
+            writeBuffer();
+            if (stream != null) {
+                stream.flush();
+            }
+        }
+    }
+
+    /**
+     * Flushes and releases the destination: closes the file of {@link #toFile} and {@link #mapped},
+     * and truncates a mapped file to the records actually written.
+     *
+     * <p>Before truncating, the current window is forced to the file and every reference to it is
+     * dropped, so nothing in this writer can touch the pages past the new end. Java cannot unmap a
+     * window explicitly, though: the mappings go away only when they are garbage collected. Linux
+     * and macOS truncate beneath a live mapping, but Windows refuses while any window is still
+     * mapped; there this throws an {@link IOException}, the file keeps the size it was created with,
+     * and only the first {@link #records()} records are valid.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        if (channel != null) {
+            try {
+                flush();
+            } finally {
+                if (ownsChannel) {
+                    channel.close();
+                }
+            }
+        } else {
+            try {
+                MappedByteBuffer window = (MappedByteBuffer) buffer;
+                long written = windowStart + window.position();
+                buffer = null;
+                window.force();
+                if (written < mappedSize) {
+                    mappedFile.truncate(written);
+                }
+            } finally {
+                mappedFile.close();
+            }
+        }
+    }
+
+    /** Makes room for the next record: writes out the direct buffer, or moves to the next window */
+    private void drain() {
+        try {
+            if (channel != null) {
+                writeBuffer();
+            } else {
+                long next = windowStart + buffer.position();
+                if (mappedSize - next < recordWidth) {
+                    throw new IllegalStateException("More records than the " + mappedSize / recordWidth
+                            + " the mapped file was sized for");
+                }
+                buffer = mapWindow(next);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /** Maps the window starting at {@code start}, a whole number of records long */
+    private MappedByteBuffer mapWindow(long start) throws IOException {
+        long window = Math.max(1, MAPPED_WINDOW_SIZE / Math.max(1, recordWidth)) * recordWidth;
+        windowStart = start;
+        return mappedFile.map(FileChannel.MapMode.READ_WRITE, start, Math.min(window, mappedSize - start));
+    }
+}
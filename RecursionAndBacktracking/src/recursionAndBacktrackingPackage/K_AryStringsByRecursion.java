@@ -0,0 +1,340 @@
+package recursionAndBacktrackingPackage;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The {@code K_AryStringsByRecursion} class generates all possible strings of a given
+ * length using a specified set of allowed characters through recursion.
+ *
+ * <p>Each recursive call fills one position of the string and explores all
+ * possible character choices for that position.</p>
+ *
+ * <p><b>Lazy generation:</b> {@link #generateAllStrings()} keeps all K<sup>N</sup> results in a
+ * list, which stops being possible long before the generation itself gets slow (K = 4, N = 16
+ * is 4.3 billion strings). The lazy APIs hand out each string as it is formed and need only
+ * O(N) memory, however many strings there are:
+ * <ul>
+ *   <li>{@link #forEachString(Visitor)} - the same recursion, calling back with a reusable
+ *       {@link CharSequence} view over {@code currentString}; the visitor can stop it early.</li>
+ *   <li>{@link #iterator()} and {@link #stream()} - pull-based, driven by an iterative
+ *       {@link KAryStringCursor} instead of recursion.</li>
+ * </ul>
+ * All of them can resume from a rank: the position of a string in the generation order,
+ * counted from 0.</p>
+ *
+ * <p><b>Constrained generation:</b> {@link #forEachMatching} checks a {@link KAryStringConstraint}
+ * at every placement and backtracks out of prefixes that cannot lead to a valid string.</p>
+ *
+ * <p>For the same strings in an order where consecutive strings differ in a single position,
+ * see {@link KAryGrayCodeCursor}.</p>
+ */
+public class K_AryStringsByRecursion {
+
+    /** Receives each generated string from {@link #forEachString(Visitor)}. */
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * @param string a view over the string just formed; only valid during this call, so
+         *               copy it ({@code toString()}) to keep it
+         * @return {@code true} to continue, {@code false} to stop the generation
+         */
+        boolean visit(CharSequence string);
+    }
+
+    /** The target length of each generated string. */
+    int length;
+
+    /** The set of characters allowed in the strings. */
+    char[] allowedChars;
+
+    /** The list that stores all generated K-ary strings. */
+    List<String> allPossibleStrings;
+
+    /** The temporary array representing the string being built recursively. */
+    char[] currentString;
+
+    /**
+     * Constructs a new instance of the K-ary string generator.
+     *
+     * @param length       the desired string length
+     * @param allowedChars the allowed characters for generation
+     */
+    public K_AryStringsByRecursion(int length, char[] allowedChars) {
+        this.length = length;
+        this.allowedChars = allowedChars;
+        this.allPossibleStrings = new ArrayList<>();
+        this.currentString = new char[length];
+    }
+
+    /**
+     * Public method that initiates the recursive generation of all strings.
+     *
+     * @return a list containing all possible K-ary strings
+     */
+    public List<String> generateAllStrings() {
+        generateAllStrings(0);
+        return allPossibleStrings;
+    }
+
+    /** Number of strings that will be generated, K<sup>N</sup>; see {@link KAryStringCursor#count} */
+    public long count() {
+        return KAryStringCursor.count(length, allowedChars.length);
+    }
+
+    // ----------------------------------------
+    // 💠 LAZY GENERATION
+    // ----------------------------------------
+
+    /**
+     * Generates every string in order, handing each one to {@code visitor} as soon as it is formed.
+     * Nothing is collected.
+     *
+     * @return the number of strings visited (including the one that stopped the generation)
+     */
+    public long forEachString(Visitor visitor) {
+        return forEachString(0, visitor);
+    }
+
+    /**
+     * Like {@link #forEachString(Visitor)}, but starts at the string with rank {@code fromRank},
+     * e.g. to resume a generation that was stopped earlier.
+     *
+     * @throws IllegalArgumentException if {@code fromRank} is negative or greater than K<sup>N</sup>
+     */
+    public long forEachString(long fromRank, Visitor visitor) {
+        return forEachString(fromRank, KAryStringCursor.cappedCount(length, allowedChars.length), visitor);
+    }
+
+    /**
+     * Visits the strings with ranks in {@code [fromRank, toRank)}, e.g. one shard of the space when
+     * several workers or machines split it by numeric range (see {@link KAryStringCodec#split}).
+     *
+     * @throws IllegalArgumentException unless {@code 0 <= fromRank <= toRank <= K^N}
+     */
+    public long forEachString(long fromRank, long toRank, Visitor visitor) {
+        checkRange(fromRank, toRank);
+        KAryStringCursor start = new KAryStringCursor(length, allowedChars);
+        start.seek(fromRank);
+        if (fromRank == toRank) {
+            return 0;
+        }
+
+        int[] startDigits = new int[length];
+        for (int i = 0; i < length; i++) {
+            startDigits[i] = start.digitAt(i);
+        }
+
+        long[] visited = new long[1];
+        visitStrings(0, startDigits, true, new CharArrayView(currentString), visitor, visited, toRank - fromRank);
+        return visited[0];
+    }
+
+    /**
+     * The recursion of {@link #generateAllStrings(int)}, reporting to a visitor instead of a list.
+     * While {@code resuming}, each position starts from the start string's digit instead of 0;
+     * once a position moves past it, everything to its right starts from 0 again.
+     *
+     * @return {@code false} once the visitor has asked to stop or {@code limit} strings were visited
+     */
+    private boolean visitStrings(int index, int[] startDigits, boolean resuming, CharSequence view, Visitor visitor,
+            long[] visited, long limit) {
+        if (index == length) {
+            visited[0]++;
+            return visitor.visit(view) && visited[0] < limit;
+        }
+
+        for (int i = resuming ? startDigits[index] : 0; i < allowedChars.length; ++i) {
+            currentString[index] = allowedChars[i];
+            if (!visitStrings(index + 1, startDigits, resuming && i == startDigits[index], view, visitor, visited,
+                    limit)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ----------------------------------------
+    // 💠 CONSTRAINED GENERATION
+    // ----------------------------------------
+
+    /**
+     * Visits, in generation order, only the strings that satisfy {@code constraint}.
+     *
+     * <p>The constraint is checked as each character is placed, and a rejected prefix is never
+     * extended, so none of the K<sup>N</sup> strings below it is formed. Filtering the output of
+     * {@link #forEachString(Visitor)} costs the full K<sup>N</sup> even when few strings match.
+     *
+     * @return the number of strings visited (including the one that stopped the generation)
+     */
+    public long forEachMatching(KAryStringConstraint constraint, Visitor visitor) {
+        constraint.reset(length, allowedChars.clone());
+
+        long[] visited = new long[1];
+        visitMatching(0, constraint, new CharArrayView(currentString), visitor, visited);
+        return visited[0];
+    }
+
+    /**
+     * The recursion of {@link #generateAllStrings(int)}, descending only past placements the
+     * constraint accepts and undoing each one before trying the next character.
+     *
+     * @return {@code false} once the visitor has asked to stop
+     */
+    private boolean visitMatching(int index, KAryStringConstraint constraint, CharSequence view, Visitor visitor,
+            long[] visited) {
+        if (index == length) {
+            if (!constraint.accept(currentString)) {
+                return true;
+            }
+            visited[0]++;
+            return visitor.visit(view);
+        }
+
+        for (int i = 0; i < allowedChars.length; ++i) {
+            currentString[index] = allowedChars[i];
+            if (!constraint.tryPlace(currentString, index, i)) {
+                continue;   // Prune: no extension of this prefix can match
+            }
+            boolean more = visitMatching(index + 1, constraint, view, visitor, visited);
+            constraint.remove(currentString, index, i);
+            if (!more) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Iterates over all strings in generation order, creating each {@code String} on demand */
+    public Iterator<String> iterator() {
+        return iterator(0);
+    }
+
+    /**
+     * Iterates over the strings from rank {@code fromRank} on.
+     *
+     * @throws IllegalArgumentException if {@code fromRank} is negative or greater than K<sup>N</sup>
+     */
+    public Iterator<String> iterator(long fromRank) {
+        return iterator(fromRank, KAryStringCursor.cappedCount(length, allowedChars.length));
+    }
+
+    /**
+     * Iterates over the strings with ranks in {@code [fromRank, toRank)}.
+     *
+     * @throws IllegalArgumentException unless {@code 0 <= fromRank <= toRank <= K^N}
+     */
+    public Iterator<String> iterator(long fromRank, long toRank) {
+        checkRange(fromRank, toRank);
+        KAryStringCursor cursor = new KAryStringCursor(length, allowedChars);
+        cursor.seek(fromRank);
+
+        return new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return cursor.hasCurrent() && cursor.rank() < toRank;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String string = cursor.toString();
+                cursor.advance();
+                return string;
+            }
+        };
+    }
+
+    /** A sequential stream of all strings; closing it early (e.g. {@code limit}) stops the generation */
+    public Stream<String> stream() {
+        return stream(0);
+    }
+
+    /** A sequential stream of the strings from rank {@code fromRank} on */
+    public Stream<String> stream(long fromRank) {
+        long count = KAryStringCursor.cappedCount(length, allowedChars.length);
+        int characteristics = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+        // Too many strings to count in a long: the size is unknown rather than wrong
+        if (count == Long.MAX_VALUE) {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(fromRank), characteristics), false);
+        }
+        return stream(fromRank, count);
+    }
+
+    /** A sequential stream of the strings with ranks in {@code [fromRank, toRank)} */
+    public Stream<String> stream(long fromRank, long toRank) {
+        int characteristics = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        Iterator<String> iterator = iterator(fromRank, toRank);
+        return StreamSupport.stream(Spliterators.spliterator(iterator, toRank - fromRank, characteristics), false);
+    }
+
+    private void checkRange(long fromRank, long toRank) {
+        long count = KAryStringCursor.cappedCount(length, allowedChars.length);
+        if (fromRank < 0 || fromRank > toRank || toRank > count) {
+            throw new IllegalArgumentException("Range [" + fromRank + ", " + toRank + ") outside [0, " + count + "]");
+        }
+    }
+
+    /**
+     * Recursive helper function that generates all strings of the specified length.
+     *
+     * <p><b>Recursive Strategy:</b>
+     * <ul>
+     *   <li>If {@code index == length}: we’ve formed a complete string → add to results.</li>
+     *   <li>Else: assign each possible character at {@code currentString[index]} and recurse to the next index.</li>
+     * </ul>
+     *
+     * @param index the current position in the string being filled
+     */
+    private void generateAllStrings(int index) {
+        // Base case: full string is formed
+        if (index == length) {
+            allPossibleStrings.add(new String(currentString));  // Convert char[] to String
+            return;
+        }
+
+        // Recursive case: try each allowed character at current position
+        for (int i = 0; i < allowedChars.length; ++i) {
+            currentString[index] = allowedChars[i]; // Place character at current position
+            generateAllStrings(index + 1);          // Recurse for next character
+        }
+    }
+
+    /** Read-only {@link CharSequence} over a char array that is being rewritten in place. */
+    static final class CharArrayView implements CharSequence {
+        private final char[] chars;
+
+        CharArrayView(char[] chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        public int length() {
+            return chars.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(chars, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars);
+        }
+    }
+}
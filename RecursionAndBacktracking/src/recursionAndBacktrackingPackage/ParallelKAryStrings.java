@@ -0,0 +1,317 @@
+package recursionAndBacktrackingPackage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import recursionAndBacktrackingPackage.K_AryStringsByRecursion.Visitor;
+
+/**
+ * Generates all K-ary strings of a given length in parallel on a {@link ForkJoinPool}.
+ *
+ * <p><b>Splitting by prefix:</b> every choice at position 0 roots an independent subtree of
+ * K<sup>N-1</sup> strings, every choice at position 1 below it one of K<sup>N-2</sup>, and so on.
+ * A task fixes one more position and forks one subtask per allowed character, until the subtree
+ * below the prefix is small enough (a few thousand strings, or less when that would leave too few
+ * tasks to keep every worker busy). That split depth is worked out from K, N and the pool's
+ * parallelism. Each leaf task then runs the plain recursion of {@link K_AryStringsByRecursion}
+ * over the remaining positions, in a {@code char[]} of its own, so workers share nothing but the
+ * sink.
+ *
+ * <p><b>Sinks:</b>
+ * <ul>
+ *   <li>{@link #forEach(Visitor)} - one visitor shared by all workers; it must be thread-safe.
+ *       Strings arrive in no particular order.</li>
+ *   <li>{@link #forEachPerWorker(Supplier)} - one visitor per worker thread, so none needs
+ *       to be thread-safe (e.g. a counter or a {@code StringBuilder} per worker); merge them after.</li>
+ *   <li>{@link #forEachOrdered(Visitor)} - one visitor, called from the caller's thread in rank
+ *       order, exactly like the sequential generation. Workers fill fixed-size blocks of strings
+ *       ahead of the visitor; only a bounded window of blocks is in flight at any time.</li>
+ * </ul>
+ * In every mode a visitor returning {@code false} stops the whole generation; strings that
+ * other workers are forming at that moment may still be delivered.
+ */
+public class ParallelKAryStrings {
+
+    /** Subtrees at most this big are generated by a single task. */
+    static final int MAX_LEAF_STRINGS = 1 << 14;
+
+    /** Leaves are not made smaller than this, however many workers there are. */
+    static final int MIN_LEAF_STRINGS = 1 << 8;
+
+    /** Tasks per worker to aim for, so that uneven progress evens out. */
+    static final int TASKS_PER_WORKER = 8;
+
+    /** Strings per block in ordered mode. */
+    static final int ORDERED_BLOCK_STRINGS = 1 << 12;
+
+    private final int length;
+    private final char[] allowedChars;
+    private final ForkJoinPool pool;
+
+    /** Runs on the common pool. */
+    public ParallelKAryStrings(int length, char[] allowedChars) {
+        this(length, allowedChars, ForkJoinPool.commonPool());
+    }
+
+    public ParallelKAryStrings(int length, char[] allowedChars, ForkJoinPool pool) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        this.length = length;
+        this.allowedChars = allowedChars.clone();
+        this.pool = pool;
+    }
+
+    // ----------------------------------------
+    // 💠 UNORDERED
+    // ----------------------------------------
+
+    /**
+     * Generates every string, handing each to {@code visitor} from whichever worker formed it.
+     *
+     * @param visitor thread-safe; the {@link CharSequence} it gets is only valid during the call
+     * @return the number of strings visited
+     */
+    public long forEach(Visitor visitor) {
+        return run(() -> visitor);
+    }
+
+    /**
+     * Generates every string, giving each worker thread its own visitor from {@code sinkFactory}.
+     *
+     * @return the visitors that were created, one per worker that took part
+     */
+    public <S extends Visitor> List<S> forEachPerWorker(Supplier<S> sinkFactory) {
+        Map<Thread, S> sinks = new ConcurrentHashMap<>();
+        run(() -> sinks.computeIfAbsent(Thread.currentThread(), thread -> sinkFactory.get()));
+        return new ArrayList<>(sinks.values());
+    }
+
+    private long run(Supplier<? extends Visitor> visitors) {
+        if (allowedChars.length == 0 && length > 0) {
+            return 0;
+        }
+
+        Generation generation = new Generation(visitors, splitDepth());
+        pool.invoke(new PrefixTask(generation, new char[length], 0));
+        return generation.visited.sum();
+    }
+
+    /**
+     * Smallest prefix length whose subtrees hold at most the leaf size, the leaf size being
+     * {@link #MAX_LEAF_STRINGS} or less, if needed to give every worker
+     * {@link #TASKS_PER_WORKER} tasks.
+     */
+    int splitDepth() {
+        int k = allowedChars.length;
+        if (k <= 1) {
+            return 0;
+        }
+
+        long total = KAryStringCursor.cappedCount(length, k);
+        long target = (long) pool.getParallelism() * TASKS_PER_WORKER;
+        long leaf = Math.max(MIN_LEAF_STRINGS, Math.min(MAX_LEAF_STRINGS, total / target));
+
+        int depth = 0;
+        while (depth < length && KAryStringCursor.cappedCount(length - depth, k) > leaf) {
+            depth++;
+        }
+        return depth;
+    }
+
+    /** State shared by all tasks of one generation */
+    private static final class Generation {
+        final Supplier<? extends Visitor> visitors;
+        final int splitDepth;
+        final LongAdder visited = new LongAdder();
+        volatile boolean stopped;
+
+        Generation(Supplier<? extends Visitor> visitors, int splitDepth) {
+            this.visitors = visitors;
+            this.splitDepth = splitDepth;
+        }
+    }
+
+    /** Generates every string starting with {@code prefix[0 .. depth)} */
+    private final class PrefixTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Generation generation;
+        private final char[] prefix;
+        private final int depth;
+
+        PrefixTask(Generation generation, char[] prefix, int depth) {
+            this.generation = generation;
+            this.prefix = prefix;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (generation.stopped) {
+                return;
+            }
+
+            if (depth < generation.splitDepth) {
+                PrefixTask[] children = new PrefixTask[allowedChars.length];
+                for (int i = 0; i < children.length; i++) {
+                    char[] childPrefix = prefix.clone();
+                    childPrefix[depth] = allowedChars[i];
+                    children[i] = new PrefixTask(generation, childPrefix, depth + 1);
+                }
+                invokeAll(children);
+                return;
+            }
+
+            // Leaf: the prefix array becomes this task's private buffer
+            Visitor visitor = generation.visitors.get();
+            long[] visited = new long[1];
+            generate(depth, new K_AryStringsByRecursion.CharArrayView(prefix), visitor, visited);
+            generation.visited.add(visited[0]);
+        }
+
+        /** The recursion of {@code K_AryStringsByRecursion}, over this task's buffer */
+        private boolean generate(int index, CharSequence view, Visitor visitor, long[] visited) {
+            if (index == length) {
+                visited[0]++;
+                if (!visitor.visit(view)) {
+                    generation.stopped = true;
+                    return false;
+                }
+                return true;
+            }
+
+            if (generation.stopped) {
+                return false;
+            }
+
+            for (int i = 0; i < allowedChars.length; ++i) {
+                prefix[index] = allowedChars[i];
+                if (!generate(index + 1, view, visitor, visited)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // ----------------------------------------
+    // 💠 ORDERED
+    // ----------------------------------------
+
+    /**
+     * Generates every string and hands them to {@code visitor} in rank order, from the calling
+     * thread. Workers form blocks of {@value #ORDERED_BLOCK_STRINGS} strings ahead of it, at most
+     * a few per worker at a time.
+     *
+     * @param visitor called by one thread only; the {@link CharSequence} it gets is only valid
+     *                during the call
+     * @return the number of strings visited
+     */
+    public long forEachOrdered(Visitor visitor) {
+        long total = KAryStringCursor.cappedCount(length, allowedChars.length);
+        int window = Math.max(2, pool.getParallelism() * 2);
+
+        ArrayDeque<Block> inFlight = new ArrayDeque<>();
+        BlockView view = new BlockView(length);
+        long nextBlock = 0;
+        long visited = 0;
+
+        try {
+            while (true) {
+                while (inFlight.size() < window && nextBlock < total) {
+                    Block block = new Block(nextBlock, Math.min(total, nextBlock + ORDERED_BLOCK_STRINGS));
+                    pool.execute(block);
+                    inFlight.add(block);
+                    nextBlock = block.to;
+                }
+
+                Block block = inFlight.poll();
+                if (block == null) {
+                    return visited;
+                }
+
+                view.chars = block.join();
+                int strings = (int) (block.to - block.from);
+                for (int s = 0; s < strings; s++) {
+                    view.offset = s * length;
+                    visited++;
+                    if (!visitor.visit(view)) {
+                        return visited;
+                    }
+                }
+            }
+        } finally {
+            for (Block pending : inFlight) {
+                pending.cancel(false);
+            }
+        }
+    }
+
+    /** Forms the strings with ranks {@code [from, to)}, back to back in one array */
+    private final class Block extends RecursiveTask<char[]> {
+        private static final long serialVersionUID = 1L;
+
+        final long from;
+        final long to;
+
+        Block(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected char[] compute() {
+            char[] chars = new char[(int) (to - from) * length];
+            KAryStringCursor cursor = new KAryStringCursor(length, allowedChars);
+            cursor.seek(from);
+            for (int offset = 0; offset < chars.length; offset += length) {
+                cursor.copyTo(chars, offset);
+                cursor.advance();
+            }
+            return chars;
+        }
+    }
+
+    /** {@link CharSequence} over one string inside a block */
+    private static final class BlockView implements CharSequence {
+        private final int length;
+        char[] chars;
+        int offset;
+
+        BlockView(int length) {
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return chars[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, offset, length);
+        }
+    }
+}
@@ -55,6 +55,15 @@ import java.util.Stack;
  * <b>Space Complexity:</b> O(n) — due to recursion call stack.
  * </p>
  *
+ * <p><b>Iterative Solution (Bit Tricks):</b><br>
+ * The recursion is not needed to know the k-th move (counting from 1): it moves disk
+ * {@code trailingZeros(k) + 1}, from peg {@code (k & (k-1)) % 3} to peg {@code ((k | (k-1)) + 1) % 3}.
+ * With pegs numbered that way the tower ends on peg 2 for odd {@code n} and on peg 1 for even
+ * {@code n}, so the real pegs are assigned by the parity of {@code n}. {@link #moveAt} computes any
+ * single move in O(1), and {@link #forEachMove} emits a whole range of moves through a primitive
+ * {@link MoveConsumer}, so the 2ⁿ − 1 moves can be streamed, sampled or split across threads.
+ * </p>
+ *
  * <p><b>Author:</b> Nishant Anand</p>
  */
 public class TowerOfHanoi {
@@ -97,6 +106,17 @@ public class TowerOfHanoi {
 
         // Demonstrate recursive Tower of Hanoi with actual peg state visualization
         towerOfHanoi(3, 0, 2, 1, pegStatus);
+
+        System.out.println("\n===== Iterative =====");
+
+        // Same moves without recursion, computed from the move number alone
+        forEachMove(3, 0, 2, 1, (move, disk, fromPeg, toPeg) ->
+                System.out.printf("Move %d: disk %d from %d to %d%n", move, disk, fromPeg, toPeg));
+
+        // Any single move of a huge tower, without generating the ones before it
+        int move = moveAt(60, 1L << 59, 0, 2, 1);
+        System.out.printf("Move 2^59 of 60 disks: disk %d from %d to %d%n",
+                moveDisk(move), moveFromPeg(move), moveToPeg(move));
     }
 
     /**
@@ -107,7 +127,7 @@ public class TowerOfHanoi {
      * @param toPeg         the name of the target peg
      * @param auxPeg        the name of the auxiliary peg used temporarily
      */
-    private static void towerOfHanoi(int numberOfDisks, String sourcePeg, String toPeg, String auxPeg) {
+    public static void towerOfHanoi(int numberOfDisks, String sourcePeg, String toPeg, String auxPeg) {
         // Base case: if only one disk, directly move it to target peg
         if (numberOfDisks == 1) {
             System.out.printf("Transfer top disk from %s to %s%n", sourcePeg, toPeg);
@@ -141,7 +161,7 @@ public class TowerOfHanoi {
      * @param auxPeg        index of the auxiliary peg (0-based)
      * @param pegStatus     list representing all pegs as stacks
      */
-    private static void towerOfHanoi(int numberOfDisks, int sourcePeg, int targetPeg, int auxPeg, List<Stack<Integer>> pegStatus) {
+    public static void towerOfHanoi(int numberOfDisks, int sourcePeg, int targetPeg, int auxPeg, List<Stack<Integer>> pegStatus) {
         // Base case: if only one disk, perform direct move and update visualization
         if (numberOfDisks == 1) {
             System.out.printf("Transfer top disk from %s to %s%n", sourcePeg, targetPeg);
@@ -166,4 +186,141 @@ public class TowerOfHanoi {
         // Step 3: Move n-1 disks from auxiliary to target peg
         towerOfHanoi(numberOfDisks - 1, auxPeg, targetPeg, sourcePeg, pegStatus);
     }
+
+    // ----------------------------------------
+    // 💠 ITERATIVE SOLUTION
+    // ----------------------------------------
+
+    /** Receives the moves of {@link #forEachMove}, as primitives so nothing is allocated per move. */
+    @FunctionalInterface
+    public interface MoveConsumer {
+        /**
+         * @param move    the move number, from 1 to 2ⁿ − 1
+         * @param disk    the disk moved, 1 (smallest) to n
+         * @param fromPeg the peg it is taken from
+         * @param toPeg   the peg it is put on
+         */
+        void accept(long move, int disk, int fromPeg, int toPeg);
+    }
+
+    /** Most disks for which 2ⁿ, one past the last move number, fits in a {@code long}. */
+    public static final int MAX_DISKS = 62;
+
+    /**
+     * Number of moves needed for {@code numberOfDisks} disks, 2ⁿ − 1.
+     *
+     * @throws IllegalArgumentException if {@code numberOfDisks} is negative or above {@link #MAX_DISKS}
+     */
+    public static long moveCount(int numberOfDisks) {
+        if (numberOfDisks < 0 || numberOfDisks > MAX_DISKS) {
+            throw new IllegalArgumentException("Number of disks outside [0, " + MAX_DISKS + "]: " + numberOfDisks);
+        }
+        return (1L << numberOfDisks) - 1;
+    }
+
+    /**
+     * Emits all moves that bring {@code numberOfDisks} disks from {@code sourcePeg} to
+     * {@code targetPeg}, in the same order as the recursive solution, without recursion.
+     * Each move costs O(1).
+     *
+     * @param sourcePeg index of the source peg (0, 1 or 2)
+     * @param targetPeg index of the target peg
+     * @param auxPeg    index of the auxiliary peg
+     */
+    public static void forEachMove(int numberOfDisks, int sourcePeg, int targetPeg, int auxPeg,
+            MoveConsumer consumer) {
+        forEachMove(numberOfDisks, 1, moveCount(numberOfDisks) + 1, sourcePeg, targetPeg, auxPeg, consumer);
+    }
+
+    /**
+     * Emits the moves numbered {@code [fromMove, toMove)}, e.g. one share of the sequence when
+     * several threads split it.
+     *
+     * @throws IllegalArgumentException unless {@code 1 <= fromMove <= toMove <= 2ⁿ}, or if the pegs
+     *                                  are not 0, 1 and 2 in some order
+     */
+    public static void forEachMove(int numberOfDisks, long fromMove, long toMove, int sourcePeg, int targetPeg,
+            int auxPeg, MoveConsumer consumer) {
+        long count = moveCount(numberOfDisks);
+        if (fromMove < 1 || fromMove > toMove || toMove > count + 1) {
+            throw new IllegalArgumentException("Moves [" + fromMove + ", " + toMove + ") outside [1, " + (count + 1) + "]");
+        }
+        checkPegs(sourcePeg, targetPeg, auxPeg);
+
+        for (long k = fromMove; k < toMove; k++) {
+            consumer.accept(k, Long.numberOfTrailingZeros(k) + 1,
+                    realPeg(fromPeg(k), numberOfDisks, sourcePeg, targetPeg, auxPeg),
+                    realPeg(toPeg(k), numberOfDisks, sourcePeg, targetPeg, auxPeg));
+        }
+    }
+
+    /**
+     * The move numbered {@code k} (from 1) of the solution for {@code numberOfDisks} disks, in O(1).
+     * The result is packed into an {@code int}; read it with {@link #moveDisk}, {@link #moveFromPeg}
+     * and {@link #moveToPeg}.
+     *
+     * @throws IllegalArgumentException unless {@code 1 <= k <= 2ⁿ − 1}, or if the pegs are not 0, 1
+     *                                  and 2 in some order
+     */
+    public static int moveAt(int numberOfDisks, long k, int sourcePeg, int targetPeg, int auxPeg) {
+        long count = moveCount(numberOfDisks);
+        if (k < 1 || k > count) {
+            throw new IllegalArgumentException("Move " + k + " outside [1, " + count + "]");
+        }
+        checkPegs(sourcePeg, targetPeg, auxPeg);
+
+        int disk = Long.numberOfTrailingZeros(k) + 1;
+        return disk << 4
+                | realPeg(fromPeg(k), numberOfDisks, sourcePeg, targetPeg, auxPeg) << 2
+                | realPeg(toPeg(k), numberOfDisks, sourcePeg, targetPeg, auxPeg);
+    }
+
+    /** Disk moved by a move returned from {@link #moveAt} */
+    public static int moveDisk(int move) {
+        return move >>> 4;
+    }
+
+    /** Peg a move returned from {@link #moveAt} takes its disk from */
+    public static int moveFromPeg(int move) {
+        return (move >>> 2) & 3;
+    }
+
+    /** Peg a move returned from {@link #moveAt} puts its disk on */
+    public static int moveToPeg(int move) {
+        return move & 3;
+    }
+
+    /** Source of move {@code k}, with the tower starting on peg 0 */
+    private static int fromPeg(long k) {
+        return (int) ((k & (k - 1)) % 3);
+    }
+
+    /** Target of move {@code k}, with the tower starting on peg 0 */
+    private static int toPeg(long k) {
+        return (int) (((k | (k - 1)) + 1) % 3);
+    }
+
+    /**
+     * Real peg for {@code peg} in {@link #fromPeg}/{@link #toPeg} numbering: 0 is the source, and
+     * the tower ends on 2 for an odd number of disks and on 1 for an even number.
+     */
+    private static int realPeg(int peg, int numberOfDisks, int sourcePeg, int targetPeg, int auxPeg) {
+        boolean odd = (numberOfDisks & 1) == 1;
+        switch (peg) {
+            case 0:
+                return sourcePeg;
+            case 1:
+                return odd ? auxPeg : targetPeg;
+            default:
+                return odd ? targetPeg : auxPeg;
+        }
+    }
+
+    private static void checkPegs(int sourcePeg, int targetPeg, int auxPeg) {
+        if (sourcePeg < 0 || sourcePeg > 2 || targetPeg < 0 || targetPeg > 2 || auxPeg < 0 || auxPeg > 2
+                || sourcePeg == targetPeg || sourcePeg == auxPeg || targetPeg == auxPeg) {
+            throw new IllegalArgumentException("Pegs must be 0, 1 and 2 in some order: "
+                    + sourcePeg + ", " + targetPeg + ", " + auxPeg);
+        }
+    }
 }